@@ -5,10 +5,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 
 import com.google.common.io.ByteSource;
-import com.google.common.io.MoreFiles;
 
 import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.util.FileChannelByteSource;
 
 final class FileBlobRecord
     implements BlobRecord
@@ -45,7 +45,7 @@ final class FileBlobRecord
     @Override
     public ByteSource getBytes()
     {
-        return MoreFiles.asByteSource( this.file );
+        return FileChannelByteSource.from( this.file );
     }
 
     @Override
@@ -2,9 +2,13 @@ package com.enonic.xp.internal.blobstore.file;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -16,6 +20,7 @@ import com.google.common.io.MoreFiles;
 import com.google.common.io.RecursiveDeleteOption;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.BlobStoreException;
@@ -49,9 +54,32 @@ public final class FileBlobStore
         return doGetRecord( segment, key );
     }
 
+    @Override
+    public Map<BlobKey, BlobRecord> getRecords( final Segment segment, final BlobKeys keys )
+        throws BlobStoreException
+    {
+        final Path segmentDir = getSegmentDir( segment );
+
+        final Map<BlobKey, BlobRecord> records = new LinkedHashMap<>();
+        for ( final BlobKey key : keys )
+        {
+            final BlobRecord record = doGetRecord( segmentDir, key );
+            if ( record != null )
+            {
+                records.put( key, record );
+            }
+        }
+        return records;
+    }
+
     private BlobRecord doGetRecord( final Segment segment, final BlobKey key )
     {
-        final Path file = getBlobFile( segment, key );
+        return doGetRecord( getSegmentDir( segment ), key );
+    }
+
+    private BlobRecord doGetRecord( final Path segmentDir, final BlobKey key )
+    {
+        final Path file = getBlobFile( segmentDir, key );
 
         if ( !Files.exists( file ) )
         {
@@ -106,18 +134,29 @@ public final class FileBlobStore
         }
     }
 
+    /**
+     * Lists the blobs of a segment by walking only the segment directory. Shard directories are listed lazily, one at a time,
+     * so memory use does not grow with the number of blobs. The first shard level is split up front, which lets callers
+     * that can handle concurrency fan out over the shards with {@link Stream#parallel()}.
+     */
     @Override
     public Stream<BlobRecord> list( final Segment segment )
     {
+        final Path segmentDir = getSegmentDir( segment );
+
+        if ( !Files.isDirectory( segmentDir ) )
+        {
+            return Stream.empty();
+        }
+
         try
         {
-            return Files.walk( this.baseDir ).
-                filter( path -> Files.isRegularFile( path ) ).
-                filter( path -> isBlobFileName( segment, path ) ).
-                map( path -> {
-                    final BlobKey blobKey = BlobKey.from( path.getFileName().toString() );
-                    return doGetRecord( segment, blobKey );
-                } );
+            return nioFilesList( segmentDir ).stream().
+                flatMap( FileBlobStore::lazyFilesList ).
+                flatMap( FileBlobStore::lazyFilesList ).
+                flatMap( FileBlobStore::lazyFilesList ).
+                filter( FileBlobStore::isBlobFileName ).
+                map( path -> new FileBlobRecord( BlobKey.from( path.getFileName().toString() ), path ) );
         }
         catch ( IOException e )
         {
@@ -187,6 +226,22 @@ public final class FileBlobStore
         }
     }
 
+    private static Stream<Path> lazyFilesList( final Path dir )
+    {
+        try
+        {
+            return Files.list( dir );
+        }
+        catch ( NoSuchFileException | NotDirectoryException e )
+        {
+            return Stream.empty();
+        }
+        catch ( IOException e )
+        {
+            throw new BlobStoreException( "Failed to list files", e );
+        }
+    }
+
     private BlobRecord addRecord( final Segment segment, final BlobKey key, final ByteSource in )
         throws IOException
     {
@@ -205,29 +260,33 @@ public final class FileBlobStore
         return new FileBlobRecord( key, file );
     }
 
-    private boolean isBlobFileName( final Segment segment, final Path path )
+    private static boolean isBlobFileName( final Path path )
     {
-        final String fileName = path.getFileName().toString();
-
-        if ( fileName.length() < 6 )
-        {
-            return false;
-        }
-
-        return Files.exists( getBlobFile( segment, BlobKey.from( fileName ) ) );
+        return path.getFileName().toString().length() >= 6;
     }
 
     private Path getBlobFile( final Segment segment, final BlobKey key )
     {
-        final String id = key.toString();
-        Path file = this.baseDir;
+        return getBlobFile( getSegmentDir( segment ), key );
+    }
+
+    private Path getSegmentDir( final Segment segment )
+    {
+        Path dir = this.baseDir;
 
         for ( SegmentLevel level : segment.getLevels() )
         {
-            file = file.resolve( level.getValue() );
+            dir = dir.resolve( level.getValue() );
         }
 
-        return file.
+        return dir;
+    }
+
+    private static Path getBlobFile( final Path segmentDir, final BlobKey key )
+    {
+        final String id = key.toString();
+
+        return segmentDir.
             resolve( id.substring( 0, 2 ) ).
             resolve( id.substring( 2, 4 ) ).
             resolve( id.substring( 4, 6 ) ).
@@ -0,0 +1,111 @@
+package com.enonic.xp.internal.blobstore.file;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.ToLongBiFunction;
+import java.util.stream.Stream;
+
+import com.google.common.io.ByteSource;
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.Segment;
+
+/**
+ * Compares listing a segment with a walk over the whole blob store, which is how segments were listed before.
+ * Not run as part of the build, start it from the IDE.
+ */
+public final class FileBlobStoreListBenchmark
+{
+    private static final int SEGMENTS = 4;
+
+    private static final int ITERATIONS = 5;
+
+    public static void main( final String... args )
+        throws IOException
+    {
+        for ( int size : new int[]{1000, 10000, 50000} )
+        {
+            final Path baseDir = Files.createTempDirectory( "blobstore-benchmark" );
+            try
+            {
+                final FileBlobStore blobStore = new FileBlobStore( baseDir );
+                final Segment segment = populate( blobStore, size );
+
+                // warm up all variants before measuring
+                run( blobStore, segment, size, FileBlobStoreListBenchmark::list );
+                run( blobStore, segment, size, FileBlobStoreListBenchmark::listParallel );
+                run( blobStore, segment, size, ( store, seg ) -> walk( store, seg, baseDir ) );
+
+                final long list = run( blobStore, segment, size, FileBlobStoreListBenchmark::list );
+                final long parallel = run( blobStore, segment, size, FileBlobStoreListBenchmark::listParallel );
+                final long walk = run( blobStore, segment, size, ( store, seg ) -> walk( store, seg, baseDir ) );
+                System.out.printf( "%6d blobs x %d segments: list %8.1f ms, parallel list %8.1f ms, walk %8.1f ms%n", size, SEGMENTS,
+                                   list / 1e6, parallel / 1e6, walk / 1e6 );
+            }
+            finally
+            {
+                MoreFiles.deleteRecursively( baseDir, RecursiveDeleteOption.ALLOW_INSECURE );
+            }
+        }
+    }
+
+    private static long run( final FileBlobStore blobStore, final Segment segment, final int expected,
+                             final ToLongBiFunction<FileBlobStore, Segment> lister )
+    {
+        long best = Long.MAX_VALUE;
+        for ( int i = 0; i < ITERATIONS; i++ )
+        {
+            final long start = System.nanoTime();
+            final long count = lister.applyAsLong( blobStore, segment );
+            best = Math.min( best, System.nanoTime() - start );
+            if ( count != expected )
+            {
+                throw new AssertionError( "Listed " + count + " blobs, expected " + expected );
+            }
+        }
+        return best;
+    }
+
+    private static long list( final FileBlobStore blobStore, final Segment segment )
+    {
+        return blobStore.list( segment ).count();
+    }
+
+    private static long listParallel( final FileBlobStore blobStore, final Segment segment )
+    {
+        return blobStore.list( segment ).parallel().count();
+    }
+
+    private static long walk( final FileBlobStore blobStore, final Segment segment, final Path baseDir )
+    {
+        try (Stream<Path> files = Files.walk( baseDir ))
+        {
+            return files.filter( Files::isRegularFile ).
+                filter( path -> path.getFileName().toString().length() >= 6 ).
+                filter( path -> blobStore.getRecord( segment, BlobKey.from( path.getFileName().toString() ) ) != null ).
+                count();
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private static Segment populate( final FileBlobStore blobStore, final int size )
+    {
+        Segment listed = null;
+        for ( int s = 0; s < SEGMENTS; s++ )
+        {
+            final Segment segment = Segment.from( "repo" + s, "blob" );
+            for ( int i = 0; i < size; i++ )
+            {
+                blobStore.addRecord( segment, ByteSource.wrap( ( "blob-" + s + "-" + i ).getBytes() ) );
+            }
+            listed = listed == null ? segment : listed;
+        }
+        return listed;
+    }
+}
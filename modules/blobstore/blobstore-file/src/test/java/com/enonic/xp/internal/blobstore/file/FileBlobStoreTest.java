@@ -3,6 +3,7 @@ package com.enonic.xp.internal.blobstore.file;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.io.TempDir;
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.Segment;
 
@@ -52,6 +54,19 @@ public class FileBlobStoreTest
         assertNull( record );
     }
 
+    @Test
+    public void getRecords()
+    {
+        final BlobKey key1 = createRecord( "hello" ).getKey();
+        final BlobKey key2 = createRecord( "bye" ).getKey();
+        final BlobKey missing = BlobKey.from( "ba6a6d1d6f61b2fbd1e4a7bb15ca9a1d0e7e8f3c" );
+
+        final Map<BlobKey, BlobRecord> records = this.blobStore.getRecords( this.segment, BlobKeys.from( key2, missing, key1 ) );
+
+        assertEquals( List.of( key2, key1 ), new ArrayList<>( records.keySet() ) );
+        assertEquals( key1, records.get( key1 ).getKey() );
+    }
+
     @Test
     public void addRecord()
         throws Exception
@@ -99,6 +114,37 @@ public class FileBlobStoreTest
         assertTrue( records.containsAll( stored ) );
     }
 
+    @Test
+    public void list_onlySegment()
+    {
+        final Segment secondSegment = Segment.from( "test", "blob2" );
+        final BlobRecord record = createRecord( "f1" );
+        createRecord( secondSegment, "f2" );
+
+        final List<BlobRecord> records = this.blobStore.list( this.segment ).collect( Collectors.toList() );
+        assertEquals( List.of( record ), records );
+    }
+
+    @Test
+    public void list_missingSegment()
+    {
+        assertEquals( 0, this.blobStore.list( Segment.from( "test", "missing" ) ).count() );
+    }
+
+    @Test
+    public void list_parallel()
+    {
+        final List<BlobRecord> stored = new ArrayList<>();
+        for ( int i = 0; i < 100; i++ )
+        {
+            stored.add( createRecord( "f" + i ) );
+        }
+
+        final List<BlobRecord> records = this.blobStore.list( this.segment ).parallel().collect( Collectors.toList() );
+        assertEquals( 100, records.size() );
+        assertTrue( records.containsAll( stored ) );
+    }
+
     @Test
     public void listSegments()
     {
@@ -1,5 +1,7 @@
 package com.enonic.xp.blob;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import com.google.common.io.ByteSource;
@@ -9,6 +11,27 @@ public interface BlobStore
     BlobRecord getRecord( Segment segment, BlobKey key )
         throws BlobStoreException;
 
+    /**
+     * Looks up several records of the same segment in one call.
+     * Implementations backed by slow storage should override this to batch or parallelize the lookups.
+     *
+     * @return found records keyed by blob key, in the iteration order of {@code keys}. Missing blobs are not included.
+     */
+    default Map<BlobKey, BlobRecord> getRecords( final Segment segment, final BlobKeys keys )
+        throws BlobStoreException
+    {
+        final Map<BlobKey, BlobRecord> records = new LinkedHashMap<>();
+        for ( final BlobKey key : keys )
+        {
+            final BlobRecord record = getRecord( segment, key );
+            if ( record != null )
+            {
+                records.put( key, record );
+            }
+        }
+        return records;
+    }
+
     BlobRecord addRecord( Segment segment, ByteSource in )
         throws BlobStoreException;
 
@@ -5,4 +5,12 @@ import com.google.common.io.ByteSource;
 public interface BinaryExtractor
 {
     ExtractedData extract( final ByteSource source );
+
+    /**
+     * Extracts metadata only. The text body is not collected and {@link ExtractedData#getText()} is null.
+     */
+    default ExtractedData extractMetadata( final ByteSource source )
+    {
+        return extract( source );
+    }
 }
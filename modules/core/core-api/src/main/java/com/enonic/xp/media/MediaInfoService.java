@@ -10,6 +10,11 @@ public interface MediaInfoService
 {
     MediaInfo parseMediaInfo( ByteSource byteSource );
 
+    /**
+     * Same as {@link #parseMediaInfo(ByteSource)}, but without extracting the text content, which is the expensive part for documents.
+     */
+    MediaInfo parseMediaMetadata( ByteSource byteSource );
+
     ImageOrientation getImageOrientation( ByteSource byteSource );
 
     ImageOrientation getImageOrientation( ByteSource byteSource, Media media );
@@ -1,5 +1,7 @@
 package com.enonic.xp.node;
 
+import java.util.stream.Stream;
+
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.annotation.PublicApi;
@@ -49,6 +51,12 @@ public interface NodeService
 
     FindNodesByQueryResult findByQuery( NodeQuery nodeQuery );
 
+    /**
+     * Streams all hits of the query, fetching them from the index page by page (of query batch size) while the stream is consumed.
+     * From and size of the query are ignored. The stream must be closed if it is not consumed to the end.
+     */
+    Stream<NodeHit> streamByQuery( NodeQuery nodeQuery );
+
     @Deprecated
     FindNodePathsByQueryResult findNodePathsByQuery( NodeQuery nodeQuery );
 
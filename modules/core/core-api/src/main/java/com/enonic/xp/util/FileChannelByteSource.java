@@ -0,0 +1,174 @@
+package com.enonic.xp.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteSource;
+
+/**
+ * {@link ByteSource} backed by a region of a file. Unlike a plain file byte source it can hand out a {@link FileChannel}
+ * restricted to its region, so consumers that recognise it can send the bytes without copying them through heap buffers.
+ * Slices are {@code FileChannelByteSource}s as well.
+ */
+public final class FileChannelByteSource
+    extends ByteSource
+{
+    private final Path file;
+
+    private final long offset;
+
+    private final long length;
+
+    private FileChannelByteSource( final Path file, final long offset, final long length )
+    {
+        this.file = file;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static FileChannelByteSource from( final Path file )
+    {
+        return new FileChannelByteSource( file, 0, -1 );
+    }
+
+    public Path getFile()
+    {
+        return file;
+    }
+
+    public long getOffset()
+    {
+        return offset;
+    }
+
+    @Override
+    public InputStream openStream()
+        throws IOException
+    {
+        return Channels.newInputStream( openChannel() );
+    }
+
+    /**
+     * Opens a channel positioned at the start of this source that reaches end-of-stream at the end of this source.
+     */
+    public ReadableByteChannel openChannel()
+        throws IOException
+    {
+        final FileChannel channel = FileChannel.open( this.file, StandardOpenOption.READ );
+        try
+        {
+            channel.position( this.offset );
+            return this.length < 0 ? channel : new BoundedChannel( channel, this.length );
+        }
+        catch ( IOException e )
+        {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public long size()
+        throws IOException
+    {
+        final long available = Math.max( 0, Files.size( this.file ) - this.offset );
+        return this.length < 0 ? available : Math.min( this.length, available );
+    }
+
+    @Override
+    public Optional<Long> sizeIfKnown()
+    {
+        try
+        {
+            return Optional.of( size() );
+        }
+        catch ( IOException e )
+        {
+            return Optional.absent();
+        }
+    }
+
+    @Override
+    public ByteSource slice( final long offset, final long length )
+    {
+        Preconditions.checkArgument( offset >= 0, "offset (%s) may not be negative", offset );
+        Preconditions.checkArgument( length >= 0, "length (%s) may not be negative", length );
+
+        final long sliceLength = this.length < 0 ? length : Math.max( 0, Math.min( length, this.length - offset ) );
+        return new FileChannelByteSource( this.file, this.offset + offset, sliceLength );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "FileChannelByteSource(" + this.file + ", " + this.offset + ", " + this.length + ")";
+    }
+
+    private static final class BoundedChannel
+        implements ReadableByteChannel
+    {
+        private final FileChannel channel;
+
+        private long remaining;
+
+        BoundedChannel( final FileChannel channel, final long remaining )
+        {
+            this.channel = channel;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public int read( final ByteBuffer dst )
+            throws IOException
+        {
+            if ( this.remaining <= 0 )
+            {
+                return -1;
+            }
+
+            final int limit = dst.limit();
+            if ( dst.remaining() > this.remaining )
+            {
+                dst.limit( dst.position() + (int) this.remaining );
+            }
+
+            final int read;
+            try
+            {
+                read = this.channel.read( dst );
+            }
+            finally
+            {
+                dst.limit( limit );
+            }
+
+            if ( read > 0 )
+            {
+                this.remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public boolean isOpen()
+        {
+            return this.channel.isOpen();
+        }
+
+        @Override
+        public void close()
+            throws IOException
+        {
+            this.channel.close();
+        }
+    }
+}
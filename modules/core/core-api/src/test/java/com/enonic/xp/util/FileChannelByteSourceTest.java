@@ -0,0 +1,73 @@
+package com.enonic.xp.util;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.io.ByteSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileChannelByteSourceTest
+{
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path file;
+
+    @BeforeEach
+    public void setup()
+        throws Exception
+    {
+        this.file = Files.write( this.temporaryFolder.resolve( "file.txt" ), "0123456789".getBytes( StandardCharsets.UTF_8 ) );
+    }
+
+    @Test
+    public void read()
+        throws Exception
+    {
+        final FileChannelByteSource source = FileChannelByteSource.from( this.file );
+
+        assertEquals( 10, source.size() );
+        assertEquals( 10L, (long) source.sizeIfKnown().get() );
+        assertEquals( "0123456789", source.asCharSource( StandardCharsets.UTF_8 ).read() );
+    }
+
+    @Test
+    public void slice()
+        throws Exception
+    {
+        final ByteSource slice = FileChannelByteSource.from( this.file ).slice( 2, 5 );
+
+        assertTrue( slice instanceof FileChannelByteSource );
+        assertEquals( 5, slice.size() );
+        assertEquals( "23456", slice.asCharSource( StandardCharsets.UTF_8 ).read() );
+
+        final ByteSource sliceOfSlice = slice.slice( 3, 10 );
+        assertEquals( 2, sliceOfSlice.size() );
+        assertEquals( "56", sliceOfSlice.asCharSource( StandardCharsets.UTF_8 ).read() );
+    }
+
+    @Test
+    public void openChannel()
+        throws Exception
+    {
+        final FileChannelByteSource slice = (FileChannelByteSource) FileChannelByteSource.from( this.file ).slice( 7, 100 );
+
+        final ByteBuffer buffer = ByteBuffer.allocate( 100 );
+        try (ReadableByteChannel channel = slice.openChannel())
+        {
+            while ( channel.read( buffer ) >= 0 )
+            {
+            }
+        }
+        assertEquals( "789", new String( buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8 ) );
+    }
+}
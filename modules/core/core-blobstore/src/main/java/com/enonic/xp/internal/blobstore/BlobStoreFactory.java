@@ -1,5 +1,7 @@
 package com.enonic.xp.internal.blobstore;
 
+import java.nio.file.Paths;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -7,6 +9,7 @@ import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.BlobStoreProvider;
 import com.enonic.xp.blob.ProviderConfig;
 import com.enonic.xp.internal.blobstore.cache.CachedBlobStore;
+import com.enonic.xp.internal.blobstore.cache.TieredBlobStore;
 import com.enonic.xp.internal.blobstore.config.BlobStoreConfig;
 import com.enonic.xp.internal.blobstore.readthrough.ReadThroughBlobStore;
 
@@ -44,6 +47,18 @@ final class BlobStoreFactory
             return builtStore;
         }
 
+        if ( "offheap".equals( this.config.cacheType() ) )
+        {
+            return TieredBlobStore.create().
+                memoryCapacity( this.config.memoryCapacity() ).
+                sizeThreshold( this.config.cacheSizeThreshold() ).
+                slabSize( this.config.cacheSlabSize() ).
+                diskCapacity( this.config.diskCacheCapacity() ).
+                diskDir( Paths.get( this.config.diskCacheDir() ) ).
+                blobStore( builtStore ).
+                build();
+        }
+
         return CachedBlobStore.create().
             memoryCapacity( this.config.memoryCapacity() ).
             sizeTreshold( this.config.cacheSizeThreshold() ).
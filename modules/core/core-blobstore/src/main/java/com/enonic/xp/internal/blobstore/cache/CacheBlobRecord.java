@@ -39,6 +39,13 @@ public class CacheBlobRecord
         this.lastModified = blobRecord.lastModified();
     }
 
+    CacheBlobRecord( final BlobKey blobKey, final byte[] content, final long lastModified )
+    {
+        this.blobKey = blobKey;
+        this.content = content;
+        this.lastModified = lastModified;
+    }
+
     @Override
     public long lastModified()
     {
@@ -90,4 +97,9 @@ public class CacheBlobRecord
     {
         return ByteSource.wrap( content );
     }
+
+    byte[] getContent()
+    {
+        return content;
+    }
 }
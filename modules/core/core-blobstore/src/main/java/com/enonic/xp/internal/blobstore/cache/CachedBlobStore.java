@@ -1,5 +1,7 @@
 package com.enonic.xp.internal.blobstore.cache;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import com.google.common.cache.Cache;
@@ -7,6 +9,7 @@ import com.google.common.cache.CacheBuilder;
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.BlobStoreException;
@@ -52,6 +55,35 @@ public final class CachedBlobStore
         return record;
     }
 
+    @Override
+    public Map<BlobKey, BlobRecord> getRecords( final Segment segment, final BlobKeys keys )
+        throws BlobStoreException
+    {
+        final Map<BlobKey, BlobRecord> cached = this.cache.getAllPresent( keys );
+        if ( cached.size() == keys.getSize() )
+        {
+            return cached;
+        }
+
+        final BlobKeys missing = BlobKeys.from( keys.stream().
+            filter( key -> !cached.containsKey( key ) ).
+            toArray( BlobKey[]::new ) );
+
+        final Map<BlobKey, BlobRecord> loaded = this.store.getRecords( segment, missing );
+        loaded.values().forEach( this::addToCache );
+
+        final Map<BlobKey, BlobRecord> records = new LinkedHashMap<>();
+        for ( final BlobKey key : keys )
+        {
+            final BlobRecord record = cached.containsKey( key ) ? cached.get( key ) : loaded.get( key );
+            if ( record != null )
+            {
+                records.put( key, record );
+            }
+        }
+        return records;
+    }
+
     @Override
     public BlobRecord addRecord( final Segment segment, final ByteSource in )
         throws BlobStoreException
@@ -0,0 +1,182 @@
+package com.enonic.xp.internal.blobstore.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.io.MoreFiles;
+import com.google.common.io.RecursiveDeleteOption;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.blob.BlobStoreException;
+
+/**
+ * Size-bounded blob cache on local disk, evicting the least recently used blobs first.
+ * Blobs are kept in a dedicated subdirectory of the configured directory. The index is kept in memory only,
+ * so that subdirectory is cleared on startup; nothing else in the configured directory is touched.
+ */
+final class DiskBlobCache
+{
+    private final static Logger LOG = LoggerFactory.getLogger( DiskBlobCache.class );
+
+    private static final String CACHE_DIR_NAME = "blob-cache";
+
+    private final Path baseDir;
+
+    private final long capacity;
+
+    private final Map<BlobKey, Long> entries = new LinkedHashMap<>( 16, 0.75f, true );
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private long residentBytes;
+
+    DiskBlobCache( final Path dir, final long capacity )
+    {
+        this.baseDir = dir.resolve( CACHE_DIR_NAME );
+        this.capacity = capacity;
+
+        try
+        {
+            if ( Files.exists( this.baseDir ) )
+            {
+                MoreFiles.deleteDirectoryContents( this.baseDir, RecursiveDeleteOption.ALLOW_INSECURE );
+            }
+            Files.createDirectories( this.baseDir );
+        }
+        catch ( IOException e )
+        {
+            throw new BlobStoreException( "Failed to create directory [" + this.baseDir + "]", e );
+        }
+    }
+
+    BlobRecord get( final BlobKey key )
+    {
+        synchronized ( this.entries )
+        {
+            if ( this.entries.get( key ) == null )
+            {
+                return null;
+            }
+        }
+
+        final Path file = getFile( key );
+        try
+        {
+            return new CacheBlobRecord( key, Files.readAllBytes( file ), Files.getLastModifiedTime( file ).toMillis() );
+        }
+        catch ( IOException e )
+        {
+            LOG.debug( "Could not read cached blob [" + key + "]", e );
+            invalidate( key );
+            return null;
+        }
+    }
+
+    void put( final BlobKey key, final byte[] bytes, final long lastModified )
+    {
+        if ( bytes.length > this.capacity )
+        {
+            return;
+        }
+
+        final Path file = getFile( key );
+        try
+        {
+            Files.createDirectories( file.getParent() );
+            final Path tmpFile = Files.createTempFile( file.getParent(), key.toString(), ".tmp" );
+            Files.write( tmpFile, bytes );
+            Files.setLastModifiedTime( tmpFile, FileTime.fromMillis( lastModified ) );
+            Files.move( tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        catch ( IOException e )
+        {
+            LOG.debug( "Could not cache blob [" + key + "]", e );
+            return;
+        }
+
+        synchronized ( this.entries )
+        {
+            final Long previous = this.entries.put( key, (long) bytes.length );
+            this.residentBytes += bytes.length - ( previous != null ? previous : 0 );
+            evictOverCapacity();
+        }
+    }
+
+    void invalidate( final BlobKey key )
+    {
+        synchronized ( this.entries )
+        {
+            final Long length = this.entries.remove( key );
+            if ( length != null )
+            {
+                this.residentBytes -= length;
+                deleteFile( key );
+            }
+        }
+    }
+
+    void invalidateAll()
+    {
+        synchronized ( this.entries )
+        {
+            this.entries.keySet().forEach( this::deleteFile );
+            this.entries.clear();
+            this.residentBytes = 0;
+        }
+    }
+
+    long getResidentBytes()
+    {
+        synchronized ( this.entries )
+        {
+            return this.residentBytes;
+        }
+    }
+
+    long getEvictionCount()
+    {
+        return this.evictions.get();
+    }
+
+    private void evictOverCapacity()
+    {
+        final Iterator<Map.Entry<BlobKey, Long>> iterator = this.entries.entrySet().iterator();
+        while ( this.residentBytes > this.capacity && iterator.hasNext() )
+        {
+            final Map.Entry<BlobKey, Long> eldest = iterator.next();
+            iterator.remove();
+            this.residentBytes -= eldest.getValue();
+            this.evictions.incrementAndGet();
+            deleteFile( eldest.getKey() );
+        }
+    }
+
+    private void deleteFile( final BlobKey key )
+    {
+        try
+        {
+            Files.deleteIfExists( getFile( key ) );
+        }
+        catch ( IOException e )
+        {
+            LOG.debug( "Could not delete cached blob [" + key + "]", e );
+        }
+    }
+
+    private Path getFile( final BlobKey key )
+    {
+        final String id = key.toString();
+        return this.baseDir.resolve( id.substring( 0, Math.min( 2, id.length() ) ) ).resolve( id );
+    }
+}
@@ -0,0 +1,202 @@
+package com.enonic.xp.internal.blobstore.cache;
+
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobRecord;
+
+/**
+ * Blob cache that keeps its content in direct memory slabs, outside the Java heap.
+ * <p>
+ * The slabs are filled one after another like a ring. When the ring wraps around, the oldest slab is evicted as a whole
+ * and reused, so there is no fragmentation and no per-entry allocation in direct memory. Blobs larger than a slab are not cached.
+ */
+final class OffHeapBlobCache
+{
+    private final int slabSize;
+
+    private final ByteBuffer[] slabs;
+
+    private final Set<BlobKey>[] slabKeys;
+
+    private final Map<BlobKey, Entry> index = new ConcurrentHashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final AtomicLong residentBytes = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private int currentSlab;
+
+    private int writeOffset;
+
+    @SuppressWarnings("unchecked")
+    OffHeapBlobCache( final long capacity, final int slabSize )
+    {
+        this.slabSize = slabSize;
+        final int slabCount = (int) Math.max( 1, capacity / slabSize );
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabKeys = new Set[slabCount];
+        for ( int i = 0; i < slabCount; i++ )
+        {
+            this.slabKeys[i] = new HashSet<>();
+        }
+    }
+
+    BlobRecord get( final BlobKey key )
+    {
+        this.lock.readLock().lock();
+        try
+        {
+            final Entry entry = this.index.get( key );
+            if ( entry == null )
+            {
+                return null;
+            }
+
+            final ByteBuffer buffer = this.slabs[entry.slab].duplicate();
+            buffer.position( entry.offset );
+            final byte[] bytes = new byte[entry.length];
+            buffer.get( bytes );
+            return new CacheBlobRecord( key, bytes, entry.lastModified );
+        }
+        finally
+        {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    boolean put( final BlobKey key, final byte[] bytes, final long lastModified )
+    {
+        if ( bytes.length > this.slabSize )
+        {
+            return false;
+        }
+
+        this.lock.writeLock().lock();
+        try
+        {
+            doInvalidate( key );
+
+            if ( this.writeOffset + bytes.length > this.slabSize )
+            {
+                this.currentSlab = ( this.currentSlab + 1 ) % this.slabs.length;
+                this.writeOffset = 0;
+                evictSlab( this.currentSlab );
+            }
+
+            if ( this.slabs[this.currentSlab] == null )
+            {
+                this.slabs[this.currentSlab] = ByteBuffer.allocateDirect( this.slabSize );
+            }
+
+            final ByteBuffer buffer = this.slabs[this.currentSlab].duplicate();
+            buffer.position( this.writeOffset );
+            buffer.put( bytes );
+
+            this.index.put( key, new Entry( this.currentSlab, this.writeOffset, bytes.length, lastModified ) );
+            this.slabKeys[this.currentSlab].add( key );
+            this.writeOffset += bytes.length;
+            this.residentBytes.addAndGet( bytes.length );
+            return true;
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    void invalidate( final BlobKey key )
+    {
+        this.lock.writeLock().lock();
+        try
+        {
+            doInvalidate( key );
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    void invalidateAll()
+    {
+        this.lock.writeLock().lock();
+        try
+        {
+            this.index.clear();
+            for ( Set<BlobKey> keys : this.slabKeys )
+            {
+                keys.clear();
+            }
+            this.residentBytes.set( 0 );
+            this.currentSlab = 0;
+            this.writeOffset = 0;
+        }
+        finally
+        {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    long getResidentBytes()
+    {
+        return this.residentBytes.get();
+    }
+
+    long getEvictionCount()
+    {
+        return this.evictions.get();
+    }
+
+    private void doInvalidate( final BlobKey key )
+    {
+        final Entry entry = this.index.remove( key );
+        if ( entry != null )
+        {
+            this.slabKeys[entry.slab].remove( key );
+            this.residentBytes.addAndGet( -entry.length );
+        }
+    }
+
+    private void evictSlab( final int slab )
+    {
+        for ( final BlobKey key : this.slabKeys[slab] )
+        {
+            final Entry entry = this.index.remove( key );
+            if ( entry != null )
+            {
+                this.residentBytes.addAndGet( -entry.length );
+                this.evictions.incrementAndGet();
+            }
+        }
+        this.slabKeys[slab].clear();
+    }
+
+    private static final class Entry
+    {
+        final int slab;
+
+        final int offset;
+
+        final int length;
+
+        final long lastModified;
+
+        Entry( final int slab, final int offset, final int length, final long lastModified )
+        {
+            this.slab = slab;
+            this.offset = offset;
+            this.length = length;
+            this.lastModified = lastModified;
+        }
+    }
+}
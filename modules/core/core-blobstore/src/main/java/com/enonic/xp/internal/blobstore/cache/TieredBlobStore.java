@@ -0,0 +1,297 @@
+package com.enonic.xp.internal.blobstore.cache;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.blob.BlobStore;
+import com.enonic.xp.blob.BlobStoreException;
+import com.enonic.xp.blob.CachingBlobStore;
+import com.enonic.xp.blob.Segment;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Blob cache with an off-heap memory tier and an optional local disk tier in front of the actual store.
+ * Blobs found on disk are promoted to the memory tier.
+ */
+public final class TieredBlobStore
+    implements BlobStore, CachingBlobStore
+{
+    private final static Logger LOG = LoggerFactory.getLogger( TieredBlobStore.class );
+
+    private final BlobStore store;
+
+    private final long sizeThreshold;
+
+    private final OffHeapBlobCache memoryCache;
+
+    private final DiskBlobCache diskCache;
+
+    private final Meter hits;
+
+    private final Meter misses;
+
+    private TieredBlobStore( final Builder builder )
+    {
+        this.store = builder.store;
+        this.sizeThreshold = builder.sizeThreshold;
+        this.memoryCache = new OffHeapBlobCache( builder.memoryCapacity, builder.slabSize );
+        this.diskCache = builder.diskCapacity > 0 && builder.diskDir != null ? new DiskBlobCache( builder.diskDir, builder.diskCapacity ) : null;
+
+        Metrics.removeAll( TieredBlobStore.class );
+        this.hits = Metrics.meter( TieredBlobStore.class, "hit" );
+        this.misses = Metrics.meter( TieredBlobStore.class, "miss" );
+        Metrics.register( TieredBlobStore.class, "hitRatio", (Gauge<Double>) this::getHitRatio );
+        Metrics.register( TieredBlobStore.class, "memory.bytes", (Gauge<Long>) this.memoryCache::getResidentBytes );
+        Metrics.register( TieredBlobStore.class, "memory.evictions", (Gauge<Long>) this.memoryCache::getEvictionCount );
+        if ( this.diskCache != null )
+        {
+            Metrics.register( TieredBlobStore.class, "disk.bytes", (Gauge<Long>) this.diskCache::getResidentBytes );
+            Metrics.register( TieredBlobStore.class, "disk.evictions", (Gauge<Long>) this.diskCache::getEvictionCount );
+        }
+    }
+
+    @Override
+    public BlobRecord getRecord( final Segment segment, final BlobKey key )
+        throws BlobStoreException
+    {
+        final BlobRecord cached = getCached( key );
+        if ( cached != null )
+        {
+            this.hits.mark();
+            return cached;
+        }
+
+        this.misses.mark();
+        final BlobRecord record = this.store.getRecord( segment, key );
+        if ( record == null )
+        {
+            return null;
+        }
+
+        addToCache( record );
+        return record;
+    }
+
+    @Override
+    public Map<BlobKey, BlobRecord> getRecords( final Segment segment, final BlobKeys keys )
+        throws BlobStoreException
+    {
+        final Map<BlobKey, BlobRecord> cached = new LinkedHashMap<>();
+        final BlobKeys.Builder missing = BlobKeys.create();
+        for ( final BlobKey key : keys )
+        {
+            final BlobRecord record = getCached( key );
+            if ( record != null )
+            {
+                cached.put( key, record );
+            }
+            else
+            {
+                missing.add( key );
+            }
+        }
+
+        this.hits.mark( cached.size() );
+        if ( cached.size() == keys.getSize() )
+        {
+            return cached;
+        }
+
+        final BlobKeys missingKeys = missing.build();
+        this.misses.mark( missingKeys.getSize() );
+        final Map<BlobKey, BlobRecord> loaded = this.store.getRecords( segment, missingKeys );
+        loaded.values().forEach( this::addToCache );
+
+        final Map<BlobKey, BlobRecord> records = new LinkedHashMap<>();
+        for ( final BlobKey key : keys )
+        {
+            final BlobRecord record = cached.containsKey( key ) ? cached.get( key ) : loaded.get( key );
+            if ( record != null )
+            {
+                records.put( key, record );
+            }
+        }
+        return records;
+    }
+
+    @Override
+    public BlobRecord addRecord( final Segment segment, final ByteSource in )
+        throws BlobStoreException
+    {
+        final BlobRecord record = this.store.addRecord( segment, in );
+        addToCache( record );
+        return record;
+    }
+
+    @Override
+    public BlobRecord addRecord( final Segment segment, final BlobRecord record )
+        throws BlobStoreException
+    {
+        this.store.addRecord( segment, record );
+        addToCache( record );
+        return record;
+    }
+
+    @Override
+    public void removeRecord( final Segment segment, final BlobKey key )
+        throws BlobStoreException
+    {
+        this.store.removeRecord( segment, key );
+        invalidate( segment, key );
+    }
+
+    @Override
+    public void invalidate( final Segment segment, final BlobKey key )
+    {
+        this.memoryCache.invalidate( key );
+        if ( this.diskCache != null )
+        {
+            this.diskCache.invalidate( key );
+        }
+    }
+
+    @Override
+    public Stream<BlobRecord> list( final Segment segment )
+    {
+        return this.store.list( segment );
+    }
+
+    @Override
+    public Stream<Segment> listSegments()
+    {
+        return this.store.listSegments();
+    }
+
+    @Override
+    public void deleteSegment( final Segment segment )
+    {
+        this.store.deleteSegment( segment );
+        this.memoryCache.invalidateAll();
+        if ( this.diskCache != null )
+        {
+            this.diskCache.invalidateAll();
+        }
+    }
+
+    double getHitRatio()
+    {
+        final long hitCount = this.hits.getCount();
+        final long total = hitCount + this.misses.getCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private BlobRecord getCached( final BlobKey key )
+    {
+        final BlobRecord record = this.memoryCache.get( key );
+        if ( record != null || this.diskCache == null )
+        {
+            return record;
+        }
+
+        final BlobRecord diskRecord = this.diskCache.get( key );
+        if ( diskRecord != null )
+        {
+            this.memoryCache.put( key, ( (CacheBlobRecord) diskRecord ).getContent(), diskRecord.lastModified() );
+        }
+        return diskRecord;
+    }
+
+    private void addToCache( final BlobRecord record )
+    {
+        if ( record.getLength() > this.sizeThreshold )
+        {
+            return;
+        }
+
+        final byte[] bytes;
+        try
+        {
+            bytes = record.getBytes().read();
+        }
+        catch ( IOException e )
+        {
+            LOG.error( "Could not cache blob-record", e );
+            return;
+        }
+
+        this.memoryCache.put( record.getKey(), bytes, record.lastModified() );
+        if ( this.diskCache != null )
+        {
+            this.diskCache.put( record.getKey(), bytes, record.lastModified() );
+        }
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public final static class Builder
+    {
+        private BlobStore store;
+
+        private long sizeThreshold = 1000L;
+
+        private long memoryCapacity = 10 * 1024L * 1024L;
+
+        private int slabSize = 4 * 1024 * 1024;
+
+        private Path diskDir;
+
+        private long diskCapacity;
+
+        public Builder blobStore( final BlobStore store )
+        {
+            this.store = store;
+            return this;
+        }
+
+        public Builder sizeThreshold( final long size )
+        {
+            this.sizeThreshold = size;
+            return this;
+        }
+
+        public Builder memoryCapacity( final long capacity )
+        {
+            this.memoryCapacity = capacity;
+            return this;
+        }
+
+        public Builder slabSize( final int slabSize )
+        {
+            this.slabSize = slabSize;
+            return this;
+        }
+
+        public Builder diskDir( final Path diskDir )
+        {
+            this.diskDir = diskDir;
+            return this;
+        }
+
+        public Builder diskCapacity( final long diskCapacity )
+        {
+            this.diskCapacity = diskCapacity;
+            return this;
+        }
+
+        public TieredBlobStore build()
+        {
+            return new TieredBlobStore( this );
+        }
+    }
+}
@@ -9,4 +9,12 @@ public interface BlobStoreConfig
     long cacheSizeThreshold();
 
     long memoryCapacity();
+
+    String cacheType();
+
+    int cacheSlabSize();
+
+    long diskCacheCapacity();
+
+    String diskCacheDir();
 }
@@ -51,6 +51,30 @@ public class BlobStoreConfigImpl
         return getSizeProperty( "cache.memoryCapacity" );
     }
 
+    @Override
+    public String cacheType()
+    {
+        return this.config.get( "cache.type" );
+    }
+
+    @Override
+    public int cacheSlabSize()
+    {
+        return Math.toIntExact( getSizeProperty( "cache.offHeap.slabSize" ) );
+    }
+
+    @Override
+    public long diskCacheCapacity()
+    {
+        return getSizeProperty( "cache.disk.capacity" );
+    }
+
+    @Override
+    public String diskCacheDir()
+    {
+        return this.config.get( "cache.disk.dir" );
+    }
+
 
     private long getSizeProperty( final String key )
     {
@@ -1,10 +1,13 @@
 package com.enonic.xp.internal.blobstore.readthrough;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.BlobStoreException;
@@ -53,6 +56,38 @@ public class ReadThroughBlobStore
         return record;
     }
 
+    @Override
+    public Map<BlobKey, BlobRecord> getRecords( final Segment segment, final BlobKeys keys )
+        throws BlobStoreException
+    {
+        final Map<BlobKey, BlobRecord> readThroughRecords = this.readThroughStore.getRecords( segment, keys );
+        if ( readThroughRecords.size() == keys.getSize() )
+        {
+            return readThroughRecords;
+        }
+
+        final BlobKeys missing = BlobKeys.from( keys.stream().
+            filter( key -> !readThroughRecords.containsKey( key ) ).
+            toArray( BlobKey[]::new ) );
+
+        final Map<BlobKey, BlobRecord> storeRecords = this.store.getRecords( segment, missing );
+        for ( final BlobRecord record : storeRecords.values() )
+        {
+            this.readThroughStore.addRecord( segment, record );
+        }
+
+        final Map<BlobKey, BlobRecord> records = new LinkedHashMap<>();
+        for ( final BlobKey key : keys )
+        {
+            final BlobRecord record = readThroughRecords.containsKey( key ) ? readThroughRecords.get( key ) : storeRecords.get( key );
+            if ( record != null )
+            {
+                records.put( key, record );
+            }
+        }
+        return records;
+    }
+
     @Override
     public BlobRecord addRecord( final Segment segment, final ByteSource in )
         throws BlobStoreException
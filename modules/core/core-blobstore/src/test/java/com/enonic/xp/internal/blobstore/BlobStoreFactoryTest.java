@@ -139,6 +139,30 @@ public class BlobStoreFactoryTest
             {
                 return 0;
             }
+
+            @Override
+            public String cacheType()
+            {
+                return "heap";
+            }
+
+            @Override
+            public int cacheSlabSize()
+            {
+                return 0;
+            }
+
+            @Override
+            public long diskCacheCapacity()
+            {
+                return 0;
+            }
+
+            @Override
+            public String diskCacheDir()
+            {
+                return null;
+            }
         };
     }
 }
@@ -1,7 +1,9 @@
 package com.enonic.xp.internal.blobstore.cache;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -12,6 +14,7 @@ import org.mockito.Mockito;
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.Segment;
@@ -187,6 +190,29 @@ public class CachedBlobStoreTest
         assertEquals( updatedRecord.lastModified(), retrievedAfterStore.lastModified() );
     }
 
+    @Test
+    public void getRecords()
+    {
+        final BlobRecord cached = newRecord( "0123", 10L );
+        final BlobRecord notCached = newRecord( "4567", 10L );
+        final BlobKey missing = BlobKey.from( "89ab" );
+
+        Mockito.when( this.blobStore.getRecord( segment, cached.getKey() ) ).thenReturn( cached );
+        this.cachedBlobStore.getRecord( segment, cached.getKey() );
+
+        Mockito.when( this.blobStore.getRecords( segment, BlobKeys.from( notCached.getKey(), missing ) ) ).
+            thenReturn( Map.of( notCached.getKey(), notCached ) );
+
+        final Map<BlobKey, BlobRecord> records =
+            this.cachedBlobStore.getRecords( segment, BlobKeys.from( notCached.getKey(), cached.getKey(), missing ) );
+        assertEquals( List.of( notCached.getKey(), cached.getKey() ), new ArrayList<>( records.keySet() ) );
+
+        Mockito.verify( this.blobStore, Mockito.times( 1 ) ).getRecords( segment, BlobKeys.from( notCached.getKey(), missing ) );
+
+        this.cachedBlobStore.getRecords( segment, BlobKeys.from( notCached.getKey(), cached.getKey() ) );
+        Mockito.verify( this.blobStore, Mockito.times( 1 ) ).getRecords( Mockito.any(), Mockito.any() );
+    }
+
     @Test
     public void listSegments()
     {
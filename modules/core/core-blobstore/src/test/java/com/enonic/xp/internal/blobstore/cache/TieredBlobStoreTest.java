@@ -0,0 +1,146 @@
+package com.enonic.xp.internal.blobstore.cache;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.blob.BlobKeys;
+import com.enonic.xp.blob.BlobRecord;
+import com.enonic.xp.blob.Segment;
+import com.enonic.xp.internal.blobstore.MemoryBlobStore;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TieredBlobStoreTest
+{
+    private final Segment segment = Segment.from( "test", "blob" );
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private MemoryBlobStore blobStore;
+
+    private TieredBlobStore tieredBlobStore;
+
+    @BeforeEach
+    public void setup()
+    {
+        this.blobStore = new MemoryBlobStore();
+        this.tieredBlobStore = TieredBlobStore.create().
+            blobStore( this.blobStore ).
+            sizeThreshold( 100 ).
+            memoryCapacity( 64 ).
+            slabSize( 32 ).
+            diskDir( this.temporaryFolder.resolve( "cache" ) ).
+            diskCapacity( 1024 ).
+            build();
+    }
+
+    @Test
+    public void getRecord_fromCache()
+        throws Exception
+    {
+        final BlobRecord record = this.blobStore.addRecord( this.segment, ByteSource.wrap( "hello".getBytes() ) );
+
+        assertNotNull( this.tieredBlobStore.getRecord( this.segment, record.getKey() ) );
+        this.blobStore.removeRecord( this.segment, record.getKey() );
+
+        final BlobRecord cached = this.tieredBlobStore.getRecord( this.segment, record.getKey() );
+        assertNotNull( cached );
+        assertArrayEquals( "hello".getBytes(), cached.getBytes().read() );
+        assertEquals( record.lastModified(), cached.lastModified() );
+    }
+
+    @Test
+    public void getRecord_notFound()
+    {
+        final BlobRecord record = this.blobStore.addRecord( this.segment, ByteSource.wrap( "hello".getBytes() ) );
+        this.blobStore.removeRecord( this.segment, record.getKey() );
+
+        assertNull( this.tieredBlobStore.getRecord( this.segment, record.getKey() ) );
+    }
+
+    @Test
+    public void getRecord_fromDiskAfterEviction()
+        throws Exception
+    {
+        final BlobRecord record1 = this.tieredBlobStore.addRecord( this.segment, ByteSource.wrap( "0123456789012345678901234".getBytes() ) );
+        this.tieredBlobStore.addRecord( this.segment, ByteSource.wrap( "abcdefghijabcdefghijabcde".getBytes() ) );
+        this.tieredBlobStore.addRecord( this.segment, ByteSource.wrap( "ABCDEFGHIJABCDEFGHIJABCDE".getBytes() ) );
+
+        this.blobStore.removeRecord( this.segment, record1.getKey() );
+
+        final BlobRecord cached = this.tieredBlobStore.getRecord( this.segment, record1.getKey() );
+        assertNotNull( cached );
+        assertArrayEquals( "0123456789012345678901234".getBytes(), cached.getBytes().read() );
+    }
+
+    @Test
+    public void diskCache_keepsForeignFiles()
+        throws Exception
+    {
+        final Path diskDir = this.temporaryFolder.resolve( "shared" );
+        final Path foreignFile = Files.writeString( Files.createDirectories( diskDir ).resolve( "foreign.txt" ), "keep" );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            // the second store clears the cache left behind by the first one
+            TieredBlobStore.create().
+                blobStore( this.blobStore ).
+                sizeThreshold( 100 ).
+                memoryCapacity( 64 ).
+                slabSize( 32 ).
+                diskDir( diskDir ).
+                diskCapacity( 1024 ).
+                build().
+                addRecord( this.segment, ByteSource.wrap( "hello".getBytes() ) );
+        }
+
+        assertEquals( "keep", Files.readString( foreignFile ) );
+    }
+
+    @Test
+    public void getRecord_overThreshold()
+    {
+        final BlobRecord record = this.tieredBlobStore.addRecord( this.segment, ByteSource.wrap( new byte[200] ) );
+        this.blobStore.removeRecord( this.segment, record.getKey() );
+
+        assertNull( this.tieredBlobStore.getRecord( this.segment, record.getKey() ) );
+    }
+
+    @Test
+    public void getRecords()
+    {
+        final BlobRecord record1 = this.blobStore.addRecord( this.segment, ByteSource.wrap( "hello".getBytes() ) );
+        final BlobRecord record2 = this.blobStore.addRecord( this.segment, ByteSource.wrap( "world".getBytes() ) );
+        this.tieredBlobStore.getRecord( this.segment, record1.getKey() );
+
+        final Map<?, BlobRecord> records =
+            this.tieredBlobStore.getRecords( this.segment, BlobKeys.from( record2.getKey(), record1.getKey() ) );
+
+        assertEquals( 2, records.size() );
+        assertEquals( record2.getKey(), records.keySet().iterator().next() );
+        assertTrue( this.tieredBlobStore.getHitRatio() > 0 );
+    }
+
+    @Test
+    public void invalidate()
+    {
+        final BlobRecord record = this.tieredBlobStore.addRecord( this.segment, ByteSource.wrap( "hello".getBytes() ) );
+        this.blobStore.removeRecord( this.segment, record.getKey() );
+
+        this.tieredBlobStore.invalidate( this.segment, record.getKey() );
+
+        assertNull( this.tieredBlobStore.getRecord( this.segment, record.getKey() ) );
+    }
+}
@@ -23,6 +23,9 @@ public class BlobStoreConfigImplTest
         assertTrue( blobStoreConfig.cache() );
         assertNotNull( blobStoreConfig.cacheSizeThreshold() );
         assertNotNull( blobStoreConfig.memoryCapacity() );
+        assertEquals( "heap", blobStoreConfig.cacheType() );
+        assertEquals( 4 * 1024 * 1024, blobStoreConfig.cacheSlabSize() );
+        assertEquals( 0, blobStoreConfig.diskCacheCapacity() );
     }
 
 
@@ -3,4 +3,10 @@ package com.enonic.xp.core.impl.content;
 public @interface ContentConfig
 {
     boolean auditlog_enabled() default true;
+
+    boolean media_asyncTextExtraction() default false;
+
+    int media_asyncTextExtractionThreads() default 1;
+
+    int media_asyncTextExtractionQueueSize() default 1000;
 }
@@ -163,6 +163,8 @@ public class ContentServiceImpl
 
     private ContentAuditLogSupport contentAuditLogSupport;
 
+    private MediaTextExtraction mediaTextExtraction;
+
     @Activate
     public void initialize()
     {
@@ -287,6 +289,7 @@ public class ContentServiceImpl
             partDescriptorService( this.partDescriptorService ).
             layoutDescriptorService( this.layoutDescriptorService ).
             contentDataSerializer( this.contentDataSerializer ).
+            mediaTextExtraction( this.mediaTextExtraction ).
             build().
             execute();
 
@@ -1292,6 +1295,12 @@ public class ContentServiceImpl
         this.contentAuditLogSupport = contentAuditLogSupport;
     }
 
+    @Reference
+    public void setMediaTextExtraction( final MediaTextExtraction mediaTextExtraction )
+    {
+        this.mediaTextExtraction = mediaTextExtraction;
+    }
+
     @Reference
     public void setProjectService( final ProjectService projectService )
     {
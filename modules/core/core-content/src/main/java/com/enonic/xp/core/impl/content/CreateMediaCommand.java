@@ -35,6 +35,8 @@ final class CreateMediaCommand
 
     private final ContentDataSerializer contentDataSerializer;
 
+    private final MediaTextExtraction mediaTextExtraction;
+
     private CreateMediaCommand( final Builder builder )
     {
         super( builder );
@@ -45,6 +47,7 @@ final class CreateMediaCommand
         this.partDescriptorService = builder.partDescriptorService;
         this.layoutDescriptorService = builder.layoutDescriptorService;
         this.contentDataSerializer = builder.contentDataSerializer;
+        this.mediaTextExtraction = builder.mediaTextExtraction;
     }
 
     Content execute()
@@ -56,7 +59,10 @@ final class CreateMediaCommand
 
     private Content doExecute()
     {
-        final MediaInfo mediaInfo = mediaInfoService.parseMediaInfo( params.getByteSource() );
+        final boolean extractTextLater = mediaTextExtraction != null && mediaTextExtraction.isAsync();
+        final MediaInfo mediaInfo = extractTextLater
+            ? mediaInfoService.parseMediaMetadata( params.getByteSource() )
+            : mediaInfoService.parseMediaInfo( params.getByteSource() );
 
         if ( ( params.getMimeType() == null || isBinaryContentType( params.getMimeType() ) ) && mediaInfo.getMediaType() != null )
         {
@@ -89,7 +95,7 @@ final class CreateMediaCommand
             mimeType( params.getMimeType() ).
             label( "source" ).
             byteSource( params.getByteSource() ).
-            text( type.isTextualMedia() ? mediaInfo.getTextContent() : "" ).
+            text( type.isTextualMedia() && !extractTextLater ? mediaInfo.getTextContent() : "" ).
             build();
 
         final CreateContentParams createContentParams = CreateContentParams.create().
@@ -115,7 +121,14 @@ final class CreateMediaCommand
             contentDataSerializer( this.contentDataSerializer ).
             build();
 
-        return createCommand.execute();
+        final Content content = createCommand.execute();
+
+        if ( extractTextLater && type.isTextualMedia() )
+        {
+            mediaTextExtraction.extractLater( content.getId(), mediaAttachment.getBinaryReference() );
+        }
+
+        return content;
     }
 
     private String trimExtension( final String name )
@@ -150,6 +163,8 @@ final class CreateMediaCommand
 
         private ContentDataSerializer contentDataSerializer;
 
+        private MediaTextExtraction mediaTextExtraction;
+
         public Builder params( final CreateMediaParams params )
         {
             this.params = params;
@@ -192,6 +207,12 @@ final class CreateMediaCommand
             return this;
         }
 
+        Builder mediaTextExtraction( final MediaTextExtraction value )
+        {
+            this.mediaTextExtraction = value;
+            return this;
+        }
+
 
         @Override
         void validate()
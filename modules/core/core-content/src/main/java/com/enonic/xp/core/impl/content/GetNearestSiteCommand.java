@@ -1,8 +1,22 @@
 package com.enonic.xp.core.impl.content;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import com.enonic.xp.content.Content;
 import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentNotFoundException;
 import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.content.ContentPropertyNames;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.node.Node;
+import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.NodePaths;
+import com.enonic.xp.schema.content.ContentTypeName;
 import com.enonic.xp.site.Site;
 
 final class GetNearestSiteCommand
@@ -30,31 +44,48 @@ final class GetNearestSiteCommand
             return (Site) content;
         }
 
-        return returnIfSiteOrTryParent( content.getParentPath() );
+        return getNearestSiteOfAncestors( content.getParentPath() );
     }
 
-    private Site returnIfSiteOrTryParent( final ContentPath contentPath )
+    private Site getNearestSiteOfAncestors( final ContentPath parentPath )
     {
-        if ( contentPath == null )
+        // ancestors are fetched in one call, nearest first, and only the site is translated to content
+        final List<ContentPath> ancestorPaths = new ArrayList<>();
+        for ( ContentPath path = parentPath; path != null && !path.isRoot(); path = path.getParentPath() )
         {
-            return null;
+            ancestorPaths.add( path );
         }
-        if ( contentPath.isRoot() )
+
+        if ( ancestorPaths.isEmpty() )
         {
             return null;
         }
 
-        final Content content = getContent( contentPath );
+        final Map<NodePath, Node> ancestors = this.nodeService.getByPaths( NodePaths.from( ancestorPaths.stream().
+            map( ContentNodeHelper::translateContentPathToNodePath ).
+            collect( Collectors.toList() ) ) ).
+            stream().
+            collect( Collectors.toMap( Node::path, Function.identity() ) );
 
-        if ( content.isSite() )
-        {
-            return (Site) content;
-        }
-        else
+        final boolean filterScheduledPublished = shouldFilterScheduledPublished();
+        final Instant now = Instant.now();
+
+        for ( final ContentPath ancestorPath : ancestorPaths )
         {
-            final ContentPath parentPath = content.getParentPath();
-            return returnIfSiteOrTryParent( parentPath );
+            final Node node = ancestors.get( ContentNodeHelper.translateContentPathToNodePath( ancestorPath ) );
+
+            if ( node == null || ( filterScheduledPublished && contentPendingOrExpired( node, now ) ) )
+            {
+                throw new ContentNotFoundException( ancestorPath, ContextAccessor.current().getBranch() );
+            }
+
+            if ( ContentTypeName.from( node.data().getString( ContentPropertyNames.TYPE ) ).isSite() )
+            {
+                return (Site) this.translator.fromNode( node, true );
+            }
         }
+
+        return null;
     }
 
     public static final class Builder
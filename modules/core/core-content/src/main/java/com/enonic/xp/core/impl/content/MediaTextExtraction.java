@@ -0,0 +1,11 @@
+package com.enonic.xp.core.impl.content;
+
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.util.BinaryReference;
+
+public interface MediaTextExtraction
+{
+    boolean isAsync();
+
+    void extractLater( ContentId contentId, BinaryReference binaryReference );
+}
@@ -0,0 +1,125 @@
+package com.enonic.xp.core.impl.content;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentPropertyNames;
+import com.enonic.xp.context.Context;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+import com.enonic.xp.data.PropertySet;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.media.MediaInfoService;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeService;
+import com.enonic.xp.node.UpdateNodeParams;
+import com.enonic.xp.util.BinaryReference;
+
+/**
+ * Extracts the text of uploaded documents in the background, when enabled. The media is stored without text first and
+ * the text is set on its attachment, and so indexed, when extraction is done.
+ */
+@Component(configurationPid = "com.enonic.xp.content")
+public class MediaTextExtractionImpl
+    implements MediaTextExtraction
+{
+    private static final Logger LOG = LoggerFactory.getLogger( MediaTextExtractionImpl.class );
+
+    private final boolean async;
+
+    private final NodeService nodeService;
+
+    private final MediaInfoService mediaInfoService;
+
+    private final SimpleExecutor simpleExecutor;
+
+    @Activate
+    public MediaTextExtractionImpl( final ContentConfig config, @Reference final NodeService nodeService,
+                                    @Reference final MediaInfoService mediaInfoService )
+    {
+        this.async = config.media_asyncTextExtraction();
+        this.nodeService = nodeService;
+        this.mediaInfoService = mediaInfoService;
+
+        final int threads = Math.max( config.media_asyncTextExtractionThreads(), 1 );
+        final int queueSize = config.media_asyncTextExtractionQueueSize();
+        final Function<ThreadFactory, ExecutorService> executorServiceSupplier = ( threadFactory ) -> {
+            final ThreadPoolExecutor executor =
+                new ThreadPoolExecutor( threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>( queueSize ), threadFactory,
+                                        new ThreadPoolExecutor.CallerRunsPolicy() );
+            executor.allowCoreThreadTimeOut( true );
+            return executor;
+        };
+
+        this.simpleExecutor = new SimpleExecutor( executorServiceSupplier, "media-text-extraction-thread-%d",
+                                                  e -> LOG.warn( "Media text extraction failed", e ) );
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ), neverCommenced -> LOG.warn(
+            "Text of {} media was not extracted", neverCommenced.size() ) );
+    }
+
+    @Override
+    public boolean isAsync()
+    {
+        return async;
+    }
+
+    @Override
+    public void extractLater( final ContentId contentId, final BinaryReference binaryReference )
+    {
+        final Context context = ContextBuilder.from( ContextAccessor.current() ).
+            authInfo( ContentConstants.CONTENT_SU_AUTH_INFO ).
+            build();
+
+        simpleExecutor.execute( () -> context.runWith( () -> extract( NodeId.from( contentId ), binaryReference ) ) );
+    }
+
+    private void extract( final NodeId nodeId, final BinaryReference binaryReference )
+    {
+        // the stored binary is read, the uploaded one may be gone by now
+        final ByteSource binary = nodeService.getBinary( nodeId, binaryReference );
+        if ( binary == null )
+        {
+            return;
+        }
+
+        final String text = mediaInfoService.parseMediaInfo( binary ).getTextContent();
+
+        nodeService.update( UpdateNodeParams.create().
+            id( nodeId ).
+            editor( node -> setAttachmentText( node.data, binaryReference, text ) ).
+            build() );
+    }
+
+    private void setAttachmentText( final PropertyTree data, final BinaryReference binaryReference, final String text )
+    {
+        for ( PropertySet attachment : data.getSets( ContentPropertyNames.ATTACHMENT ) )
+        {
+            if ( binaryReference.equals( attachment.getBinaryReference( ContentPropertyNames.ATTACHMENT_BINARY_REF ) ) )
+            {
+                attachment.setString( ContentPropertyNames.ATTACHMENT_TEXT, text );
+            }
+        }
+    }
+}
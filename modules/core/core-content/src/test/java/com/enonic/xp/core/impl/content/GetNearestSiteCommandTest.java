@@ -7,17 +7,24 @@ import org.mockito.Mockito;
 import com.enonic.xp.content.Content;
 import com.enonic.xp.content.ContentConstants;
 import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentNotFoundException;
 import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.content.ContentPropertyNames;
+import com.enonic.xp.data.PropertyTree;
 import com.enonic.xp.event.EventPublisher;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.NodePaths;
 import com.enonic.xp.node.NodeService;
+import com.enonic.xp.node.Nodes;
+import com.enonic.xp.schema.content.ContentTypeName;
 import com.enonic.xp.schema.content.ContentTypeService;
 import com.enonic.xp.site.Site;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class GetNearestSiteCommandTest
 {
@@ -64,90 +71,94 @@ public class GetNearestSiteCommandTest
         throws Exception
     {
         final ContentId contentId = ContentId.from( "aaa" );
+        final Content content = Content.create().id( contentId ).name( "name" ).parentPath( ContentPath.from( "/mysite" ) ).build();
 
-        final Node node = Node.create().
-            id( NodeId.from( "test" ) ).
-            name( "myContent" ).
-            parentPath( ContentConstants.CONTENT_ROOT_PATH ).
-            build();
+        final Node node = createNode( "aaa", "/content/mysite/name", ContentTypeName.folder() );
+        final Node siteNode = createNode( "bbb", "/content/mysite", ContentTypeName.site() );
+        final Site site = Site.create().path( "/mysite" ).id( ContentId.from( "bbb" ) ).build();
 
-        final Content content = Content.create().
-            id( contentId ).
-            name( "name" ).
-            parentPath( ContentPath.from( "/aaa" ) ).
-            build();
+        Mockito.when( this.nodeService.getById( NodeId.from( "aaa" ) ) ).thenReturn( node );
+        Mockito.when( this.nodeService.getByPaths( NodePaths.from( "/content/mysite" ) ) ).thenReturn( Nodes.from( siteNode ) );
+        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content );
+        Mockito.when( this.translator.fromNode( siteNode, true ) ).thenReturn( site );
 
-        final Site parent = Site.create().
-            path( "/mycontent" ).
-            id( ContentId.from( "bbb" ) ).
-            build();
-
-        Mockito.when( this.nodeService.getById( Mockito.any( NodeId.class ) ) ).thenReturn( node );
-        Mockito.when( this.nodeService.getByPath( Mockito.isA( NodePath.class ) ) ).thenReturn( node );
-        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content, parent );
-
-        assertEquals( parent, createCommand( contentId ).execute() );
+        assertEquals( site, createCommand( contentId ).execute() );
     }
 
     @Test
     public void get_nearest_site_parent_of_parent_is_site()
         throws Exception
     {
-        final Node node = Node.create().
-            id( NodeId.from( "test" ) ).
-            name( "myContent" ).
-            parentPath( ContentConstants.CONTENT_ROOT_PATH ).
-            build();
-
         final ContentId contentId = ContentId.from( "aaa" );
+        final Content content =
+            Content.create().id( contentId ).name( "name" ).parentPath( ContentPath.from( "/top/mysite/folder" ) ).build();
 
-        final Content content = Content.create().
-            id( contentId ).
-            name( "name" ).
-            parentPath( ContentPath.from( "/aaa" ) ).
-            build();
-
-        final Content parent = Content.create().
-            id( ContentId.from( "bbb" ) ).
-            name( "renome" ).
-            parentPath( ContentPath.from( "/bbb" ) ).
-            build();
-
-        final Site parentOfParent = Site.create().
-            path( "/mycontent" ).
-            id( ContentId.from( "ccc" ) ).
-            build();
+        final Node node = createNode( "aaa", "/content/top/mysite/folder/name", ContentTypeName.folder() );
+        final Node folderNode = createNode( "bbb", "/content/top/mysite/folder", ContentTypeName.folder() );
+        final Node siteNode = createNode( "ccc", "/content/top/mysite", ContentTypeName.site() );
+        final Node topNode = createNode( "ddd", "/content/top", ContentTypeName.folder() );
+        final Site site = Site.create().path( "/top/mysite" ).id( ContentId.from( "ccc" ) ).build();
 
-        Mockito.when( this.nodeService.getById( Mockito.any( NodeId.class ) ) ).thenReturn( node );
-        Mockito.when( this.nodeService.getByPath( Mockito.isA( NodePath.class ) ) ).thenReturn( node );
-        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content, parent, parentOfParent );
+        Mockito.when( this.nodeService.getById( NodeId.from( "aaa" ) ) ).thenReturn( node );
+        final NodePaths ancestorPaths = NodePaths.from( "/content/top/mysite/folder", "/content/top/mysite", "/content/top" );
+        Mockito.when( this.nodeService.getByPaths( ancestorPaths ) ).thenReturn( Nodes.from( topNode, siteNode, folderNode ) );
+        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content );
+        Mockito.when( this.translator.fromNode( siteNode, true ) ).thenReturn( site );
 
-        assertEquals( parentOfParent, createCommand( contentId ).execute() );
+        assertEquals( site, createCommand( contentId ).execute() );
+        Mockito.verify( this.translator, Mockito.never() ).fromNode( folderNode, true );
+        Mockito.verify( this.nodeService, Mockito.never() ).getByPath( Mockito.any() );
     }
 
     @Test
     public void get_nearest_site_no_nearest_site()
         throws Exception
     {
-        final Node node = Node.create().
-            id( NodeId.from( "test" ) ).
-            name( "myContent" ).
-            parentPath( ContentConstants.CONTENT_ROOT_PATH ).
-            build();
-
         final ContentId contentId = ContentId.from( "aaa" );
-        final Content content = Content.create().id( contentId ).name( "name" ).parentPath( ContentPath.from( "/aaa" ) ).build();
+        final Content content = Content.create().id( contentId ).name( "name" ).parentPath( ContentPath.from( "/folder" ) ).build();
 
-        final ContentPath contentPath = ContentPath.from( "/mycontent" );
-        final Content parent = Content.create().path( contentPath ).id( ContentId.from( "bbb" ) ).build();
+        final Node node = createNode( "aaa", "/content/folder/name", ContentTypeName.folder() );
+        final Node folderNode = createNode( "bbb", "/content/folder", ContentTypeName.folder() );
 
-        Mockito.when( this.nodeService.getById( Mockito.any( NodeId.class ) ) ).thenReturn( node );
-        Mockito.when( this.nodeService.getByPath( Mockito.isA( NodePath.class ) ) ).thenReturn( node );
-        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content, parent );
+        Mockito.when( this.nodeService.getById( NodeId.from( "aaa" ) ) ).thenReturn( node );
+        Mockito.when( this.nodeService.getByPaths( NodePaths.from( "/content/folder" ) ) ).thenReturn( Nodes.from( folderNode ) );
+        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content );
 
         assertNull( createCommand( contentId ).execute() );
     }
 
+    @Test
+    public void get_nearest_site_ancestor_not_found()
+        throws Exception
+    {
+        final ContentId contentId = ContentId.from( "aaa" );
+        final Content content = Content.create().id( contentId ).name( "name" ).parentPath( ContentPath.from( "/mysite/folder" ) ).build();
+
+        final Node node = createNode( "aaa", "/content/mysite/folder/name", ContentTypeName.folder() );
+        final Node siteNode = createNode( "ccc", "/content/mysite", ContentTypeName.site() );
+
+        Mockito.when( this.nodeService.getById( NodeId.from( "aaa" ) ) ).thenReturn( node );
+        Mockito.when( this.nodeService.getByPaths( NodePaths.from( "/content/mysite/folder", "/content/mysite" ) ) ).
+            thenReturn( Nodes.from( siteNode ) );
+        Mockito.when( this.translator.fromNode( node, true ) ).thenReturn( content );
+
+        assertThrows( ContentNotFoundException.class, () -> createCommand( contentId ).execute() );
+    }
+
+    private Node createNode( final String id, final String path, final ContentTypeName type )
+    {
+        final NodePath nodePath = new NodePath( path );
+        final PropertyTree data = new PropertyTree();
+        data.setString( ContentPropertyNames.TYPE, type.toString() );
+
+        return Node.create().
+            id( NodeId.from( id ) ).
+            name( nodePath.getName() ).
+            parentPath( nodePath.getParentPath() ).
+            data( data ).
+            build();
+    }
+
     private GetNearestSiteCommand createCommand( final ContentId contentId )
     {
         return GetNearestSiteCommand.create().
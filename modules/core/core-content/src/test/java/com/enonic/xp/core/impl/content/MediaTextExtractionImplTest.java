@@ -0,0 +1,92 @@
+package com.enonic.xp.core.impl.content;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.google.common.io.ByteSource;
+
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentPropertyNames;
+import com.enonic.xp.data.PropertySet;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.media.MediaInfo;
+import com.enonic.xp.media.MediaInfoService;
+import com.enonic.xp.node.EditableNode;
+import com.enonic.xp.node.Node;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeService;
+import com.enonic.xp.node.UpdateNodeParams;
+import com.enonic.xp.util.BinaryReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MediaTextExtractionImplTest
+{
+    @Test
+    void disabledByDefault()
+    {
+        final ContentConfig config = Mockito.mock( ContentConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        final MediaTextExtractionImpl extraction =
+            new MediaTextExtractionImpl( config, Mockito.mock( NodeService.class ), Mockito.mock( MediaInfoService.class ) );
+
+        assertFalse( extraction.isAsync() );
+        extraction.deactivate();
+    }
+
+    @Test
+    void extractLater()
+    {
+        final ContentConfig config = Mockito.mock( ContentConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        when( config.media_asyncTextExtraction() ).thenReturn( true );
+
+        final NodeService nodeService = Mockito.mock( NodeService.class );
+        final MediaInfoService mediaInfoService = Mockito.mock( MediaInfoService.class );
+
+        final NodeId nodeId = NodeId.from( "content1" );
+        final BinaryReference binaryReference = BinaryReference.from( "document.pdf" );
+        final ByteSource binary = ByteSource.wrap( "document".getBytes() );
+        when( nodeService.getBinary( nodeId, binaryReference ) ).thenReturn( binary );
+        when( mediaInfoService.parseMediaInfo( binary ) ).thenReturn( MediaInfo.create().setTextContent( "document text" ).build() );
+
+        final MediaTextExtractionImpl extraction = new MediaTextExtractionImpl( config, nodeService, mediaInfoService );
+        extraction.extractLater( ContentId.from( "content1" ), binaryReference );
+        extraction.deactivate();
+
+        final ArgumentCaptor<UpdateNodeParams> captor = ArgumentCaptor.forClass( UpdateNodeParams.class );
+        verify( nodeService ).update( captor.capture() );
+        assertEquals( nodeId, captor.getValue().getId() );
+
+        final PropertyTree data = new PropertyTree();
+        final PropertySet attachment = data.addSet( ContentPropertyNames.ATTACHMENT );
+        attachment.setBinaryReference( ContentPropertyNames.ATTACHMENT_BINARY_REF, binaryReference );
+        attachment.setString( ContentPropertyNames.ATTACHMENT_TEXT, "" );
+
+        final EditableNode editableNode = new EditableNode( Node.create().id( nodeId ).data( data ).build() );
+        captor.getValue().getEditor().edit( editableNode );
+
+        assertEquals( "document text",
+                      editableNode.data.getSet( ContentPropertyNames.ATTACHMENT ).getString( ContentPropertyNames.ATTACHMENT_TEXT ) );
+    }
+
+    @Test
+    void missingBinaryNotUpdated()
+    {
+        final ContentConfig config = Mockito.mock( ContentConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        when( config.media_asyncTextExtraction() ).thenReturn( true );
+
+        final NodeService nodeService = Mockito.mock( NodeService.class );
+        final MediaInfoService mediaInfoService = Mockito.mock( MediaInfoService.class );
+
+        final MediaTextExtractionImpl extraction = new MediaTextExtractionImpl( config, nodeService, mediaInfoService );
+        extraction.extractLater( ContentId.from( "content1" ), BinaryReference.from( "document.pdf" ) );
+        extraction.deactivate();
+
+        verify( nodeService, never() ).update( any() );
+    }
+}
@@ -0,0 +1,39 @@
+package com.enonic.xp.core.impl.event;
+
+public @interface EventConfig
+{
+    /**
+     * Number of threads delivering events to listeners.
+     */
+    int listener_threads() default 4;
+
+    /**
+     * Maximum number of events waiting for each listener.
+     */
+    int listener_queueSize() default 10000;
+
+    /**
+     * What to do when a listener queue is full, either block or drop.
+     */
+    String listener_overflow() default "block";
+
+    /**
+     * Max time in ms to wait for space in a full listener queue before the publishing thread delivers queued events itself.
+     */
+    long listener_blockTimeout() default 5000;
+
+    /**
+     * Comma separated class names of listeners that drop events when their queue is full.
+     */
+    String listener_drop() default "";
+
+    /**
+     * Max number of distributed events sent to cluster nodes in one request.
+     */
+    int cluster_batchSize() default 100;
+
+    /**
+     * Time in ms distributed events are collected before they are sent to cluster nodes.
+     */
+    long cluster_batchWindow() default 10;
+}
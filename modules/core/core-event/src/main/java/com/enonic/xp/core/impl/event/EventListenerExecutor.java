@@ -0,0 +1,8 @@
+package com.enonic.xp.core.impl.event;
+
+import java.util.concurrent.Executor;
+
+public interface EventListenerExecutor
+    extends Executor
+{
+}
@@ -0,0 +1,42 @@
+package com.enonic.xp.core.impl.event;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+
+@Component(configurationPid = "com.enonic.xp.event")
+public class EventListenerExecutorImpl
+    implements EventListenerExecutor
+{
+    private static final Logger LOG = LoggerFactory.getLogger( EventListenerExecutorImpl.class );
+
+    private final SimpleExecutor simpleExecutor;
+
+    @Activate
+    public EventListenerExecutorImpl( final EventConfig config )
+    {
+        final int threads = Math.max( 1, config.listener_threads() );
+        simpleExecutor = new SimpleExecutor( threadFactory -> Executors.newFixedThreadPool( threads, threadFactory ), "event-listener-thread-%d",
+                                             e -> LOG.error( "Event listener failed", e ) );
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                    neverCommenced -> LOG.warn( "Not all events were delivered to listeners" ) );
+    }
+
+    @Override
+    public void execute( final Runnable command )
+    {
+        simpleExecutor.execute( command );
+    }
+}
@@ -0,0 +1,184 @@
+package com.enonic.xp.core.impl.event;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.event.EventPublisher;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Bounded queue of events for a single listener. Events are delivered one at a time in publishing order,
+ * so a listener never sees two events concurrently, while different listeners are drained in parallel.
+ * When the queue stays full for longer than the block timeout, the publishing thread delivers queued events itself
+ * until there is room, unless the listener is configured to drop events.
+ */
+final class EventListenerQueue
+{
+    private final static Logger LOG = LoggerFactory.getLogger( EventListenerQueue.class );
+
+    private static final int DRAIN_BATCH_SIZE = 100;
+
+    private final EventListener listener;
+
+    private final Executor executor;
+
+    private final BlockingQueue<Event> queue;
+
+    private final boolean dropOnOverflow;
+
+    private final Duration blockTimeout;
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private final Lock deliveryLock = new ReentrantLock();
+
+    private final Timer latency;
+
+    private final Meter dropped;
+
+    EventListenerQueue( final EventListener listener, final Executor executor, final int capacity, final boolean dropOnOverflow,
+                        final Duration blockTimeout )
+    {
+        this.listener = listener;
+        this.executor = executor;
+        this.queue = new LinkedBlockingQueue<>( capacity );
+        this.dropOnOverflow = dropOnOverflow;
+        this.blockTimeout = blockTimeout;
+
+        final String name = "listener." + listener.getClass().getName();
+        this.latency = Metrics.timer( EventPublisher.class, name + ".latency" );
+        this.dropped = Metrics.meter( EventPublisher.class, name + ".dropped" );
+    }
+
+    EventListener getListener()
+    {
+        return listener;
+    }
+
+    int size()
+    {
+        return queue.size();
+    }
+
+    void offer( final Event event )
+    {
+        if ( dropOnOverflow )
+        {
+            if ( !queue.offer( event ) )
+            {
+                dropped.mark();
+                LOG.warn( "Event queue of listener {} is full, dropping event {}", listener, event );
+                return;
+            }
+        }
+        else if ( !enqueue( event ) )
+        {
+            LOG.warn( "Event queue of listener {} is full, delivering events on publishing thread", listener );
+            while ( !queue.offer( event ) )
+            {
+                deliverNext();
+            }
+        }
+        schedule();
+    }
+
+    private boolean enqueue( final Event event )
+    {
+        try
+        {
+            return queue.offer( event, blockTimeout.toMillis(), TimeUnit.MILLISECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void schedule()
+    {
+        if ( scheduled.compareAndSet( false, true ) )
+        {
+            try
+            {
+                executor.execute( this::drain );
+            }
+            catch ( RejectedExecutionException e )
+            {
+                scheduled.set( false );
+                LOG.warn( "Could not deliver events to listener {}", listener, e );
+            }
+        }
+    }
+
+    private void drain()
+    {
+        try
+        {
+            for ( int i = 0; i < DRAIN_BATCH_SIZE; i++ )
+            {
+                if ( !deliverNext() )
+                {
+                    break;
+                }
+            }
+        }
+        finally
+        {
+            scheduled.set( false );
+        }
+
+        // give other listeners a chance to run before continuing with this one
+        if ( !queue.isEmpty() )
+        {
+            schedule();
+        }
+    }
+
+    private boolean deliverNext()
+    {
+        // events are taken and delivered under the lock, so the publishing thread helping out keeps order and exclusivity
+        deliveryLock.lock();
+        try
+        {
+            final Event event = queue.poll();
+            if ( event == null )
+            {
+                return false;
+            }
+            deliver( event );
+            return true;
+        }
+        finally
+        {
+            deliveryLock.unlock();
+        }
+    }
+
+    private void deliver( final Event event )
+    {
+        try (Timer.Context ignored = latency.time())
+        {
+            listener.onEvent( event );
+        }
+        catch ( final Exception t )
+        {
+            LOG.warn( "Uncaught exception during event processing", t );
+        }
+    }
+}
@@ -1,51 +1,76 @@
 package com.enonic.xp.core.impl.event;
 
+import java.time.Duration;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.enonic.xp.event.Event;
 import com.enonic.xp.event.EventListener;
 
+/**
+ * Listeners with an explicit order are called in that order on the publishing thread, before the event is handed over
+ * to the other listeners. Those get their own queue and are called in parallel on the listener executor.
+ */
 final class EventMulticaster
 {
-    private final static Logger LOG = LoggerFactory.getLogger( EventMulticaster.class );
+    private final AtomicReference<List<EventListenerQueue>> listeners = new AtomicReference<>( List.of() );
+
+    private final Executor listenerExecutor;
+
+    private final int queueSize;
+
+    private final Duration blockTimeout;
+
+    private final Predicate<EventListener> dropOnOverflow;
+
+    EventMulticaster()
+    {
+        this( Runnable::run, Integer.MAX_VALUE, Duration.ZERO, listener -> false );
+    }
 
-    private final AtomicReference<List<EventListener>> listeners = new AtomicReference<>( List.of() );
+    EventMulticaster( final Executor listenerExecutor, final int queueSize, final Duration blockTimeout,
+                      final Predicate<EventListener> dropOnOverflow )
+    {
+        this.listenerExecutor = listenerExecutor;
+        this.queueSize = queueSize;
+        this.blockTimeout = blockTimeout;
+        this.dropOnOverflow = dropOnOverflow;
+    }
 
     public void add( final EventListener listener )
     {
-        listeners.updateAndGet( previous -> Stream.concat( previous.stream(), Stream.of( listener ) ).
-            sorted( Comparator.comparingInt( EventListener::getOrder ) ).
+        final EventListenerQueue queue = isOrdered( listener )
+            ? new EventListenerQueue( listener, Runnable::run, Integer.MAX_VALUE, false, Duration.ZERO )
+            : new EventListenerQueue( listener, listenerExecutor, queueSize, dropOnOverflow.test( listener ), blockTimeout );
+
+        listeners.updateAndGet( previous -> Stream.concat( previous.stream(), Stream.of( queue ) ).
+            sorted( Comparator.comparingInt( q -> q.getListener().getOrder() ) ).
             collect( Collectors.toUnmodifiableList() ) );
     }
 
     public void remove( final EventListener listener )
     {
-        listeners.updateAndGet( previous -> previous.stream().filter( w -> w != listener ).
-            sorted( Comparator.comparingInt( EventListener::getOrder ) ).
+        listeners.updateAndGet( previous -> previous.stream().filter( w -> w.getListener() != listener ).
             collect( Collectors.toUnmodifiableList() ) );
     }
 
     public void publish( final Event event )
     {
-        listeners.get().forEach( eventListener -> publish( eventListener, event ) );
+        listeners.get().forEach( queue -> queue.offer( event ) );
+    }
+
+    int queuedEvents()
+    {
+        return listeners.get().stream().mapToInt( EventListenerQueue::size ).sum();
     }
 
-    private void publish( final EventListener listener, final Event event )
+    private static boolean isOrdered( final EventListener listener )
     {
-        try
-        {
-            listener.onEvent( event );
-        }
-        catch ( final Exception t )
-        {
-            LOG.warn( "Uncaught exception during event processing", t );
-        }
+        return listener.getOrder() != Integer.MAX_VALUE;
     }
 }
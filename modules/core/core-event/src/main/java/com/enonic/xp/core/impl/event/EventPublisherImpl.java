@@ -1,6 +1,9 @@
 package com.enonic.xp.core.impl.event;
 
+import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -10,14 +13,17 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.base.Splitter;
 
 import com.enonic.xp.event.Event;
 import com.enonic.xp.event.EventListener;
 import com.enonic.xp.event.EventPublisher;
 import com.enonic.xp.util.Metrics;
 
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "com.enonic.xp.event")
 public final class EventPublisherImpl
     implements EventPublisher
 {
@@ -25,14 +31,45 @@ public final class EventPublisherImpl
 
     private final static Meter EVENT_METRIC = Metrics.meter( EventPublisher.class, "event" );
 
-    private final EventMulticaster multicaster = new EventMulticaster();
+    private final static String QUEUE_SIZE_METRIC = MetricRegistry.name( EventPublisher.class, "queue.size" );
+
+    private final EventMulticaster multicaster;
 
     private final Executor executor;
 
+    public EventPublisherImpl( final Executor executor )
+    {
+        this( executor, new EventMulticaster() );
+    }
+
     @Activate
-    public EventPublisherImpl( @Reference(service = EventPublisherExecutor.class) final Executor executor )
+    public EventPublisherImpl( @Reference(service = EventPublisherExecutor.class) final Executor executor,
+                               @Reference(service = EventListenerExecutor.class) final Executor listenerExecutor, final EventConfig config )
+    {
+        this( executor, new EventMulticaster( listenerExecutor, config.listener_queueSize(),
+                                              Duration.ofMillis( config.listener_blockTimeout() ),
+                                              dropOnOverflow( config ) ) );
+    }
+
+    EventPublisherImpl( final Executor executor, final EventMulticaster multicaster )
     {
         this.executor = executor;
+        this.multicaster = multicaster;
+
+        Metrics.registry().remove( QUEUE_SIZE_METRIC );
+        Metrics.register( QUEUE_SIZE_METRIC, (Gauge<Integer>) multicaster::queuedEvents );
+    }
+
+    private static Predicate<EventListener> dropOnOverflow( final EventConfig config )
+    {
+        if ( "drop".equalsIgnoreCase( config.listener_overflow() ) )
+        {
+            return listener -> true;
+        }
+
+        final Set<String> dropListeners =
+            Set.copyOf( Splitter.on( ',' ).trimResults().omitEmptyStrings().splitToList( config.listener_drop() ) );
+        return listener -> dropListeners.contains( listener.getClass().getName() );
     }
 
     @Override
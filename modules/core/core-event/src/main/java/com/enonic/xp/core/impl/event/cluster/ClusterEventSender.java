@@ -1,20 +1,40 @@
 package com.enonic.xp.core.impl.event.cluster;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.elasticsearch.cluster.ClusterService;
 import org.elasticsearch.cluster.node.DiscoveryNode;
 import org.elasticsearch.threadpool.ThreadPool;
+import org.elasticsearch.transport.ActionNotFoundTransportException;
 import org.elasticsearch.transport.EmptyTransportResponseHandler;
 import org.elasticsearch.transport.TransportException;
+import org.elasticsearch.transport.TransportRequestOptions;
+import org.elasticsearch.transport.TransportResponse;
 import org.elasticsearch.transport.TransportService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Timer;
+
+import com.enonic.xp.core.impl.event.EventConfig;
+import com.enonic.xp.core.internal.concurrent.RecurringJob;
+import com.enonic.xp.core.internal.concurrent.SimpleRecurringJobScheduler;
 import com.enonic.xp.event.Event;
 import com.enonic.xp.event.EventListener;
+import com.enonic.xp.util.Metrics;
 
-@Component(immediate = true)
+@Component(immediate = true, configurationPid = "com.enonic.xp.event")
 public final class ClusterEventSender
     implements EventListener
 {
@@ -22,21 +42,108 @@ public final class ClusterEventSender
 
     public static final String ACTION = "xp/event";
 
+    public static final String BATCH_ACTION = "xp/events";
+
+    private static final TransportRequestOptions BATCH_OPTIONS = TransportRequestOptions.builder().withCompress( true ).build();
+
+    private static final Histogram BATCH_SIZE_METRIC = Metrics.histogram( ClusterEventSender.class, "batch.size" );
+
+    private static final Timer SEND_LATENCY_METRIC = Metrics.timer( ClusterEventSender.class, "send.latency" );
+
+    private final List<Event> pending = new ArrayList<>();
+
+    private final Set<String> singleEventNodes = ConcurrentHashMap.newKeySet();
+
     private ClusterService clusterService;
 
     private TransportService transportService;
 
+    private int batchSize = 1;
+
+    private Duration batchWindow;
+
+    private SimpleRecurringJobScheduler flushScheduler;
+
+    private RecurringJob flushJob;
+
+    @Activate
+    public void activate( final EventConfig config )
+    {
+        this.batchSize = Math.max( 1, config.cluster_batchSize() );
+
+        final long batchWindow = config.cluster_batchWindow();
+        if ( this.batchSize > 1 && batchWindow > 0 )
+        {
+            this.batchWindow = Duration.ofMillis( batchWindow );
+            this.flushScheduler =
+                new SimpleRecurringJobScheduler( Executors::newSingleThreadScheduledExecutor, "cluster-event-sender-thread" );
+        }
+        else
+        {
+            this.batchSize = 1;
+        }
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        if ( this.flushScheduler != null )
+        {
+            this.flushScheduler.shutdownNow();
+        }
+        flush();
+    }
+
     @Override
     public void onEvent( final Event event )
     {
         if ( event != null && event.isDistributed() )
         {
-            final SendEventRequest transportRequest = new SendEventRequest( event );
-            send( transportRequest );
+            synchronized ( this.pending )
+            {
+                this.pending.add( event );
+                if ( this.pending.size() >= this.batchSize )
+                {
+                    sendPending();
+                }
+                else if ( this.flushJob == null )
+                {
+                    scheduleFlush();
+                }
+            }
+        }
+    }
+
+    private void scheduleFlush()
+    {
+        // the first event of a batch starts the window, nothing is scheduled while there is nothing to send
+        this.flushJob = this.flushScheduler.schedule( this::flush, this.batchWindow, e -> LOG.warn( "Could not send events to cluster", e ),
+                                                      e -> LOG.error( "Could not send events to cluster", e ) );
+    }
+
+    private void flush()
+    {
+        synchronized ( this.pending )
+        {
+            this.flushJob = null;
+            if ( !this.pending.isEmpty() )
+            {
+                sendPending();
+            }
         }
     }
 
-    private void send( final SendEventRequest transportRequest )
+    private void sendPending()
+    {
+        // sending is asynchronous, doing it under the lock keeps batches in publishing order
+        final SendEventsRequest transportRequest = new SendEventsRequest( List.copyOf( this.pending ) );
+        this.pending.clear();
+
+        BATCH_SIZE_METRIC.update( transportRequest.getEvents().size() );
+        send( transportRequest );
+    }
+
+    private void send( final SendEventsRequest transportRequest )
     {
         final DiscoveryNode localNode = this.clusterService.localNode();
         for ( final DiscoveryNode node : this.clusterService.state().nodes() )
@@ -48,9 +155,25 @@ public final class ClusterEventSender
         }
     }
 
-    private void send( final SendEventRequest transportRequest, final DiscoveryNode node )
+    private void send( final SendEventsRequest transportRequest, final DiscoveryNode node )
+    {
+        if ( this.singleEventNodes.contains( node.getId() ) )
+        {
+            sendSingle( transportRequest, node );
+        }
+        else
+        {
+            this.transportService.sendRequest( node, BATCH_ACTION, transportRequest, BATCH_OPTIONS,
+                                               new BatchTransportResponseHandler( transportRequest, node ) );
+        }
+    }
+
+    private void sendSingle( final SendEventsRequest transportRequest, final DiscoveryNode node )
     {
-        this.transportService.sendRequest( node, ACTION, transportRequest, LoggingTransportResponseHandler.INSTANCE );
+        for ( final Event event : transportRequest.getEvents() )
+        {
+            this.transportService.sendRequest( node, ACTION, new SendEventRequest( event ), new LoggingTransportResponseHandler() );
+        }
     }
 
     @Reference
@@ -68,17 +191,53 @@ public final class ClusterEventSender
     private static class LoggingTransportResponseHandler
         extends EmptyTransportResponseHandler
     {
-        static LoggingTransportResponseHandler INSTANCE = new LoggingTransportResponseHandler();
+        private final long startTime = System.nanoTime();
 
-        public LoggingTransportResponseHandler()
+        LoggingTransportResponseHandler()
         {
             super( ThreadPool.Names.SAME );
         }
 
+        @Override
+        public void handleResponse( final TransportResponse.Empty response )
+        {
+            SEND_LATENCY_METRIC.update( System.nanoTime() - startTime, TimeUnit.NANOSECONDS );
+        }
+
         @Override
         public void handleException( final TransportException exp )
         {
             LOG.debug( "Could not deliver Event", exp );
         }
     }
+
+    private class BatchTransportResponseHandler
+        extends LoggingTransportResponseHandler
+    {
+        private final SendEventsRequest transportRequest;
+
+        private final DiscoveryNode node;
+
+        BatchTransportResponseHandler( final SendEventsRequest transportRequest, final DiscoveryNode node )
+        {
+            this.transportRequest = transportRequest;
+            this.node = node;
+        }
+
+        @Override
+        public void handleException( final TransportException exp )
+        {
+            if ( exp.unwrapCause() instanceof ActionNotFoundTransportException )
+            {
+                // peer runs a version without batch handler, keep it in sync with single events from now on
+                LOG.debug( "Node {} does not support batched events, falling back to single events", node.getId() );
+                singleEventNodes.add( node.getId() );
+                sendSingle( transportRequest, node );
+            }
+            else
+            {
+                super.handleException( exp );
+            }
+        }
+    }
 }
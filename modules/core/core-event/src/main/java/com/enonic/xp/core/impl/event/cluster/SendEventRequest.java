@@ -34,6 +34,22 @@ public final class SendEventRequest
     @Override
     public void readFrom( final StreamInput streamInput )
         throws IOException
+    {
+        this.event = readEvent( streamInput );
+    }
+
+    @Override
+    public void writeTo( final StreamOutput streamOutput )
+        throws IOException
+    {
+        if ( event != null )
+        {
+            writeEvent( streamOutput, event );
+        }
+    }
+
+    static Event readEvent( final StreamInput streamInput )
+        throws IOException
     {
         final String type = streamInput.readString();
         final long timestamp = streamInput.readLong();
@@ -47,19 +63,15 @@ public final class SendEventRequest
         {
             eventBuilder.value( dataEntry.getKey(), dataEntry.getValue() );
         }
-        this.event = eventBuilder.build();
+        return eventBuilder.build();
     }
 
-    @Override
-    public void writeTo( final StreamOutput streamOutput )
+    static void writeEvent( final StreamOutput streamOutput, final Event event )
         throws IOException
     {
-        if ( event != null )
-        {
-            streamOutput.writeString( event.getType() );
-            streamOutput.writeLong( event.getTimestamp() );
-            streamOutput.writeBoolean( event.isDistributed() );
-            streamOutput.writeMap( event.getData() );
-        }
+        streamOutput.writeString( event.getType() );
+        streamOutput.writeLong( event.getTimestamp() );
+        streamOutput.writeBoolean( event.isDistributed() );
+        streamOutput.writeMap( event.getData() );
     }
 }
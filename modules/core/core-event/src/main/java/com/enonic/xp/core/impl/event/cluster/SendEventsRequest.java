@@ -0,0 +1,58 @@
+package com.enonic.xp.core.impl.event.cluster;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.io.stream.StreamOutput;
+import org.elasticsearch.common.io.stream.Streamable;
+import org.elasticsearch.transport.TransportRequest;
+
+import com.enonic.xp.event.Event;
+
+public final class SendEventsRequest
+    extends TransportRequest
+    implements Streamable
+{
+    private List<Event> events;
+
+    public SendEventsRequest()
+    {
+        this( List.of() );
+    }
+
+    public SendEventsRequest( final List<Event> events )
+    {
+        this.events = events;
+    }
+
+    public List<Event> getEvents()
+    {
+        return this.events;
+    }
+
+    @Override
+    public void readFrom( final StreamInput streamInput )
+        throws IOException
+    {
+        final int size = streamInput.readVInt();
+        final List<Event> events = new ArrayList<>( size );
+        for ( int i = 0; i < size; i++ )
+        {
+            events.add( SendEventRequest.readEvent( streamInput ) );
+        }
+        this.events = events;
+    }
+
+    @Override
+    public void writeTo( final StreamOutput streamOutput )
+        throws IOException
+    {
+        streamOutput.writeVInt( events.size() );
+        for ( final Event event : events )
+        {
+            SendEventRequest.writeEvent( streamOutput, event );
+        }
+    }
+}
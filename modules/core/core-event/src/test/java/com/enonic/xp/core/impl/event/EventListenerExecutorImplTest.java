@@ -0,0 +1,23 @@
+package com.enonic.xp.core.impl.event;
+
+import java.util.concurrent.Phaser;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class EventListenerExecutorImplTest
+{
+    @Test
+    void lifecycle()
+    {
+        final EventConfig config = Mockito.mock( EventConfig.class );
+        Mockito.when( config.listener_threads() ).thenReturn( 2 );
+
+        Phaser phaser = new Phaser( 2 );
+        final EventListenerExecutorImpl eventListenerExecutorImpl = new EventListenerExecutorImpl( config );
+        eventListenerExecutorImpl.execute( phaser::arriveAndAwaitAdvance );
+
+        phaser.arriveAndAwaitAdvance();
+        eventListenerExecutorImpl.deactivate();
+    }
+}
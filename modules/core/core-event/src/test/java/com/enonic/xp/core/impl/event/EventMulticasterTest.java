@@ -1,5 +1,13 @@
 package com.enonic.xp.core.impl.event;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InOrder;
@@ -8,9 +16,12 @@ import org.mockito.Mockito;
 import com.enonic.xp.event.Event;
 import com.enonic.xp.event.EventListener;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -116,4 +127,110 @@ public class EventMulticasterTest
         inOrder.verify( listener2, times( 1 ) ).onEvent( event );
         inOrder.verify( listener3, times( 1 ) ).onEvent( event );
     }
+
+    @Test
+    public void testSlowListenerDoesNotBlockOthers()
+        throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            final EventMulticaster multicaster = new EventMulticaster( executor, 10, Duration.ofSeconds( 5 ), listener -> false );
+
+            final CountDownLatch release = new CountDownLatch( 1 );
+            final CountDownLatch delivered = new CountDownLatch( 3 );
+            final List<String> received = new ArrayList<>();
+
+            multicaster.add( new UnorderedListener( event -> awaitQuietly( release ) ) );
+            multicaster.add( new UnorderedListener( event -> {
+                received.add( event.getType() );
+                delivered.countDown();
+            } ) );
+
+            multicaster.publish( Event.create( "first" ).build() );
+            multicaster.publish( Event.create( "second" ).build() );
+            multicaster.publish( Event.create( "third" ).build() );
+
+            assertTrue( delivered.await( 5, TimeUnit.SECONDS ) );
+            assertEquals( List.of( "first", "second", "third" ), received );
+            release.countDown();
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDropOnOverflow()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final EventMulticaster multicaster = new EventMulticaster( tasks::add, 1, Duration.ZERO, listener -> true );
+
+        final EventListener listener = mock( EventListener.class );
+        multicaster.add( new UnorderedListener( listener ) );
+
+        final Event event1 = Event.create( "first" ).build();
+        final Event event2 = Event.create( "second" ).build();
+        multicaster.publish( event1 );
+        multicaster.publish( event2 );
+
+        assertEquals( 1, multicaster.queuedEvents() );
+        tasks.forEach( Runnable::run );
+
+        verify( listener, times( 1 ) ).onEvent( event1 );
+        verify( listener, never() ).onEvent( event2 );
+    }
+
+    @Test
+    public void testBlockOnOverflowDeliversOnPublishingThread()
+    {
+        final List<Runnable> tasks = new ArrayList<>();
+        final EventMulticaster multicaster = new EventMulticaster( tasks::add, 1, Duration.ZERO, listener -> false );
+
+        final EventListener listener = mock( EventListener.class );
+        multicaster.add( new UnorderedListener( listener ) );
+
+        final Event event1 = Event.create( "first" ).build();
+        final Event event2 = Event.create( "second" ).build();
+        multicaster.publish( event1 );
+        multicaster.publish( event2 );
+
+        verify( listener, times( 1 ) ).onEvent( event1 );
+        assertEquals( 1, multicaster.queuedEvents() );
+        tasks.forEach( Runnable::run );
+
+        final InOrder inOrder = inOrder( listener );
+        inOrder.verify( listener ).onEvent( event1 );
+        inOrder.verify( listener ).onEvent( event2 );
+    }
+
+    private static void awaitQuietly( final CountDownLatch latch )
+    {
+        try
+        {
+            latch.await( 5, TimeUnit.SECONDS );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class UnorderedListener
+        implements EventListener
+    {
+        private final EventListener delegate;
+
+        UnorderedListener( final EventListener delegate )
+        {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onEvent( final Event event )
+        {
+            delegate.onEvent( event );
+        }
+    }
 }
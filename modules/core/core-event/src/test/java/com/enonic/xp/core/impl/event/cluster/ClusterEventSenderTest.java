@@ -4,18 +4,23 @@ import org.elasticsearch.cluster.ClusterService;
 import org.elasticsearch.cluster.ClusterState;
 import org.elasticsearch.cluster.node.DiscoveryNode;
 import org.elasticsearch.cluster.node.DiscoveryNodes;
+import org.elasticsearch.transport.ActionNotFoundTransportException;
 import org.elasticsearch.transport.TransportRequest;
+import org.elasticsearch.transport.TransportRequestOptions;
 import org.elasticsearch.transport.TransportResponseHandler;
 import org.elasticsearch.transport.TransportService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.UnmodifiableIterator;
 
+import com.enonic.xp.core.impl.event.EventConfig;
 import com.enonic.xp.event.Event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 
 public class ClusterEventSenderTest
 {
@@ -36,11 +41,12 @@ public class ClusterEventSenderTest
         this.localNode = Mockito.mock( DiscoveryNode.class );
         this.node1 = Mockito.mock( DiscoveryNode.class );
         this.node2 = Mockito.mock( DiscoveryNode.class );
+        Mockito.when( this.node1.getId() ).thenReturn( "node1" );
+        Mockito.when( this.node2.getId() ).thenReturn( "node2" );
         final DiscoveryNodes discoveryNodes = Mockito.mock( DiscoveryNodes.class );
         final ImmutableList<DiscoveryNode> nodeImmutableList =
             ImmutableList.copyOf( new DiscoveryNode[]{this.localNode, this.node1, this.node2} );
-        final UnmodifiableIterator<DiscoveryNode> discoveryNodeUnmodifiableIterator = nodeImmutableList.iterator();
-        Mockito.when( discoveryNodes.iterator() ).thenReturn( discoveryNodeUnmodifiableIterator );
+        Mockito.when( discoveryNodes.iterator() ).thenAnswer( invocation -> nodeImmutableList.iterator() );
 
         //Mocks Elasticsearch cluster service
         final ClusterState clusterState = Mockito.mock( ClusterState.class );
@@ -65,19 +71,89 @@ public class ClusterEventSenderTest
         this.clusterEventSender.onEvent( event );
 
         Mockito.verify( this.transportService, Mockito.times( 0 ) ).
-            sendRequest( Mockito.eq( this.localNode ), Mockito.eq( "xp/event" ), Mockito.any( TransportRequest.class ),
-                         Mockito.any( TransportResponseHandler.class ) );
+            sendRequest( Mockito.eq( this.localNode ), Mockito.eq( "xp/events" ), Mockito.any( TransportRequest.class ),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
         Mockito.verify( this.transportService ).
-            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/event" ), Mockito.any( TransportRequest.class ),
-                         Mockito.any( TransportResponseHandler.class ) );
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/events" ), Mockito.any( TransportRequest.class ),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
         Mockito.verify( this.transportService ).
-            sendRequest( Mockito.eq( this.node2 ), Mockito.eq( "xp/event" ), Mockito.any( TransportRequest.class ),
-                         Mockito.any( TransportResponseHandler.class ) );
+            sendRequest( Mockito.eq( this.node2 ), Mockito.eq( "xp/events" ), Mockito.any( TransportRequest.class ),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
         Mockito.verify( this.transportService, Mockito.times( 2 ) ).
             sendRequest( Mockito.any( DiscoveryNode.class ), Mockito.anyString(), Mockito.any( TransportRequest.class ),
-                         Mockito.any( TransportResponseHandler.class ) );
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
     }
 
+    @Test
+    public void onEventBatched()
+    {
+        final EventConfig config = Mockito.mock( EventConfig.class );
+        Mockito.when( config.cluster_batchSize() ).thenReturn( 2 );
+        Mockito.when( config.cluster_batchWindow() ).thenReturn( 60_000L );
+        this.clusterEventSender.activate( config );
+
+        final Event event1 = Event.create( "aaa" ).distributed( true ).build();
+        final Event event2 = Event.create( "bbb" ).distributed( true ).build();
+        final Event event3 = Event.create( "ccc" ).distributed( true ).build();
+        this.clusterEventSender.onEvent( event1 );
+        this.clusterEventSender.onEvent( event2 );
+        this.clusterEventSender.onEvent( event3 );
+
+        final ArgumentCaptor<SendEventsRequest> captor = ArgumentCaptor.forClass( SendEventsRequest.class );
+        Mockito.verify( this.transportService ).
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/events" ), captor.capture(),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
+        assertEquals( ImmutableList.of( event1, event2 ), captor.getValue().getEvents() );
+
+        this.clusterEventSender.deactivate();
+
+        Mockito.verify( this.transportService, Mockito.times( 2 ) ).
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/events" ), captor.capture(),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
+        assertEquals( ImmutableList.of( event3 ), captor.getValue().getEvents() );
+    }
+
+    @Test
+    public void onEventFallbackToSingleEvents()
+    {
+        final EventConfig config = Mockito.mock( EventConfig.class );
+        Mockito.when( config.cluster_batchSize() ).thenReturn( 2 );
+        Mockito.when( config.cluster_batchWindow() ).thenReturn( 60_000L );
+        this.clusterEventSender.activate( config );
+
+        final Event event1 = Event.create( "aaa" ).distributed( true ).build();
+        final Event event2 = Event.create( "bbb" ).distributed( true ).build();
+        this.clusterEventSender.onEvent( event1 );
+        this.clusterEventSender.onEvent( event2 );
+
+        final ArgumentCaptor<TransportResponseHandler> handlerCaptor = ArgumentCaptor.forClass( TransportResponseHandler.class );
+        Mockito.verify( this.transportService ).
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/events" ), Mockito.any( TransportRequest.class ),
+                         Mockito.any( TransportRequestOptions.class ), handlerCaptor.capture() );
+        handlerCaptor.getValue().handleException( new ActionNotFoundTransportException( "xp/events" ) );
+
+        final ArgumentCaptor<SendEventRequest> captor = ArgumentCaptor.forClass( SendEventRequest.class );
+        Mockito.verify( this.transportService, Mockito.times( 2 ) ).
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/event" ), captor.capture(),
+                         Mockito.any( TransportResponseHandler.class ) );
+        assertEquals( event1, captor.getAllValues().get( 0 ).getEvent() );
+        assertEquals( event2, captor.getAllValues().get( 1 ).getEvent() );
+
+        final Event event3 = Event.create( "ccc" ).distributed( true ).build();
+        this.clusterEventSender.onEvent( event3 );
+        this.clusterEventSender.deactivate();
+
+        Mockito.verify( this.transportService, Mockito.times( 3 ) ).
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/event" ), captor.capture(),
+                         Mockito.any( TransportResponseHandler.class ) );
+        assertEquals( event3, captor.getValue().getEvent() );
+        Mockito.verify( this.transportService, Mockito.times( 1 ) ).
+            sendRequest( Mockito.eq( this.node1 ), Mockito.eq( "xp/events" ), Mockito.any( TransportRequest.class ),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
+        Mockito.verify( this.transportService, Mockito.times( 2 ) ).
+            sendRequest( Mockito.eq( this.node2 ), Mockito.eq( "xp/events" ), Mockito.any( TransportRequest.class ),
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
+    }
 
     @Test
     public void onNonDistributableEvent()
@@ -87,6 +163,6 @@ public class ClusterEventSenderTest
 
         Mockito.verify( this.transportService, Mockito.times( 0 ) ).
             sendRequest( Mockito.any( DiscoveryNode.class ), Mockito.anyString(), Mockito.any( TransportRequest.class ),
-                         Mockito.any( TransportResponseHandler.class ) );
+                         Mockito.any( TransportRequestOptions.class ), Mockito.any( TransportResponseHandler.class ) );
     }
 }
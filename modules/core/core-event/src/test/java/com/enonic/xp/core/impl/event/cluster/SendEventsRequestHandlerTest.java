@@ -0,0 +1,69 @@
+package com.enonic.xp.core.impl.event.cluster;
+
+import java.util.List;
+
+import org.elasticsearch.threadpool.ThreadPool;
+import org.elasticsearch.transport.TransportChannel;
+import org.elasticsearch.transport.TransportResponse;
+import org.elasticsearch.transport.TransportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class SendEventsRequestHandlerTest
+{
+    private SendEventsRequestHandler sendEventsRequestHandler;
+
+    private EventPublisher eventPublisher;
+
+    private TransportService transportService;
+
+    @BeforeEach
+    public void setUp()
+    {
+        this.eventPublisher = Mockito.mock( EventPublisher.class );
+        this.transportService = Mockito.mock( TransportService.class );
+
+        this.sendEventsRequestHandler = new SendEventsRequestHandler();
+        this.sendEventsRequestHandler.setEventPublisher( this.eventPublisher );
+        this.sendEventsRequestHandler.setTransportService( this.transportService );
+    }
+
+    @Test
+    public void testActivationDeactivation()
+    {
+        this.sendEventsRequestHandler.activate();
+        Mockito.verify( this.transportService ).registerRequestHandler( ClusterEventSender.BATCH_ACTION, SendEventsRequest.class,
+                                                                        ThreadPool.Names.SAME, this.sendEventsRequestHandler );
+        this.sendEventsRequestHandler.deactivate();
+        Mockito.verify( this.transportService ).removeHandler( ClusterEventSender.BATCH_ACTION );
+    }
+
+    @Test
+    public void testMessageReceived()
+        throws Exception
+    {
+        final Event event1 = Event.create( "eventType1" ).distributed( true ).value( "key1", "value1" ).build();
+        final Event event2 = Event.create( "eventType2" ).distributed( true ).value( "key2", 1234L ).build();
+
+        final TransportChannel channel = Mockito.mock( TransportChannel.class );
+        this.sendEventsRequestHandler.messageReceived( new SendEventsRequest( List.of( event1, event2 ) ), channel );
+
+        //Checks that the events were published in order
+        final ArgumentCaptor<Event> argumentCaptor = ArgumentCaptor.forClass( Event.class );
+        Mockito.verify( this.eventPublisher, Mockito.times( 2 ) ).publish( argumentCaptor.capture() );
+        final List<Event> forwarded = argumentCaptor.getAllValues();
+        assertEquals( event1.getType(), forwarded.get( 0 ).getType() );
+        assertEquals( event2.getType(), forwarded.get( 1 ).getType() );
+        assertFalse( forwarded.get( 0 ).isDistributed() );
+        assertFalse( forwarded.get( 1 ).isLocalOrigin() );
+        Mockito.verify( channel ).sendResponse( TransportResponse.Empty.INSTANCE );
+    }
+}
@@ -0,0 +1,43 @@
+package com.enonic.xp.core.impl.event.cluster;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.elasticsearch.common.io.stream.ByteBufferStreamInput;
+import org.elasticsearch.common.io.stream.BytesStreamOutput;
+import org.elasticsearch.common.io.stream.StreamInput;
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.event.Event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SendEventsRequestTest
+{
+    @Test
+    public void testWriteRead()
+        throws IOException
+    {
+        final Event event1 = Event.create( "eventType1" ).
+            timestamp( 123L ).
+            distributed( true ).
+            value( "key1", "value1" ).build();
+        final Event event2 = Event.create( "eventType2" ).
+            timestamp( 456L ).
+            distributed( true ).
+            value( "key2", 1234L ).build();
+
+        //Writes the events
+        final BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        final SendEventsRequest sendEventsRequestOut = new SendEventsRequest( List.of( event1, event2 ) );
+        sendEventsRequestOut.writeTo( bytesStreamOutput );
+
+        //Reads the events
+        final StreamInput bytesStreamInput = new ByteBufferStreamInput( ByteBuffer.wrap( bytesStreamOutput.bytes().array() ) );
+        final SendEventsRequest sendEventsRequestIn = new SendEventsRequest();
+        sendEventsRequestIn.readFrom( bytesStreamInput );
+
+        assertEquals( List.of( event1, event2 ), sendEventsRequestIn.getEvents() );
+    }
+}
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,7 @@ import com.enonic.xp.node.NodeCommitQuery;
 import com.enonic.xp.node.NodeCommitQueryResult;
 import com.enonic.xp.node.NodeComparison;
 import com.enonic.xp.node.NodeComparisons;
+import com.enonic.xp.node.NodeHit;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodeIds;
 import com.enonic.xp.node.NodeName;
@@ -339,6 +341,12 @@ class NodeServiceMock
         throw new UnsupportedOperationException( "Not implemented in mock" );
     }
 
+    @Override
+    public Stream<NodeHit> streamByQuery( final NodeQuery nodeQuery )
+    {
+        throw new UnsupportedOperationException( "Not implemented in mock" );
+    }
+
     @Override
     public FindNodePathsByQueryResult findNodePathsByQuery( final NodeQuery nodeQuery )
     {
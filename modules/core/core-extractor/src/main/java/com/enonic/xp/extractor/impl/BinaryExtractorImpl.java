@@ -5,7 +5,9 @@ import java.io.InputStream;
 
 import org.apache.tika.detect.Detector;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.io.TikaInputStream;
 import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
 import org.apache.tika.parser.AutoDetectParser;
 import org.apache.tika.parser.ParseContext;
 import org.apache.tika.parser.Parser;
@@ -14,7 +16,9 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 import com.google.common.io.ByteSource;
 
@@ -28,6 +32,8 @@ public class BinaryExtractorImpl
 {
     private final static Logger LOG = LoggerFactory.getLogger( BinaryExtractorImpl.class );
 
+    private final static String IMAGE_TYPE = "image";
+
     private Detector detector;
 
     private Parser parser;
@@ -37,9 +43,48 @@ public class BinaryExtractorImpl
     @Override
     public ExtractedData extract( final ByteSource source )
     {
-        final ParseContext context = new ParseContext();
         final BodyContentHandler handler = new BodyContentHandler( extractorConfig.getBodySizeLimit() );
         final Metadata metadata = new Metadata();
+        parse( source, handler, metadata );
+
+        return ExtractorResultFactory.create( metadata, handler );
+    }
+
+    @Override
+    public ExtractedData extractMetadata( final ByteSource source )
+    {
+        final Metadata metadata = new Metadata();
+        final MediaType mediaType = detect( source );
+
+        // document parsers extract the whole text even if it is discarded, so only images are parsed for their metadata
+        if ( mediaType != null && IMAGE_TYPE.equals( mediaType.getType() ) )
+        {
+            parse( source, new DefaultHandler(), metadata );
+        }
+        else if ( mediaType != null )
+        {
+            metadata.set( Metadata.CONTENT_TYPE, mediaType.toString() );
+        }
+
+        return ExtractorResultFactory.create( metadata );
+    }
+
+    private MediaType detect( final ByteSource source )
+    {
+        try (final InputStream stream = TikaInputStream.get( source.openStream() ))
+        {
+            return this.detector.detect( stream, new Metadata() );
+        }
+        catch ( IOException e )
+        {
+            LOG.warn( "Error detecting binary type: " + e.getMessage() );
+            return null;
+        }
+    }
+
+    private void parse( final ByteSource source, final ContentHandler handler, final Metadata metadata )
+    {
+        final ParseContext context = new ParseContext();
 
         try (final InputStream stream = source.openStream())
         {
@@ -51,8 +96,6 @@ public class BinaryExtractorImpl
         {
             LOG.warn( "Error extracting binary: " + e.getMessage() );
         }
-
-        return ExtractorResultFactory.create( metadata, handler );
     }
 
     @Reference
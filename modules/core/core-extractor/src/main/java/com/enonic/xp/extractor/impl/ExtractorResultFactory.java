@@ -36,6 +36,14 @@ class ExtractorResultFactory
             build();
     }
 
+    static ExtractedData create( final Metadata metadata )
+    {
+        return ExtractedData.create().
+            metadata( toMap( metadata ) ).
+            imageOrientation( metadata.get( Metadata.ORIENTATION ) ).
+            build();
+    }
+
     private static Map<String, List<String>> toMap( final Metadata metadata )
     {
         Map<String, List<String>> values = new HashMap<>();
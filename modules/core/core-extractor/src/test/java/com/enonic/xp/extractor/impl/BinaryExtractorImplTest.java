@@ -21,6 +21,7 @@ import com.enonic.xp.extractor.impl.config.ExtractorConfigImpl;
 import static com.google.common.base.Strings.isNullOrEmpty;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class BinaryExtractorImplTest
@@ -53,6 +54,28 @@ public class BinaryExtractorImplTest
         assertEquals( "image/jpeg", metadata.get( HttpHeaders.CONTENT_TYPE ).iterator().next() );
     }
 
+    @Test
+    public void extract_image_metadata()
+        throws Exception
+    {
+        final ExtractedData extractedData = this.extractor.extractMetadata(
+            Resources.asByteSource( BinaryExtractorImplTest.class.getResource( "Multiple-colorSpace-entries.jpg" ) ) );
+
+        assertEquals( "image/jpeg", extractedData.get( HttpHeaders.CONTENT_TYPE ) );
+        assertNull( extractedData.getText() );
+    }
+
+    @Test
+    public void extract_pdf_metadata()
+        throws Exception
+    {
+        final ExtractedData extractedData =
+            this.extractor.extractMetadata( Resources.asByteSource( BinaryExtractorImplTest.class.getResource( "sommerfest.pdf" ) ) );
+
+        assertEquals( "application/pdf", extractedData.get( HttpHeaders.CONTENT_TYPE ) );
+        assertNull( extractedData.getText() );
+    }
+
     @Test
     @Disabled("Requires PDFBox Tika Parser in classpath. But tika-parsers 1.x heavily pollutes classpath with other jars")
     public void extract_pdf()
@@ -0,0 +1,433 @@
+package com.enonic.xp.core.impl.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.io.ByteSource;
+import com.google.common.io.MoreFiles;
+
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+import com.enonic.xp.util.Exceptions;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Size-bounded cache of generated images on local disk.
+ * <p>
+ * Lookups are lock-free. Concurrent requests for an image that is not cached yet wait for a single generation of it,
+ * requests for other images proceed independently. When the cache grows over its capacity the least recently used images
+ * are deleted in the background. Images cached by a previous run are picked up on startup.
+ */
+final class ImageCache
+{
+    private static final Logger LOG = LoggerFactory.getLogger( ImageCache.class );
+
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final Path baseDir;
+
+    private final long capacity;
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Map<Path, CompletableFuture<ByteSource>> generating = new ConcurrentHashMap<>();
+
+    private final AtomicLong residentBytes = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+
+    private final SimpleExecutor simpleExecutor;
+
+    private final Meter hits;
+
+    private final Meter misses;
+
+    private final Timer generation;
+
+    ImageCache( final Path baseDir, final long capacity )
+    {
+        this.baseDir = baseDir;
+        this.capacity = capacity;
+        this.simpleExecutor = new SimpleExecutor( Executors::newSingleThreadExecutor, "image-cache-thread-%d",
+                                                  e -> LOG.warn( "Image cache maintenance failed", e ) );
+
+        Metrics.removeAll( ImageCache.class );
+        this.hits = Metrics.meter( ImageCache.class, "hit" );
+        this.misses = Metrics.meter( ImageCache.class, "miss" );
+        this.generation = Metrics.timer( ImageCache.class, "generation" );
+        Metrics.register( ImageCache.class, "bytes", (Gauge<Long>) this.residentBytes::get );
+        Metrics.register( ImageCache.class, "evictions", (Gauge<Long>) this.evictions::get );
+
+        this.simpleExecutor.execute( this::loadExisting );
+    }
+
+    <E extends Exception> ByteSource computeIfAbsent( final Path path, final SupplierWithException<? extends ByteSource, E> supplier )
+        throws E, IOException
+    {
+        Preconditions.checkNotNull( path, "path is required" );
+        Preconditions.checkNotNull( supplier, "supplier is required" );
+
+        while ( true )
+        {
+            final ByteSource cached = getIfPresent( path, supplier );
+            if ( cached != null )
+            {
+                this.hits.mark();
+                return cached;
+            }
+
+            final CompletableFuture<ByteSource> future = new CompletableFuture<>();
+            final CompletableFuture<ByteSource> existing = this.generating.putIfAbsent( path, future );
+            if ( existing == null )
+            {
+                return generate( path, supplier, future );
+            }
+
+            try
+            {
+                return existing.get();
+            }
+            catch ( ExecutionException e )
+            {
+                // the image could not be generated by the other request, try again
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+                throw Exceptions.unchecked( e );
+            }
+        }
+    }
+
+    void shutdown()
+    {
+        this.simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ), neverCommenced -> {
+        } );
+    }
+
+    long getResidentBytes()
+    {
+        return this.residentBytes.get();
+    }
+
+    long getEvictionCount()
+    {
+        return this.evictions.get();
+    }
+
+    private <E extends Exception> ByteSource generate( final Path path, final SupplierWithException<? extends ByteSource, E> supplier,
+                                                      final CompletableFuture<ByteSource> future )
+        throws E, IOException
+    {
+        try
+        {
+            // the image may have been stored after the lookup and before this request started generating it
+            final ByteSource cached = getIfPresent( path, supplier );
+            if ( cached != null )
+            {
+                this.hits.mark();
+                future.complete( cached );
+                return cached;
+            }
+
+            this.misses.mark();
+            final ByteSource byteSource;
+            try (Timer.Context ignored = this.generation.time())
+            {
+                byteSource = supplier.get();
+            }
+
+            if ( byteSource != null )
+            {
+                store( path, byteSource );
+            }
+            future.complete( byteSource );
+            return byteSource;
+        }
+        catch ( final Throwable t )
+        {
+            future.completeExceptionally( t );
+            throw t;
+        }
+        finally
+        {
+            this.generating.remove( path, future );
+        }
+    }
+
+    private ByteSource getIfPresent( final Path path, final SupplierWithException<? extends ByteSource, ? extends Exception> supplier )
+    {
+        final Entry entry = this.entries.get( path );
+        if ( entry != null )
+        {
+            if ( Files.isRegularFile( path ) )
+            {
+                entry.lastAccess = System.currentTimeMillis();
+                return new CachedImageSource( path, supplier );
+            }
+
+            // indexed again by a request that raced with its eviction
+            remove( path, entry );
+            return null;
+        }
+
+        // not indexed yet, while images of a previous run are being loaded
+        if ( Files.isRegularFile( path ) )
+        {
+            try
+            {
+                add( path, Files.size( path ), System.currentTimeMillis() );
+                return new CachedImageSource( path, supplier );
+            }
+            catch ( IOException e )
+            {
+                LOG.debug( "Could not read cached image [" + path + "]", e );
+            }
+        }
+        return null;
+    }
+
+    private void store( final Path path, final ByteSource byteSource )
+        throws IOException
+    {
+        Files.createDirectories( path.getParent() );
+
+        // written to a temporary file first, so that other requests never read a partially written image
+        final Path tmpFile = Files.createTempFile( path.getParent(), path.getFileName().toString(), TMP_SUFFIX );
+        try
+        {
+            byteSource.copyTo( MoreFiles.asByteSink( tmpFile ) );
+            Files.move( tmpFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+        }
+        finally
+        {
+            Files.deleteIfExists( tmpFile );
+        }
+
+        add( path, Files.size( path ), System.currentTimeMillis() );
+    }
+
+    private void add( final Path path, final long size, final long lastAccess )
+    {
+        if ( this.entries.putIfAbsent( path, new Entry( size, lastAccess ) ) == null &&
+            this.residentBytes.addAndGet( size ) > this.capacity )
+        {
+            scheduleEviction();
+        }
+    }
+
+    private void scheduleEviction()
+    {
+        if ( this.evictionScheduled.compareAndSet( false, true ) )
+        {
+            this.simpleExecutor.execute( () -> {
+                this.evictionScheduled.set( false );
+                evictOverCapacity();
+            } );
+        }
+    }
+
+    private void evictOverCapacity()
+    {
+        // evicts down to 90% of the capacity, so that eviction does not run for every new image
+        final long target = this.capacity - this.capacity / 10;
+        if ( this.residentBytes.get() <= target )
+        {
+            return;
+        }
+
+        final List<Map.Entry<Path, Entry>> leastRecentlyUsed = new ArrayList<>( this.entries.entrySet() );
+        leastRecentlyUsed.sort( Comparator.comparingLong( entry -> entry.getValue().lastAccess ) );
+
+        for ( Map.Entry<Path, Entry> eldest : leastRecentlyUsed )
+        {
+            if ( this.residentBytes.get() <= target )
+            {
+                break;
+            }
+            if ( remove( eldest.getKey(), eldest.getValue() ) )
+            {
+                this.evictions.incrementAndGet();
+                delete( eldest.getKey() );
+            }
+        }
+    }
+
+    private boolean remove( final Path path, final Entry entry )
+    {
+        if ( this.entries.remove( path, entry ) )
+        {
+            this.residentBytes.addAndGet( -entry.size );
+            return true;
+        }
+        return false;
+    }
+
+    private void loadExisting()
+    {
+        if ( !Files.isDirectory( this.baseDir ) )
+        {
+            return;
+        }
+
+        final long startTime = System.currentTimeMillis();
+        try (Stream<Path> files = Files.walk( this.baseDir ))
+        {
+            files.filter( Files::isRegularFile ).forEach( file -> loadExisting( file, startTime ) );
+        }
+        catch ( IOException | UncheckedIOException e )
+        {
+            LOG.warn( "Could not load cached images from [" + this.baseDir + "]", e );
+        }
+    }
+
+    private void loadExisting( final Path file, final long startTime )
+    {
+        try
+        {
+            final long lastModified = Files.getLastModifiedTime( file ).toMillis();
+            if ( !file.getFileName().toString().endsWith( TMP_SUFFIX ) )
+            {
+                add( file.toAbsolutePath(), Files.size( file ), lastModified );
+            }
+            else if ( lastModified < startTime )
+            {
+                // left over by an image that was being stored on shutdown
+                delete( file );
+            }
+        }
+        catch ( NoSuchFileException e )
+        {
+            // evicted meanwhile
+        }
+        catch ( IOException e )
+        {
+            LOG.debug( "Could not load cached image [" + file + "]", e );
+        }
+    }
+
+    private void delete( final Path file )
+    {
+        try
+        {
+            Files.deleteIfExists( file );
+        }
+        catch ( IOException e )
+        {
+            LOG.debug( "Could not delete cached image [" + file + "]", e );
+        }
+    }
+
+    /**
+     * Reads a cached image, generating it again if it was evicted after the lookup.
+     */
+    private final class CachedImageSource
+        extends ByteSource
+    {
+        private final Path path;
+
+        private final SupplierWithException<? extends ByteSource, ? extends Exception> supplier;
+
+        CachedImageSource( final Path path, final SupplierWithException<? extends ByteSource, ? extends Exception> supplier )
+        {
+            this.path = path;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public InputStream openStream()
+            throws IOException
+        {
+            try
+            {
+                return Files.newInputStream( this.path );
+            }
+            catch ( NoSuchFileException e )
+            {
+                return regenerate( e ).openStream();
+            }
+        }
+
+        @Override
+        public long size()
+            throws IOException
+        {
+            try
+            {
+                return Files.size( this.path );
+            }
+            catch ( NoSuchFileException e )
+            {
+                return regenerate( e ).size();
+            }
+        }
+
+        private ByteSource regenerate( final NoSuchFileException cause )
+            throws IOException
+        {
+            final Entry entry = entries.get( this.path );
+            if ( entry != null )
+            {
+                remove( this.path, entry );
+            }
+
+            final ByteSource byteSource;
+            try
+            {
+                byteSource = computeIfAbsent( this.path, this.supplier );
+            }
+            catch ( IOException | RuntimeException e )
+            {
+                throw e;
+            }
+            catch ( Exception e )
+            {
+                throw new IOException( e );
+            }
+
+            if ( byteSource == null )
+            {
+                throw cause;
+            }
+            return byteSource;
+        }
+    }
+
+    private static final class Entry
+    {
+        private final long size;
+
+        private volatile long lastAccess;
+
+        Entry( final long size, final long lastAccess )
+        {
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.enonic.xp.core.impl.image;
+
+public @interface ImageConfig
+{
+    /**
+     * Maximum total size of the generated images cached on disk.
+     */
+    String cache_maxSize() default "1gb";
+
+    /**
+     * Number of threads generating images.
+     */
+    int process_threads() default 4;
+
+    /**
+     * Maximum number of images waiting for a thread, further requests for images that are not cached are rejected.
+     */
+    int process_queueSize() default 50;
+}
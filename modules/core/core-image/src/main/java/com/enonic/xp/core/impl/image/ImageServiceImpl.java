@@ -1,5 +1,6 @@
 package com.enonic.xp.core.impl.image;
 
+import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
@@ -8,18 +9,39 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Throwables;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
+import com.google.common.primitives.Ints;
 
 import com.enonic.xp.content.ContentService;
 import com.enonic.xp.core.impl.image.effect.ScaleMaxFunction;
 import com.enonic.xp.core.impl.image.effect.ScaleSquareFunction;
 import com.enonic.xp.core.impl.image.effect.ScaleWidthFunction;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
 import com.enonic.xp.home.HomeDir;
 import com.enonic.xp.image.Cropping;
 import com.enonic.xp.image.FocalPoint;
@@ -28,20 +50,58 @@ import com.enonic.xp.image.ImageService;
 import com.enonic.xp.image.ReadImageParams;
 import com.enonic.xp.image.ScaleParams;
 import com.enonic.xp.media.ImageOrientation;
+import com.enonic.xp.util.ByteSizeParser;
+import com.enonic.xp.util.Exceptions;
 import com.enonic.xp.util.HexEncoder;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.image")
 public class ImageServiceImpl
     implements ImageService
 {
+    private static final Logger LOG = LoggerFactory.getLogger( ImageServiceImpl.class );
+
+    private static final Set<String> SCALE_FUNCTIONS = Set.of( "block", "height", "max", "square", "wide", "width" );
+
+    /**
+     * Images are decoded at no less than this multiple of the size they are scaled to, so that scaling still has pixels to work with.
+     */
+    private static final int SUBSAMPLING_MARGIN = 2;
+
+    private Path cacheDir;
+
+    private ImageCache imageCache;
+
+    private SimpleExecutor simpleExecutor;
+
     private ContentService contentService;
 
     private ImageScaleFunctionBuilder imageScaleFunctionBuilder;
 
     private ImageFilterBuilder imageFilterBuilder;
 
+    @Activate
+    public void activate( final ImageConfig config )
+    {
+        this.cacheDir = Paths.get( HomeDir.get().toString(), "work", "cache", "img" ).toAbsolutePath();
+        this.imageCache = new ImageCache( this.cacheDir, ByteSizeParser.parse( config.cache_maxSize() ) );
+
+        final int threads = config.process_threads();
+        this.simpleExecutor = new SimpleExecutor(
+            threadFactory -> new ThreadPoolExecutor( threads, threads, 0L, TimeUnit.MILLISECONDS,
+                                                     new LinkedBlockingQueue<>( config.process_queueSize() ), threadFactory ),
+            "image-process-thread-%d", e -> LOG.error( "Image processing failed", e ) );
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        this.simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ), neverCommenced -> {
+        } );
+        this.imageCache.shutdown();
+    }
+
     @Override
     public ByteSource readImage( final ReadImageParams readImageParams )
         throws IOException
@@ -52,7 +112,38 @@ public class ImageServiceImpl
         }
 
         final Path cachedImagePath = getCachedImagePath( readImageParams );
-        return ImmutableFilesHelper.computeIfAbsent( cachedImagePath, () -> createImage( readImageParams ) );
+        return imageCache.computeIfAbsent( cachedImagePath, () -> processImage( readImageParams ) );
+    }
+
+    private ByteSource processImage( final ReadImageParams readImageParams )
+        throws IOException
+    {
+        final FutureTask<ByteSource> task = new FutureTask<>( () -> createImage( readImageParams ) );
+        try
+        {
+            this.simpleExecutor.execute( task );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            throw new RejectedExecutionException( "Too many images waiting to be processed", e );
+        }
+
+        try
+        {
+            return task.get();
+        }
+        catch ( ExecutionException e )
+        {
+            Throwables.throwIfInstanceOf( e.getCause(), IOException.class );
+            Throwables.throwIfUnchecked( e.getCause() );
+            throw Exceptions.unchecked( e.getCause() );
+        }
+        catch ( InterruptedException e )
+        {
+            task.cancel( true );
+            Thread.currentThread().interrupt();
+            throw Exceptions.unchecked( e );
+        }
     }
 
     private ByteSource createImage( final ReadImageParams readImageParams )
@@ -88,8 +179,6 @@ public class ImageServiceImpl
     private Path getCachedImagePath( final ReadImageParams readImageParams )
         throws IOException
     {
-        final String homeDir = HomeDir.get().toString();
-
         //Cropping string value
         final String cropping = readImageParams.getCropping() != null ? readImageParams.getCropping().toString() : "no-cropping";
 
@@ -134,15 +223,15 @@ public class ImageServiceImpl
                                         readImageParams.getBinaryReference().toString() );
         final HashCode hashCode = Hashing.sha1().hashString( key, StandardCharsets.UTF_8 );
         final String hash = HexEncoder.toHex( hashCode.asBytes() );
-        return Paths.get( homeDir, "work", "cache", "img", hash.substring( 0, 2 ), hash.substring( 2, 4 ), hash.substring( 4, 6 ),
-                          hash ).toAbsolutePath();
+        return this.cacheDir.resolve( Paths.get( hash.substring( 0, 2 ), hash.substring( 2, 4 ), hash.substring( 4, 6 ), hash ) );
     }
 
     private BufferedImage readBufferedImage( final ByteSource blob, final ReadImageParams readImageParams )
         throws IOException
     {
-        //Retrieves the buffered image
-        BufferedImage bufferedImage = retrieveBufferedImage( blob );
+        //Retrieves the buffered image, cropped while decoding when it is not rotated
+        final boolean cropOnDecode = readImageParams.getCropping() != null && readImageParams.getOrientation() == ImageOrientation.TopLeft;
+        BufferedImage bufferedImage = retrieveBufferedImage( blob, readImageParams, cropOnDecode );
 
         if ( bufferedImage != null )
         {
@@ -153,7 +242,7 @@ public class ImageServiceImpl
             }
 
             //Apply the cropping
-            if ( readImageParams.getCropping() != null )
+            if ( readImageParams.getCropping() != null && !cropOnDecode )
             {
                 bufferedImage = applyCropping( bufferedImage, readImageParams.getCropping() );
             }
@@ -185,13 +274,97 @@ public class ImageServiceImpl
         return bufferedImage;
     }
 
-    private BufferedImage retrieveBufferedImage( final ByteSource blob )
+    private BufferedImage retrieveBufferedImage( final ByteSource blob, final ReadImageParams readImageParams, final boolean cropOnDecode )
         throws IOException
     {
-        try (final InputStream inputStream = blob.openStream())
+        try (final InputStream inputStream = blob.openStream(); final ImageInputStream imageInputStream = ImageIO.createImageInputStream(
+            inputStream ))
+        {
+            final Iterator<ImageReader> imageReaders = imageInputStream != null ? ImageIO.getImageReaders( imageInputStream ) : null;
+            if ( imageReaders == null || !imageReaders.hasNext() )
+            {
+                return null;
+            }
+
+            final ImageReader imageReader = imageReaders.next();
+            try
+            {
+                imageReader.setInput( imageInputStream, true, true );
+                final ImageReadParam imageReadParam = imageReader.getDefaultReadParam();
+                final int width = imageReader.getWidth( 0 );
+                final int height = imageReader.getHeight( 0 );
+
+                final Cropping cropping = readImageParams.getCropping();
+                if ( cropOnDecode )
+                {
+                    imageReadParam.setSourceRegion( new Rectangle( (int) ( width * cropping.left() ), (int) ( height * cropping.top() ),
+                                                                   (int) ( width * cropping.width() ),
+                                                                   (int) ( height * cropping.height() ) ) );
+                }
+
+                final int subsampling = getSubsampling( width, height, readImageParams );
+                if ( subsampling > 1 )
+                {
+                    imageReadParam.setSourceSubsampling( subsampling, subsampling, 0, 0 );
+                }
+
+                return imageReader.read( 0, imageReadParam );
+            }
+            finally
+            {
+                imageReader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Only every n-th pixel of images that are much larger than the size they are scaled to is decoded.
+     */
+    private int getSubsampling( final int width, final int height, final ReadImageParams readImageParams )
+    {
+        final int targetSize = getTargetSize( readImageParams );
+        if ( targetSize <= 0 )
+        {
+            return 1;
+        }
+
+        // orientations from LeftTop on swap width and height
+        final boolean rotated = readImageParams.getOrientation().getValue() >= ImageOrientation.LeftTop.getValue();
+        double scaledWidth = rotated ? height : width;
+        double scaledHeight = rotated ? width : height;
+        if ( readImageParams.getCropping() != null )
+        {
+            scaledWidth *= readImageParams.getCropping().width();
+            scaledHeight *= readImageParams.getCropping().height();
+        }
+
+        return Math.max( 1, (int) ( Math.min( scaledWidth, scaledHeight ) / ( (long) targetSize * SUBSAMPLING_MARGIN ) ) );
+    }
+
+    private int getTargetSize( final ReadImageParams readImageParams )
+    {
+        final ScaleParams scaleParams = readImageParams.getScaleParams();
+        if ( scaleParams != null )
+        {
+            return SCALE_FUNCTIONS.contains( scaleParams.getName() ) ? Math.max( getIntArgument( scaleParams, 0 ),
+                                                                                 getIntArgument( scaleParams, 1 ) ) : 0;
+        }
+        return readImageParams.getScaleSize();
+    }
+
+    private int getIntArgument( final ScaleParams scaleParams, final int index )
+    {
+        final Object[] arguments = scaleParams.getArguments();
+        if ( arguments == null || arguments.length <= index || arguments[index] == null )
+        {
+            return 0;
+        }
+        if ( arguments[index] instanceof Number )
         {
-            return ImageHelper.toBufferedImage( inputStream );
+            return ( (Number) arguments[index] ).intValue();
         }
+        final Integer value = Ints.tryParse( arguments[index].toString().trim() );
+        return value != null ? value : 0;
     }
 
 
@@ -0,0 +1,233 @@
+package com.enonic.xp.core.impl.image;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.google.common.io.ByteSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImageCacheTest
+{
+    @TempDir
+    public Path temporaryFolder;
+
+    private ImageCache imageCache;
+
+    private int supplierCall;
+
+    @BeforeEach
+    public void setUp()
+    {
+        imageCache = new ImageCache( temporaryFolder, 100 );
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        imageCache.shutdown();
+    }
+
+    @Test
+    public void test_computeIfAbsent()
+        throws Exception
+    {
+        supplierCall = 0;
+
+        final byte[] bytes = new byte[]{2, 3, 5, 7, 13};
+        final ByteSource source = ByteSource.wrap( bytes );
+        Path path = temporaryFolder.resolve( "a" ).resolve( "file.txt" );
+
+        SupplierWithException<ByteSource, Exception> supplier = () -> {
+            supplierCall++;
+            return ByteSource.wrap( bytes );
+        };
+
+        ByteSource byteSource = imageCache.computeIfAbsent( path, supplier );
+        assertTrue( supplierCall == 1 );
+        assertTrue( source.contentEquals( byteSource ) );
+
+        byteSource = imageCache.computeIfAbsent( path, supplier );
+        assertTrue( supplierCall == 1 );
+        assertTrue( source.contentEquals( byteSource ) );
+        assertEquals( 5, imageCache.getResidentBytes() );
+    }
+
+    @Test
+    public void test_incorrect_computeIfAbsent()
+        throws Exception
+    {
+        Path path = temporaryFolder.resolve( "unknown_file.txt" );
+        SupplierWithException<ByteSource, Exception> supplier = () -> null;
+
+        ByteSource byteSource = imageCache.computeIfAbsent( path, supplier );
+        assertNull( byteSource );
+        assertFalse( Files.exists( path ) );
+    }
+
+    @Test
+    public void test_failed_computeIfAbsent()
+        throws Exception
+    {
+        final Path path = temporaryFolder.resolve( "file.txt" );
+
+        assertThrows( IllegalStateException.class, () -> imageCache.computeIfAbsent( path, () -> {
+            throw new IllegalStateException();
+        } ) );
+
+        final ByteSource byteSource = imageCache.computeIfAbsent( path, () -> ByteSource.wrap( new byte[]{1} ) );
+        assertEquals( 1, byteSource.size() );
+    }
+
+    @Test
+    public void concurrent_requests_generate_once()
+        throws Exception
+    {
+        final Path path = temporaryFolder.resolve( "file.txt" );
+        final AtomicInteger generated = new AtomicInteger();
+        final CountDownLatch generating = new CountDownLatch( 1 );
+        final CountDownLatch release = new CountDownLatch( 1 );
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 4 );
+        try
+        {
+            final List<Future<ByteSource>> results = new ArrayList<>();
+            results.add( executor.submit( () -> imageCache.computeIfAbsent( path, () -> {
+                generated.incrementAndGet();
+                generating.countDown();
+                release.await();
+                return ByteSource.wrap( new byte[]{1, 2, 3} );
+            } ) ) );
+
+            generating.await();
+            for ( int i = 0; i < 3; i++ )
+            {
+                results.add( executor.submit( () -> imageCache.computeIfAbsent( path, () -> {
+                    generated.incrementAndGet();
+                    return ByteSource.wrap( new byte[]{1, 2, 3} );
+                } ) ) );
+            }
+
+            // an other image is not blocked by the one being generated
+            assertEquals( 1, imageCache.computeIfAbsent( temporaryFolder.resolve( "other.txt" ), () -> ByteSource.wrap( new byte[]{1} ) ).
+                size() );
+
+            release.countDown();
+            for ( Future<ByteSource> result : results )
+            {
+                assertEquals( 3, result.get( 10, TimeUnit.SECONDS ).size() );
+            }
+            assertEquals( 1, generated.get() );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void least_recently_used_evicted()
+        throws Exception
+    {
+        final Path first = temporaryFolder.resolve( "first.txt" );
+        final Path second = temporaryFolder.resolve( "second.txt" );
+        final Path third = temporaryFolder.resolve( "third.txt" );
+
+        imageCache.computeIfAbsent( first, () -> ByteSource.wrap( new byte[40] ) );
+        Thread.sleep( 5 );
+        imageCache.computeIfAbsent( second, () -> ByteSource.wrap( new byte[40] ) );
+        Thread.sleep( 5 );
+        imageCache.computeIfAbsent( first, () -> null );
+        imageCache.computeIfAbsent( third, () -> ByteSource.wrap( new byte[40] ) );
+
+        imageCache.shutdown();
+
+        assertTrue( Files.exists( first ) );
+        assertFalse( Files.exists( second ) );
+        assertTrue( Files.exists( third ) );
+        assertEquals( 80, imageCache.getResidentBytes() );
+        assertEquals( 1, imageCache.getEvictionCount() );
+    }
+
+    @Test
+    public void evicted_while_reading_regenerated()
+        throws Exception
+    {
+        final Path first = temporaryFolder.resolve( "first.txt" );
+        final AtomicInteger generated = new AtomicInteger();
+        final SupplierWithException<ByteSource, Exception> supplier = () -> {
+            generated.incrementAndGet();
+            return ByteSource.wrap( new byte[]{1, 2, 3} );
+        };
+
+        imageCache.computeIfAbsent( first, supplier );
+        final ByteSource cached = imageCache.computeIfAbsent( first, supplier );
+        assertEquals( 1, generated.get() );
+
+        Thread.sleep( 5 );
+        imageCache.computeIfAbsent( temporaryFolder.resolve( "second.txt" ), () -> ByteSource.wrap( new byte[50] ) );
+        imageCache.computeIfAbsent( temporaryFolder.resolve( "third.txt" ), () -> ByteSource.wrap( new byte[50] ) );
+
+        final long timeout = System.currentTimeMillis() + 10_000;
+        while ( Files.exists( first ) && System.currentTimeMillis() < timeout )
+        {
+            Thread.sleep( 5 );
+        }
+        assertFalse( Files.exists( first ) );
+
+        assertEquals( 3, cached.size() );
+        assertTrue( ByteSource.wrap( new byte[]{1, 2, 3} ).contentEquals( cached ) );
+        assertEquals( 2, generated.get() );
+    }
+
+    @Test
+    public void indexed_image_without_file_regenerated()
+        throws Exception
+    {
+        final Path path = temporaryFolder.resolve( "file.txt" );
+        final AtomicInteger generated = new AtomicInteger();
+        final SupplierWithException<ByteSource, Exception> supplier = () -> {
+            generated.incrementAndGet();
+            return ByteSource.wrap( new byte[]{1, 2, 3} );
+        };
+
+        imageCache.computeIfAbsent( path, supplier );
+        Files.delete( path );
+
+        final ByteSource byteSource = imageCache.computeIfAbsent( path, supplier );
+        assertEquals( 2, generated.get() );
+        assertEquals( 3, byteSource.size() );
+        assertTrue( Files.exists( path ) );
+        assertEquals( 3, imageCache.getResidentBytes() );
+    }
+
+    @Test
+    public void existing_images_loaded()
+        throws Exception
+    {
+        imageCache.computeIfAbsent( temporaryFolder.resolve( "a" ).resolve( "file.txt" ), () -> ByteSource.wrap( new byte[10] ) );
+        imageCache.shutdown();
+
+        imageCache = new ImageCache( temporaryFolder, 100 );
+        imageCache.shutdown();
+
+        assertEquals( 10, imageCache.getResidentBytes() );
+    }
+}
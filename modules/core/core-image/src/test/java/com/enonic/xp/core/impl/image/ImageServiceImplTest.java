@@ -1,8 +1,19 @@
 package com.enonic.xp.core.impl.image;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -14,11 +25,16 @@ import com.google.common.io.ByteStreams;
 import com.enonic.xp.content.ContentId;
 import com.enonic.xp.content.ContentService;
 import com.enonic.xp.image.Cropping;
+import com.enonic.xp.image.ImageHelper;
 import com.enonic.xp.image.ReadImageParams;
 import com.enonic.xp.media.ImageOrientation;
 import com.enonic.xp.util.BinaryReference;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class ImageServiceImplTest
 {
@@ -58,6 +74,13 @@ public class ImageServiceImplTest
         imageService = new ImageServiceImpl();
         imageService.setContentService( contentService );
         imageService.setImageFilterBuilder( imageFilterBuilder );
+        imageService.activate( Mockito.mock( ImageConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
+    }
+
+    @AfterEach
+    public void tearDown()
+    {
+        imageService.deactivate();
     }
 
     @Test
@@ -98,5 +121,83 @@ public class ImageServiceImplTest
         Mockito.verify( imageFilter ).filter( Mockito.any() );
     }
 
+    @Test
+    public void testReadImageSubsampled()
+        throws IOException
+    {
+        final BufferedImage largeImage = new BufferedImage( 2000, 1000, BufferedImage.TYPE_INT_RGB );
+        Mockito.when( contentService.getBinary( contentId, binaryReference ) ).
+            thenReturn( ByteSource.wrap( ImageHelper.writeImage( largeImage, "png", 100 ) ) );
+
+        final ReadImageParams readImageParams = ReadImageParams.newImageParams().
+            contentId( contentId ).
+            binaryReference( binaryReference ).
+            cropping( Cropping.create().top( 0 ).bottom( 0.5 ).left( 0 ).right( 0.5 ).build() ).
+            scaleSize( 100 ).
+            scaleWidth( true ).
+            mimeType( "image/png" ).
+            build();
+
+        final BufferedImage image = ImageIO.read( new ByteArrayInputStream( imageService.readImage( readImageParams ).read() ) );
+        assertEquals( 100, image.getWidth() );
+        assertEquals( 50, image.getHeight() );
+    }
+
+    @Test
+    public void testReadImageRejectedWhenSaturated()
+        throws Exception
+    {
+        final ImageConfig config = Mockito.mock( ImageConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        Mockito.when( config.process_threads() ).thenReturn( 1 );
+        Mockito.when( config.process_queueSize() ).thenReturn( 1 );
+        imageService.deactivate();
+        imageService.activate( config );
+
+        final CountDownLatch processing = new CountDownLatch( 1 );
+        final CountDownLatch release = new CountDownLatch( 1 );
+        Mockito.when( contentService.getBinary( contentId, binaryReference ) ).thenAnswer( invocation -> {
+            processing.countDown();
+            release.await();
+            return ByteSource.wrap( imageDataOriginal );
+        } );
+
+        final ExecutorService requests = Executors.newFixedThreadPool( 3 );
+        try
+        {
+            final CompletableFuture<ByteSource> processed = CompletableFuture.supplyAsync( () -> readImage( 1 ), requests );
+            processing.await();
+
+            // one of them is queued, the other one is rejected right away
+            final CompletableFuture<ByteSource> second = CompletableFuture.supplyAsync( () -> readImage( 2 ), requests );
+            final CompletableFuture<ByteSource> third = CompletableFuture.supplyAsync( () -> readImage( 3 ), requests );
+            final ExecutionException rejected =
+                assertThrows( ExecutionException.class, () -> CompletableFuture.anyOf( second, third ).get() );
+            assertTrue( rejected.getCause() instanceof RejectedExecutionException );
+
+            release.countDown();
+            assertNotNull( processed.get() );
+            assertNotNull( ( second.isCompletedExceptionally() ? third : second ).get() );
+        }
+        finally
+        {
+            requests.shutdownNow();
+        }
+    }
 
+    private ByteSource readImage( final int quality )
+    {
+        try
+        {
+            return imageService.readImage( ReadImageParams.newImageParams().
+                contentId( contentId ).
+                binaryReference( binaryReference ).
+                mimeType( "image/png" ).
+                quality( quality ).
+                build() );
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( e );
+        }
+    }
 }
@@ -43,6 +43,25 @@ public final class SimpleRecurringJobScheduler
         return new WrappedScheduledFuture( scheduledFuture );
     }
 
+    /**
+     * Schedules one-shot job. Returned {@link RecurringJob} can be used to cancel execution if it has not started yet.
+     *
+     * @param command          one-shot {@link Runnable}
+     * @param delay            time to delay execution
+     * @param exceptionHandler should be used primarily for logging of uncaught Exceptions
+     * @param errorHandler     should be used primarily for logging of uncaught Errors
+     * @return RecurringJob which is possible to cancel
+     */
+    public RecurringJob schedule( final Runnable command, final Duration delay, Consumer<Exception> exceptionHandler,
+                                  Consumer<Throwable> errorHandler )
+    {
+        final ScheduledFuture<?> scheduledFuture =
+            scheduledExecutorService.schedule( new WrappedRunnable( command, exceptionHandler, errorHandler ), delay.toMillis(),
+                                               TimeUnit.MILLISECONDS );
+
+        return new WrappedScheduledFuture( scheduledFuture );
+    }
+
     /**
      * Shuts down {@link ScheduledExecutorService}
      *
@@ -88,6 +88,20 @@ class SimpleRecurringJobSchedulerTest
         assertNull( unexpectedException.get(), "Exception is not expected" );
     }
 
+    @Test
+    void schedule_runs_once()
+    {
+        final AtomicReference<Throwable> unexpectedException = new AtomicReference<>();
+        final Phaser phaser = new Phaser( 2 );
+
+        simpleRecurringJobScheduler.schedule( phaser::arriveAndAwaitAdvance, DELAY, unexpectedException::set, unexpectedException::set );
+
+        phaser.arriveAndAwaitAdvance();
+
+        assertTrue( scheduledThreadPoolExecutor.getQueue().isEmpty() );
+        assertNull( unexpectedException.get(), "Exception is not expected" );
+    }
+
     private ScheduledExecutorService wrappedScheduledExecutorService( ThreadFactory threadFactory )
     {
         scheduledThreadPoolExecutor = new ScheduledThreadPoolExecutor( 1, threadFactory );
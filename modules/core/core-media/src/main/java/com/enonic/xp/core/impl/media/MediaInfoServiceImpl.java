@@ -6,9 +6,12 @@ import java.util.Set;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.io.ByteSource;
 import com.google.common.net.HttpHeaders;
 
+import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.content.Media;
 import com.enonic.xp.extractor.BinaryExtractor;
 import com.enonic.xp.extractor.ExtractedData;
@@ -21,6 +24,23 @@ import com.enonic.xp.util.Exceptions;
 public final class MediaInfoServiceImpl
     implements MediaInfoService
 {
+    private static final long EXTRACTED_TEXT_CACHE_WEIGHT = 10_000_000;
+
+    private static final long EXTRACTED_METADATA_CACHE_SIZE = 1000;
+
+    /**
+     * Extraction results by blob key, which is the hash of the binary. Uploading, storing and rendering the same binary
+     * then extracts it once.
+     */
+    private final Cache<BlobKey, ExtractedData> extracted = CacheBuilder.newBuilder().
+        maximumWeight( EXTRACTED_TEXT_CACHE_WEIGHT ).
+        weigher( ( BlobKey key, ExtractedData data ) -> 1 + ( data.getText() != null ? data.getText().length() : 0 ) ).
+        build();
+
+    private final Cache<BlobKey, ExtractedData> extractedMetadata = CacheBuilder.newBuilder().
+        maximumSize( EXTRACTED_METADATA_CACHE_SIZE ).
+        build();
+
     private BinaryExtractor binaryExtractor;
 
     @Override
@@ -28,7 +48,7 @@ public final class MediaInfoServiceImpl
     {
         final MediaInfo.Builder builder = MediaInfo.create();
 
-        final ExtractedData extractedData = binaryExtractor.extract( byteSource );
+        final ExtractedData extractedData = extract( byteSource, false );
 
         addMetadata( byteSource, builder, extractedData );
         builder.setTextContent( extractedData.getText() );
@@ -36,6 +56,43 @@ public final class MediaInfoServiceImpl
         return builder.build();
     }
 
+    @Override
+    public MediaInfo parseMediaMetadata( final ByteSource byteSource )
+    {
+        final MediaInfo.Builder builder = MediaInfo.create();
+
+        addMetadata( byteSource, builder, extract( byteSource, true ) );
+
+        return builder.build();
+    }
+
+    private ExtractedData extract( final ByteSource byteSource, final boolean metadataOnly )
+    {
+        final BlobKey blobKey = BlobKey.from( byteSource );
+
+        // a full result answers metadata requests as well
+        final ExtractedData cached = this.extracted.getIfPresent( blobKey );
+        if ( cached != null )
+        {
+            return cached;
+        }
+
+        if ( metadataOnly )
+        {
+            ExtractedData metadata = this.extractedMetadata.getIfPresent( blobKey );
+            if ( metadata == null )
+            {
+                metadata = binaryExtractor.extractMetadata( byteSource );
+                this.extractedMetadata.put( blobKey, metadata );
+            }
+            return metadata;
+        }
+
+        final ExtractedData extractedData = binaryExtractor.extract( byteSource );
+        this.extracted.put( blobKey, extractedData );
+        return extractedData;
+    }
+
     private void addMetadata( final ByteSource byteSource, final MediaInfo.Builder builder, final ExtractedData extractedData )
     {
         builder.mediaType( extractedData.get( HttpHeaders.CONTENT_TYPE ) );
@@ -59,7 +116,7 @@ public final class MediaInfoServiceImpl
     @Override
     public ImageOrientation getImageOrientation( ByteSource byteSource )
     {
-        final ExtractedData extractedData = binaryExtractor.extract( byteSource );
+        final ExtractedData extractedData = extract( byteSource, true );
         final String orientation = extractedData.getImageOrientation();
 
         if ( ImageOrientation.isValid( orientation ) )
@@ -1,5 +1,7 @@
 package com.enonic.xp.core.impl.media;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -30,12 +32,15 @@ public class MediaInfoServiceTest
 {
     private MediaInfoServiceImpl service;
 
+    private int extractions;
+
     @BeforeEach
     public void setup()
     {
         this.service = new MediaInfoServiceImpl();
         service.setBinaryExtractor( source ->
                                     {
+                                        extractions++;
                                         Map<String, List<String>> data = new HashMap<>();
                                         data.put( HttpHeaders.CONTENT_TYPE, List.of( "image/jpeg" ) );
                                         data.put( "myExtractedValue", List.of( "fisk" ) );
@@ -83,6 +88,19 @@ public class MediaInfoServiceTest
         assertEquals( 3, orientation.getValue() );
     }
 
+    @Test
+    public void extractionCachedByBinary()
+    {
+        final ByteSource byteSource = Resources.asByteSource( getClass().getResource( "NikonD100.jpg" ) );
+
+        assertEquals( "myTextValue", this.service.parseMediaInfo( byteSource ).getTextContent() );
+        assertEquals( "myTextValue", this.service.parseMediaInfo( ByteSource.wrap( readBytes( byteSource ) ) ).getTextContent() );
+        assertEquals( "image/jpeg", this.service.parseMediaMetadata( byteSource ).getMediaType() );
+        assertEquals( 1, this.service.getImageOrientation( byteSource ).getValue() );
+
+        assertEquals( 1, this.extractions );
+    }
+
     @Test
     public void multiple_colorSpace_entries()
     {
@@ -97,6 +115,18 @@ public class MediaInfoServiceTest
         final MediaInfo mediaInfo = this.service.parseMediaInfo( byteSource );
     }
 
+    private byte[] readBytes( final ByteSource byteSource )
+    {
+        try
+        {
+            return byteSource.read();
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+
     private Media createMedia( String name, ContentPath parentPath, boolean addOrientation )
     {
         final PropertyTree imageDataTree = new PropertyTree();
@@ -1,11 +1,14 @@
 package com.enonic.xp.repo.impl.branch;
 
+import java.util.Collection;
+
 import com.enonic.xp.node.NodeBranchEntries;
 import com.enonic.xp.node.NodeBranchEntry;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodeIds;
 import com.enonic.xp.node.NodePath;
 import com.enonic.xp.node.NodePaths;
+import com.enonic.xp.node.PushNodeEntry;
 import com.enonic.xp.repo.impl.InternalContext;
 
 public interface BranchService
@@ -14,6 +17,8 @@ public interface BranchService
 
     String store( final NodeBranchEntry nodeBranchEntry, final NodePath previousPath, final InternalContext context );
 
+    void store( final Collection<PushNodeEntry> pushNodeEntries, final InternalContext context );
+
     void delete( final NodeId nodeId, final InternalContext context );
 
     void delete( final NodeIds nodeIds, final InternalContext context );
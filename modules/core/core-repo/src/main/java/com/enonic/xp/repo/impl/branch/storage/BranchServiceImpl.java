@@ -1,7 +1,9 @@
 package com.enonic.xp.repo.impl.branch.storage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -21,6 +23,7 @@ import com.enonic.xp.node.NodeIndexPath;
 import com.enonic.xp.node.NodeNotFoundException;
 import com.enonic.xp.node.NodePath;
 import com.enonic.xp.node.NodePaths;
+import com.enonic.xp.node.PushNodeEntry;
 import com.enonic.xp.query.filter.IdFilter;
 import com.enonic.xp.query.filter.ValueFilter;
 import com.enonic.xp.repo.impl.InternalContext;
@@ -44,6 +47,7 @@ import com.enonic.xp.repo.impl.storage.GetResult;
 import com.enonic.xp.repo.impl.storage.StaticStorageType;
 import com.enonic.xp.repo.impl.storage.StorageDao;
 import com.enonic.xp.repo.impl.storage.StoreRequest;
+import com.enonic.xp.repo.impl.storage.StoreRequests;
 import com.enonic.xp.repo.impl.storage.StoreStorageName;
 
 @Component
@@ -106,6 +110,74 @@ public class BranchServiceImpl
         return id;
     }
 
+    @Override
+    public void store( final Collection<PushNodeEntry> pushNodeEntries, final InternalContext context )
+    {
+        if ( pushNodeEntries.isEmpty() )
+        {
+            return;
+        }
+
+        for ( final PushNodeEntry pushNodeEntry : pushNodeEntries )
+        {
+            final NodePath previousPath = pushNodeEntry.getCurrentTargetPath();
+            if ( previousPath != null && !previousPath.equals( pushNodeEntry.getNodeBranchEntry().getNodePath() ) )
+            {
+                this.pathCache.evict( createPath( previousPath, context ) );
+            }
+        }
+
+        final List<NodeBranchEntry> nodeBranchEntries =
+            pushNodeEntries.stream().map( PushNodeEntry::getNodeBranchEntry ).collect( Collectors.toList() );
+
+        if ( context.isSkipConstraints() )
+        {
+            doStore( nodeBranchEntries, context, false );
+        }
+        else
+        {
+            final Set<NodePath> parentPaths =
+                nodeBranchEntries.stream().map( entry -> entry.getNodePath().getParentPath() ).collect( Collectors.toSet() );
+            synchronizeByPaths( parentPaths, () -> doStore( nodeBranchEntries, context, true ) );
+        }
+    }
+
+    private void doStore( final List<NodeBranchEntry> nodeBranchEntries, final InternalContext context, final boolean validate )
+    {
+        if ( validate )
+        {
+            nodeBranchEntries.forEach( nodeBranchEntry -> verifyNotExistingNodeWithOtherId( nodeBranchEntry, context ) );
+        }
+
+        final List<StoreRequest> storeRequests = nodeBranchEntries.stream().
+            map( nodeBranchEntry -> BranchStorageRequestFactory.create( nodeBranchEntry, context ) ).
+            collect( Collectors.toList() );
+
+        this.storageDao.store( StoreRequests.create().
+            requests( storeRequests ).
+            build() );
+
+        for ( int i = 0; i < nodeBranchEntries.size(); i++ )
+        {
+            doCache( context, nodeBranchEntries.get( i ).getNodePath(), BranchDocumentId.from( storeRequests.get( i ).getId() ) );
+        }
+    }
+
+    private void synchronizeByPaths( final Set<NodePath> paths, final Runnable callback )
+    {
+        // bulkGet returns the locks in a fixed order, so concurrent batches can not deadlock
+        final Iterable<Lock> locks = PARENT_PATH_LOCKS.bulkGet( paths );
+        locks.forEach( Lock::lock );
+        try
+        {
+            callback.run();
+        }
+        finally
+        {
+            locks.forEach( Lock::unlock );
+        }
+    }
+
     private <T> T synchronizeByPath( final NodePath path, final Supplier<T> callback )
     {
         final Lock lock = PARENT_PATH_LOCKS.get( path );
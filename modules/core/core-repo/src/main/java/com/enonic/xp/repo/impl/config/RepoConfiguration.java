@@ -5,4 +5,8 @@ import java.io.File;
 public interface RepoConfiguration
 {
     File getSnapshotsDir();
+
+    long getNodeVersionCacheCapacity();
+
+    int getReindexThreads();
 }
@@ -9,6 +9,7 @@ import org.osgi.service.component.annotations.Component;
 import com.enonic.xp.config.ConfigBuilder;
 import com.enonic.xp.config.ConfigInterpolator;
 import com.enonic.xp.config.Configuration;
+import com.enonic.xp.util.ByteSizeParser;
 
 @Component(configurationPid = "com.enonic.xp.repo")
 public final class RepoConfigurationImpl
@@ -22,11 +23,28 @@ public final class RepoConfigurationImpl
         return getFileProperty( "snapshots.dir" );
     }
 
+    @Override
+    public long getNodeVersionCacheCapacity()
+    {
+        return getSizeProperty( "nodeVersionCache.memoryCapacity" );
+    }
+
+    @Override
+    public int getReindexThreads()
+    {
+        return Integer.parseInt( this.config.get( "reindex.threads" ) );
+    }
+
     private File getFileProperty( final String name )
     {
         return new File( this.config.get( name ) );
     }
 
+    private long getSizeProperty( final String name )
+    {
+        return ByteSizeParser.parse( this.config.get( name ) );
+    }
+
     @Activate
     public void activate( final Map<String, String> map )
     {
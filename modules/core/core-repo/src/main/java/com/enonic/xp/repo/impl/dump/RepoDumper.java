@@ -8,6 +8,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,7 +34,10 @@ import com.enonic.xp.node.GetActiveNodeVersionsParams;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeCommitEntries;
 import com.enonic.xp.node.NodeCommitQuery;
+import com.enonic.xp.node.NodeHit;
 import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeIndexPath;
+import com.enonic.xp.node.NodeQuery;
 import com.enonic.xp.node.NodeService;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.node.NodeVersionId;
@@ -41,6 +45,10 @@ import com.enonic.xp.node.NodeVersionMetadata;
 import com.enonic.xp.node.NodeVersionQuery;
 import com.enonic.xp.node.NodeVersionQueryResult;
 import com.enonic.xp.node.RefreshMode;
+import com.enonic.xp.query.expr.CompareExpr;
+import com.enonic.xp.query.expr.FieldExpr;
+import com.enonic.xp.query.expr.QueryExpr;
+import com.enonic.xp.query.expr.ValueExpr;
 import com.enonic.xp.query.filter.RangeFilter;
 import com.enonic.xp.repo.impl.dump.model.BranchDumpEntry;
 import com.enonic.xp.repo.impl.dump.model.CommitDumpEntry;
@@ -55,6 +63,8 @@ class RepoDumper
 {
     private static final Logger LOG = LoggerFactory.getLogger( RepoDumper.class );
 
+    private static final int STREAM_BATCH_SIZE = 100;
+
     private final RepositoryId repositoryId;
 
     private final boolean includeVersions;
@@ -141,7 +151,7 @@ class RepoDumper
         final FindNodesByParentResult children = this.nodeService.findByParent( FindNodesByParentParams.create().
             parentId( rootNode.id() ).
             recursive( true ).
-            childOrder( ChildOrder.from( "_path asc" ) ).
+            countOnly( true ).
             build() );
 
         final Branch branch = ContextAccessor.current().getBranch();
@@ -151,13 +161,25 @@ class RepoDumper
         doDumpNode( rootNode.id(), dumpResult );
         nodeIdsAccumulator.accept( rootNode.id() );
 
-        for ( final NodeId child : children.getNodeIds() )
+        try (Stream<NodeHit> childHits = this.nodeService.streamByQuery( createAllChildrenQuery() ))
         {
-            doDumpNode( child, dumpResult );
-            nodeIdsAccumulator.accept( child );
+            childHits.map( NodeHit::getNodeId ).forEach( child -> {
+                doDumpNode( child, dumpResult );
+                nodeIdsAccumulator.accept( child );
+            } );
         }
     }
 
+    private NodeQuery createAllChildrenQuery()
+    {
+        // small pages, the scroll context expires if dumping a page takes too long
+        return NodeQuery.create().
+            query( QueryExpr.from( CompareExpr.like( FieldExpr.from( NodeIndexPath.PARENT_PATH ), ValueExpr.string( "/*" ) ) ) ).
+            setOrderExpressions( ChildOrder.from( "_path asc" ).getOrderExpressions() ).
+            batchSize( STREAM_BATCH_SIZE ).
+            build();
+    }
+
     private void dumpVersions( final Collection<NodeId> dumpedNodes )
     {
         writer.openVersionsMeta( this.repositoryId );
@@ -1,8 +1,13 @@
 package com.enonic.xp.repo.impl.elasticsearch.executor;
 
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.Client;
 import org.elasticsearch.common.unit.TimeValue;
@@ -33,37 +38,140 @@ class ScrollExecutor
 
     public SearchResult execute( final ElasticsearchQuery query )
     {
-        final SearchRequestBuilder searchRequestBuilder = createScrollRequest( query );
+        final SearchHits.Builder searchHitsBuilder = SearchHits.create();
+        long totalHits = 0;
+        float maxScore = 0;
 
-        SearchResponse scrollResp = searchRequestBuilder.
-            execute().
-            actionGet();
+        try (Stream<SearchResult> pages = stream( query ))
+        {
+            final Iterator<SearchResult> iterator = pages.iterator();
+            while ( iterator.hasNext() )
+            {
+                final SearchResult page = iterator.next();
+                searchHitsBuilder.addAll( page.getHits() );
+                totalHits = page.getTotalHits();
+                maxScore = page.getMaxScore();
+            }
+        }
 
-        final SearchHits.Builder searchHitsBuilder = SearchHits.create();
+        return SearchResult.create().
+            hits( searchHitsBuilder.build() ).
+            totalHits( totalHits ).
+            maxScore( maxScore ).
+            build();
+    }
+
+    /**
+     * Returns the result pages of the query. Pages are fetched lazily while the stream is consumed,
+     * the stream must be closed to release the scroll context if not fully consumed.
+     */
+    public Stream<SearchResult> stream( final ElasticsearchQuery query )
+    {
+        final ScrollIterator iterator = new ScrollIterator( query );
+        return StreamSupport.stream( Spliterators.spliteratorUnknownSize( iterator, Spliterator.ORDERED | Spliterator.NONNULL ), false ).
+            onClose( iterator::close );
+    }
+
+    private final class ScrollIterator
+        implements Iterator<SearchResult>
+    {
+        private final ElasticsearchQuery query;
+
+        private SearchResponse scrollResp;
+
+        private SearchResult next;
+
+        private boolean done;
 
-        while ( true )
+        ScrollIterator( final ElasticsearchQuery query )
         {
-            LOG.debug( "Scrolling, got " + scrollResp.getHits().hits().length + " hits" );
+            this.query = query;
+        }
 
-            searchHitsBuilder.addAll( SearchHitsFactory.create( scrollResp.getHits() ) );
+        @Override
+        public boolean hasNext()
+        {
+            if ( next == null && !done )
+            {
+                try
+                {
+                    next = fetchNext();
+                }
+                catch ( RuntimeException e )
+                {
+                    close();
+                    throw e;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public SearchResult next()
+        {
+            if ( !hasNext() )
+            {
+                throw new NoSuchElementException();
+            }
 
-            scrollResp = client.prepareSearchScroll( scrollResp.getScrollId() ).
-                setScroll( DEFAULT_SCROLL_TIME ).
-                execute().
-                actionGet();
+            final SearchResult result = next;
+            next = null;
+            return result;
+        }
 
-            if ( scrollResp.getHits().getHits().length == 0 )
+        private SearchResult fetchNext()
+        {
+            while ( true )
             {
-                clearScroll( scrollResp );
-                break;
+                final boolean initial = scrollResp == null;
+
+                if ( initial )
+                {
+                    scrollResp = createScrollRequest( query ).
+                        execute().
+                        actionGet();
+                }
+                else
+                {
+                    scrollResp = client.prepareSearchScroll( scrollResp.getScrollId() ).
+                        setScroll( DEFAULT_SCROLL_TIME ).
+                        execute().
+                        actionGet();
+                }
+
+                final org.elasticsearch.search.SearchHits hits = scrollResp.getHits();
+
+                LOG.debug( "Scrolling, got " + hits.hits().length + " hits" );
+
+                if ( hits.getHits().length > 0 )
+                {
+                    return SearchResult.create().
+                        hits( SearchHitsFactory.create( hits ) ).
+                        totalHits( hits.getTotalHits() ).
+                        maxScore( hits.maxScore() ).
+                        build();
+                }
+
+                // first response of a scan has no hits
+                if ( !initial )
+                {
+                    close();
+                    return null;
+                }
             }
         }
 
-        return SearchResult.create().
-            hits( searchHitsBuilder.build() ).
-            totalHits( scrollResp.getHits().getTotalHits() ).
-            maxScore( scrollResp.getHits().maxScore() ).
-            build();
+        void close()
+        {
+            if ( !done )
+            {
+                done = true;
+                if ( scrollResp != null )
+                {
+                    clearScroll( scrollResp );
+                }
+            }
+        }
     }
 
     public static class Builder
@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.elasticsearch.executor;
 
+import java.util.stream.Stream;
+
 import org.elasticsearch.action.search.SearchRequestBuilder;
 import org.elasticsearch.client.Client;
 import org.slf4j.Logger;
@@ -63,6 +65,15 @@ public class SearchExecutor
         return doSearch( query );
     }
 
+    public Stream<SearchResult> stream( final SearchRequest searchRequest )
+    {
+        final ElasticsearchQuery query = ESQueryTranslator.translate( searchRequest );
+
+        return ScrollExecutor.create( this.client ).
+            build().
+            stream( query );
+    }
+
     private SearchResult doSearch( final ElasticsearchQuery query )
     {
         final SearchRequestBuilder searchRequestBuilder = SearchRequestBuilderFactory.newFactory().
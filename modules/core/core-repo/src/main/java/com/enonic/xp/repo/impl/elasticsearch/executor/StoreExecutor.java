@@ -1,14 +1,18 @@
 package com.enonic.xp.repo.impl.elasticsearch.executor;
 
 import java.util.Collection;
+import java.util.List;
 
-import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.client.Client;
 import org.elasticsearch.client.Requests;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Iterables;
+
 import com.enonic.xp.repo.impl.elasticsearch.document.IndexDocument;
 import com.enonic.xp.repo.impl.elasticsearch.xcontent.StoreDocumentXContentBuilderFactory;
 import com.enonic.xp.repository.IndexException;
@@ -18,6 +22,8 @@ public class StoreExecutor
 {
     private final static Logger LOG = LoggerFactory.getLogger( StoreExecutor.class );
 
+    private static final int BULK_SIZE = 1000;
+
     private StoreExecutor( final Builder builder )
     {
         super( builder );
@@ -30,32 +36,50 @@ public class StoreExecutor
 
     public void execute( final Collection<IndexDocument> indexDocuments )
     {
-        for ( IndexDocument indexDocument : indexDocuments )
+        for ( final List<IndexDocument> batch : Iterables.partition( indexDocuments, BULK_SIZE ) )
         {
-            final String id = indexDocument.getId();
-
-            final XContentBuilder xContentBuilder = StoreDocumentXContentBuilderFactory.create( indexDocument );
+            final BulkRequestBuilder bulkRequest = this.client.prepareBulk().
+                setRefresh( batch.stream().anyMatch( IndexDocument::isRefreshAfterOperation ) );
 
-            final IndexRequest req = Requests.indexRequest().
-                id( id ).
-                index( indexDocument.getIndexName() ).
-                type( indexDocument.getIndexTypeName() ).
-                source( xContentBuilder ).
-                refresh( indexDocument.isRefreshAfterOperation() );
-
-            try
+            for ( IndexDocument indexDocument : batch )
             {
-                this.client.index( req ).actionGet( storeTimeout );
+                final XContentBuilder xContentBuilder = StoreDocumentXContentBuilderFactory.create( indexDocument );
+
+                bulkRequest.add( Requests.indexRequest().
+                    id( indexDocument.getId() ).
+                    index( indexDocument.getIndexName() ).
+                    type( indexDocument.getIndexTypeName() ).
+                    source( xContentBuilder ) );
             }
-            catch ( Exception e )
-            {
-                final String msg = "Failed to store document with id [" + id + "] in index [" + indexDocument.getIndexName() + "] branch " +
-                    indexDocument.getIndexTypeName();
 
-                LOG.error( msg, e );
+            doBulk( bulkRequest, batch );
+        }
+    }
 
-                throw new IndexException( msg, e );
-            }
+    private void doBulk( final BulkRequestBuilder bulkRequest, final List<IndexDocument> batch )
+    {
+        final BulkResponse bulkResponse;
+        try
+        {
+            bulkResponse = bulkRequest.execute().actionGet( storeTimeout );
+        }
+        catch ( Exception e )
+        {
+            final String msg = "Failed to store [" + batch.size() + "] documents in index [" + batch.get( 0 ).getIndexName() + "]";
+
+            LOG.error( msg, e );
+
+            throw new IndexException( msg, e );
+        }
+
+        if ( bulkResponse.hasFailures() )
+        {
+            final String msg = "Failed to store documents in index [" + batch.get( 0 ).getIndexName() + "]: " +
+                bulkResponse.buildFailureMessage();
+
+            LOG.error( msg );
+
+            throw new IndexException( msg );
         }
     }
 
@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.elasticsearch.search;
 
+import java.util.stream.Stream;
+
 import org.elasticsearch.client.Client;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -23,6 +25,14 @@ public class SearchDaoImpl
             execute( searchRequest );
     }
 
+    @Override
+    public Stream<SearchResult> stream( final SearchRequest searchRequest )
+    {
+        return SearchExecutor.create( this.client ).
+            build().
+            stream( searchRequest );
+    }
+
     @Reference
     public void setClient( final Client client )
     {
@@ -1,8 +1,11 @@
 package com.enonic.xp.repo.impl.elasticsearch.storage;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteAction;
 import org.elasticsearch.action.delete.DeleteRequestBuilder;
 import org.elasticsearch.action.delete.DeleteResponse;
@@ -20,6 +23,8 @@ import org.elasticsearch.cluster.block.ClusterBlockException;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import com.google.common.collect.Iterables;
+
 import com.enonic.xp.node.NodeStorageException;
 import com.enonic.xp.repo.impl.SearchPreference;
 import com.enonic.xp.repo.impl.StorageSource;
@@ -37,15 +42,37 @@ import com.enonic.xp.repo.impl.storage.GetResult;
 import com.enonic.xp.repo.impl.storage.GetResults;
 import com.enonic.xp.repo.impl.storage.StorageDao;
 import com.enonic.xp.repo.impl.storage.StoreRequest;
+import com.enonic.xp.repo.impl.storage.StoreRequests;
 
 @Component
 public class StorageDaoImpl
     implements StorageDao
 {
+    private static final int BULK_SIZE = 1000;
+
     private Client client;
 
     @Override
     public String store( final StoreRequest request )
+    {
+        return doStore( createIndexRequest( request ), request.getTimeout() );
+    }
+
+    @Override
+    public void store( final StoreRequests requests )
+    {
+        for ( final List<StoreRequest> batch : Iterables.partition( requests.getRequests(), BULK_SIZE ) )
+        {
+            final BulkRequestBuilder bulkRequest = this.client.prepareBulk().
+                setRefresh( requests.isForceRefresh() );
+
+            batch.forEach( request -> bulkRequest.add( createIndexRequest( request ) ) );
+
+            doBulk( bulkRequest, requests.getTimeoutAsString(), "store" );
+        }
+    }
+
+    private IndexRequest createIndexRequest( final StoreRequest request )
     {
         final StorageSource settings = request.getSettings();
 
@@ -66,7 +93,7 @@ public class StorageDaoImpl
             indexRequest.parent( request.getParent() );
         }
 
-        return doStore( indexRequest, request.getTimeout() );
+        return indexRequest;
     }
 
     @Override
@@ -112,29 +139,45 @@ public class StorageDaoImpl
     {
         final StorageSource settings = requests.getSettings();
 
-        for ( final String id : requests.getIds() )
+        for ( final List<String> batch : Iterables.partition( requests.getIds(), BULK_SIZE ) )
         {
-            try
-            {
-                final org.elasticsearch.action.delete.DeleteRequest request =
-                    new DeleteRequestBuilder( this.client, DeleteAction.INSTANCE ).
-                        setIndex( settings.getStorageName().getName() ).
-                        setType( settings.getStorageType().getName() ).
-                        setRefresh( requests.isForceRefresh() ).
-                        setId( id ).
-                        setRouting( id ). //TODO Java10
-                        request();
-
-                this.client.delete( request ).actionGet( requests.getTimeoutAsString() );
-            }
-            catch ( ClusterBlockException e )
-            {
-                throw new NodeStorageException( "Cannot delete node " + id + ", Repository in 'READ-ONLY mode'" );
-            }
-            catch ( Exception e )
+            final BulkRequestBuilder bulkRequest = this.client.prepareBulk().
+                setRefresh( requests.isForceRefresh() );
+
+            for ( final String id : batch )
             {
-                throw new NodeStorageException( "Cannot delete node " + id, e );
+                bulkRequest.add( new DeleteRequestBuilder( this.client, DeleteAction.INSTANCE ).
+                                     setIndex( settings.getStorageName().getName() ).
+                                     setType( settings.getStorageType().getName() ).
+                                     setId( id ).
+                                     setRouting( id ). //TODO Java10
+                                     request() );
             }
+
+            doBulk( bulkRequest, requests.getTimeoutAsString(), "delete" );
+        }
+    }
+
+    private void doBulk( final BulkRequestBuilder bulkRequest, final String timeout, final String operation )
+    {
+        final BulkResponse bulkResponse;
+        try
+        {
+            bulkResponse = bulkRequest.execute().
+                actionGet( timeout );
+        }
+        catch ( ClusterBlockException e )
+        {
+            throw new NodeStorageException( "Cannot " + operation + " nodes, Repository in 'READ-ONLY mode'" );
+        }
+        catch ( Exception e )
+        {
+            throw new NodeStorageException( "Cannot " + operation + " nodes", e );
+        }
+
+        if ( bulkResponse.hasFailures() )
+        {
+            throw new NodeStorageException( "Cannot " + operation + " nodes: " + bulkResponse.buildFailureMessage() );
         }
     }
 
@@ -1,5 +1,8 @@
 package com.enonic.xp.repo.impl.index;
 
+import java.util.function.ObjLongConsumer;
+import java.util.stream.Stream;
+
 import com.google.common.base.Preconditions;
 
 import com.enonic.xp.branch.Branch;
@@ -44,21 +47,48 @@ class GetBranchDataCommand
         return NodeBranchEntries.from( nodeBranchEntries.getList() );
     }
 
+    public void execute( final int pageSize, final ObjLongConsumer<NodeBranchEntries> pageConsumer )
+    {
+        try (Stream<SearchResult> pages = this.nodeSearchService.stream( createQuery( pageSize ), createSearchSource() ))
+        {
+            pages.forEach( result -> {
+                final NodeBranchQueryResult nodeBranchEntries = NodeBranchQueryResultFactory.create( result );
+                pageConsumer.accept( NodeBranchEntries.from( nodeBranchEntries.getList() ), result.getTotalHits() );
+            } );
+        }
+    }
+
     private SearchResult doExecute()
+    {
+        return this.nodeSearchService.query( createQuery( null ), createSearchSource() );
+    }
+
+    private NodeBranchQuery createQuery( final Integer pageSize )
     {
         final CompareExpr compareExpr =
             CompareExpr.create( FieldExpr.from( BranchIndexPath.BRANCH_NAME.getPath() ), CompareExpr.Operator.EQ,
                                 ValueExpr.string( branch.getValue() ) );
 
+        final NodeBranchQuery.Builder query = NodeBranchQuery.create().
+            query( QueryExpr.from( compareExpr ) ).
+            size( NodeSearchService.GET_ALL_SIZE_FLAG );
+
+        if ( pageSize != null )
+        {
+            query.batchSize( pageSize );
+        }
+
+        return query.build();
+    }
+
+    private SingleRepoStorageSource createSearchSource()
+    {
         final Context reindexContext = ContextBuilder.from( ContextAccessor.current() ).
             repositoryId( this.repositoryId ).
             branch( branch ).
             build();
 
-        return this.nodeSearchService.query( NodeBranchQuery.create().
-            query( QueryExpr.from( compareExpr ) ).
-            size( NodeSearchService.GET_ALL_SIZE_FLAG ).
-            build(), SingleRepoStorageSource.create( reindexContext.getRepositoryId(), SingleRepoStorageSource.Type.BRANCH ) );
+        return SingleRepoStorageSource.create( reindexContext.getRepositoryId(), SingleRepoStorageSource.Type.BRANCH );
     }
 
     public static Builder create()
@@ -1,13 +1,18 @@
 package com.enonic.xp.repo.impl.index;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.enonic.xp.branch.Branch;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
 import com.enonic.xp.index.IndexService;
 import com.enonic.xp.index.IndexType;
 import com.enonic.xp.index.PurgeIndexParams;
@@ -15,6 +20,7 @@ import com.enonic.xp.index.ReindexParams;
 import com.enonic.xp.index.ReindexResult;
 import com.enonic.xp.index.UpdateIndexSettingsParams;
 import com.enonic.xp.index.UpdateIndexSettingsResult;
+import com.enonic.xp.repo.impl.config.RepoConfiguration;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionService;
 import com.enonic.xp.repo.impl.repository.DefaultIndexResourceProvider;
 import com.enonic.xp.repo.impl.repository.IndexNameResolver;
@@ -44,6 +50,12 @@ public class IndexServiceImpl
 
     private RepositoryEntryService repositoryEntryService;
 
+    private RepoConfiguration repoConfiguration;
+
+    private SimpleExecutor reindexExecutor;
+
+    private int reindexThreads = 1;
+
     private final static Logger LOG = LoggerFactory.getLogger( IndexServiceImpl.class );
 
     private final static String DEFAULT_INDEX_RESOURCE_FOLDER = "/com/enonic/xp/repo/impl/repository/index";
@@ -51,6 +63,28 @@ public class IndexServiceImpl
     private final static IndexResourceProvider DEFAULT_INDEX_RESOURCE_PROVIDER =
         new DefaultIndexResourceProvider( DEFAULT_INDEX_RESOURCE_FOLDER );
 
+    @Activate
+    public void activate()
+    {
+        this.reindexThreads = Math.max( 1, repoConfiguration.getReindexThreads() );
+        if ( this.reindexThreads > 1 )
+        {
+            this.reindexExecutor = new SimpleExecutor( threadFactory -> Executors.newFixedThreadPool( this.reindexThreads, threadFactory ),
+                                                       "reindex-thread-%d",
+                                                       e -> LOG.error( "Reindex failed", e ) );
+        }
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        if ( this.reindexExecutor != null )
+        {
+            this.reindexExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                              neverCommenced -> LOG.warn( "Not all reindex batches were executed" ) );
+        }
+    }
+
     @Override
     public ReindexResult reindex( final ReindexParams params )
     {
@@ -66,6 +100,8 @@ public class IndexServiceImpl
             nodeSearchService( this.nodeSearchService ).
             nodeVersionService( this.nodeVersionService ).
             listener( params.getListener() ).
+            executor( this.reindexExecutor != null ? this.reindexExecutor : Runnable::run ).
+            maxInFlightBatches( this.reindexThreads * 2 ).
             build().
             execute();
     }
@@ -235,4 +271,10 @@ public class IndexServiceImpl
     {
         this.repositoryEntryService = repositoryEntryService;
     }
+
+    @Reference
+    public void setRepoConfiguration( final RepoConfiguration repoConfiguration )
+    {
+        this.repoConfiguration = repoConfiguration;
+    }
 }
@@ -2,18 +2,32 @@ package com.enonic.xp.repo.impl.index;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.Iterables;
 
+import com.enonic.xp.blob.NodeVersionKey;
+import com.enonic.xp.blob.NodeVersionKeys;
 import com.enonic.xp.branch.Branch;
 import com.enonic.xp.branch.Branches;
+import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.index.ReindexListener;
 import com.enonic.xp.index.ReindexResult;
 import com.enonic.xp.node.Node;
-import com.enonic.xp.node.NodeBranchEntries;
 import com.enonic.xp.node.NodeBranchEntry;
 import com.enonic.xp.node.NodeVersion;
+import com.enonic.xp.node.NodeVersions;
+import com.enonic.xp.node.Nodes;
 import com.enonic.xp.repo.impl.InternalContext;
 import com.enonic.xp.repo.impl.branch.storage.NodeFactory;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionService;
@@ -23,6 +37,10 @@ import com.enonic.xp.repository.RepositoryId;
 
 public class ReindexExecutor
 {
+    private static final int PAGE_SIZE = 1000;
+
+    private static final int BATCH_SIZE = 100;
+
     private final Branches branches;
 
     private final RepositoryId repositoryId;
@@ -35,6 +53,10 @@ public class ReindexExecutor
 
     private final ReindexListener listener;
 
+    private final Executor executor;
+
+    private final int maxInFlightBatches;
+
     private ReindexExecutor( final Builder builder )
     {
         branches = builder.branches;
@@ -43,6 +65,8 @@ public class ReindexExecutor
         nodeVersionService = builder.nodeVersionService;
         indexDataService = builder.indexDataService;
         listener = builder.listener;
+        executor = builder.executor;
+        maxInFlightBatches = builder.maxInFlightBatches;
     }
 
     public ReindexResult execute()
@@ -73,39 +97,122 @@ public class ReindexExecutor
 
     private void doReindexBranchNew( final RepositoryId repositoryId, final ReindexResult.Builder builder, final Branch branch )
     {
-        final NodeBranchEntries nodeBranchEntries = GetBranchDataCommand.create().
+        final InternalContext context = InternalContext.create( ContextAccessor.current() ).
+            repositoryId( repositoryId ).
+            branch( branch ).
+            build();
+
+        final Context callerContext = ContextAccessor.current();
+        final Semaphore inFlight = new Semaphore( this.maxInFlightBatches );
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final AtomicBoolean branchReported = new AtomicBoolean();
+
+        GetBranchDataCommand.create().
             branch( branch ).
             repositoryId( repositoryId ).
             nodeSearchService( this.nodeSearchService ).
-            build().execute();
-
-        if ( listener != null )
+            build().
+            execute( PAGE_SIZE, ( nodeBranchEntries, total ) -> {
+                if ( listener != null && branchReported.compareAndSet( false, true ) )
+                {
+                    listener.branch( repositoryId, branch, total );
+                }
+
+                for ( final List<NodeBranchEntry> batch : Iterables.partition( nodeBranchEntries, BATCH_SIZE ) )
+                {
+                    throwIfFailed( failure );
+                    acquire( inFlight );
+                    try
+                    {
+                        this.executor.execute( () -> {
+                            try
+                            {
+                                callerContext.runWith( () -> reindexBatch( batch, context, builder ) );
+                            }
+                            catch ( RuntimeException e )
+                            {
+                                failure.compareAndSet( null, e );
+                            }
+                            finally
+                            {
+                                inFlight.release();
+                            }
+                        } );
+                    }
+                    catch ( RuntimeException e )
+                    {
+                        inFlight.release();
+                        throw e;
+                    }
+                }
+            } );
+
+        // wait for the remaining batches
+        acquire( inFlight, this.maxInFlightBatches );
+        throwIfFailed( failure );
+
+        if ( listener != null && !branchReported.get() )
         {
-            listener.branch( repositoryId, branch, nodeBranchEntries.getSize() );
+            listener.branch( repositoryId, branch, 0 );
         }
+    }
 
-        for ( final NodeBranchEntry nodeBranchEntry : nodeBranchEntries )
-        {
-            final InternalContext context = InternalContext.create( ContextAccessor.current() ).
-                repositoryId( repositoryId ).
-                branch( branch ).
-                build();
+    private void reindexBatch( final List<NodeBranchEntry> nodeBranchEntries, final InternalContext context,
+                               final ReindexResult.Builder builder )
+    {
+        final List<NodeVersionKey> nodeVersionKeys =
+            nodeBranchEntries.stream().map( NodeBranchEntry::getNodeVersionKey ).distinct().collect( Collectors.toList() );
 
-            final NodeVersion nodeVersion = this.nodeVersionService.get( nodeBranchEntry.getNodeVersionKey(), context );
+        final NodeVersions nodeVersions = this.nodeVersionService.get( NodeVersionKeys.from( nodeVersionKeys ), context );
 
-            final Node node = NodeFactory.create( nodeVersion, nodeBranchEntry );
+        final Map<NodeVersionKey, NodeVersion> nodeVersionsByKey = new HashMap<>();
+        final Iterator<NodeVersion> nodeVersionIterator = nodeVersions.iterator();
+        nodeVersionKeys.forEach( nodeVersionKey -> nodeVersionsByKey.put( nodeVersionKey, nodeVersionIterator.next() ) );
 
-            this.indexDataService.store( node, context );
+        final List<Node> nodes = nodeBranchEntries.stream().
+            map( nodeBranchEntry -> NodeFactory.create( nodeVersionsByKey.get( nodeBranchEntry.getNodeVersionKey() ), nodeBranchEntry ) ).
+            collect( Collectors.toList() );
 
-            builder.add( node.id() );
+        this.indexDataService.store( Nodes.from( nodes ), context );
+
+        synchronized ( builder )
+        {
+            nodes.forEach( node -> builder.add( node.id() ) );
 
             if ( listener != null )
             {
-                listener.branchEntry( nodeBranchEntry );
+                nodeBranchEntries.forEach( listener::branchEntry );
             }
         }
     }
 
+    private static void throwIfFailed( final AtomicReference<RuntimeException> failure )
+    {
+        final RuntimeException e = failure.get();
+        if ( e != null )
+        {
+            throw e;
+        }
+    }
+
+    private static void acquire( final Semaphore semaphore )
+    {
+        acquire( semaphore, 1 );
+    }
+
+    private static void acquire( final Semaphore semaphore, final int permits )
+    {
+        try
+        {
+            semaphore.acquire( permits );
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException( "Reindex interrupted", e );
+        }
+    }
+
     public static Builder create()
     {
         return new Builder();
@@ -125,6 +232,10 @@ public class ReindexExecutor
 
         private ReindexListener listener;
 
+        private Executor executor = Runnable::run;
+
+        private int maxInFlightBatches = 1;
+
         private Builder()
         {
         }
@@ -165,6 +276,18 @@ public class ReindexExecutor
             return this;
         }
 
+        public Builder executor( final Executor val )
+        {
+            executor = val;
+            return this;
+        }
+
+        public Builder maxInFlightBatches( final int val )
+        {
+            maxInFlightBatches = val;
+            return this;
+        }
+
         public ReindexExecutor build()
         {
             return new ReindexExecutor( this );
@@ -1,9 +1,12 @@
 package com.enonic.xp.repo.impl.node;
 
+import java.util.stream.Stream;
+
 import com.google.common.base.Preconditions;
 
 import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.node.FindNodesByQueryResult;
+import com.enonic.xp.node.NodeHit;
 import com.enonic.xp.node.NodeQuery;
 import com.enonic.xp.repo.impl.SingleRepoSearchSource;
 import com.enonic.xp.repo.impl.search.result.SearchResult;
@@ -36,6 +39,13 @@ public class FindNodesByQueryCommand
         return FindNodesByQueryResultFactory.create( result );
     }
 
+    public Stream<NodeHit> stream()
+    {
+        return nodeSearchService.stream( this.query, SingleRepoSearchSource.from( ContextAccessor.current() ) ).
+            flatMap( page -> page.getHits().stream() ).
+            map( FindNodesByQueryResultFactory::createNodeHit );
+    }
+
     public static final class Builder
         extends AbstractNodeCommand.Builder<Builder>
     {
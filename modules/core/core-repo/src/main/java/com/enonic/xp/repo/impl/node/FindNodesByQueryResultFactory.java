@@ -18,14 +18,19 @@ class FindNodesByQueryResultFactory
 
         for ( final SearchHit hit : result.getHits() )
         {
-            resultBuilder.addNodeHit( NodeHit.create().
-                nodeId( NodeId.from( hit.getId() ) ).
-                score( hit.getScore() ).
-                explanation( hit.getExplanation() ).
-                highlight( hit.getHighlightedProperties() ).
-                build() );
+            resultBuilder.addNodeHit( createNodeHit( hit ) );
         }
 
         return resultBuilder.build();
     }
+
+    static NodeHit createNodeHit( final SearchHit hit )
+    {
+        return NodeHit.create().
+            nodeId( NodeId.from( hit.getId() ) ).
+            score( hit.getScore() ).
+            explanation( hit.getExplanation() ).
+            highlight( hit.getHighlightedProperties() ).
+            build();
+    }
 }
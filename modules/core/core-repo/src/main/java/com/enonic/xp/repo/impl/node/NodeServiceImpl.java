@@ -1,6 +1,7 @@
 package com.enonic.xp.repo.impl.node;
 
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -44,6 +45,7 @@ import com.enonic.xp.node.NodeCommitQuery;
 import com.enonic.xp.node.NodeCommitQueryResult;
 import com.enonic.xp.node.NodeComparison;
 import com.enonic.xp.node.NodeComparisons;
+import com.enonic.xp.node.NodeHit;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodeIds;
 import com.enonic.xp.node.NodeNotFoundException;
@@ -416,6 +418,19 @@ public class NodeServiceImpl
             execute();
     }
 
+    @Override
+    public Stream<NodeHit> streamByQuery( final NodeQuery nodeQuery )
+    {
+        verifyContext();
+        return FindNodesByQueryCommand.create().
+            query( nodeQuery ).
+            indexServiceInternal( this.indexServiceInternal ).
+            storageService( this.nodeStorageService ).
+            searchService( this.nodeSearchService ).
+            build().
+            stream();
+    }
+
     @Override
     public FindNodePathsByQueryResult findNodePathsByQuery( NodeQuery nodeQuery )
     {
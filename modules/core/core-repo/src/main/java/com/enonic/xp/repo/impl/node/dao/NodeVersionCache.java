@@ -0,0 +1,85 @@
+package com.enonic.xp.repo.impl.node.dao;
+
+import com.codahale.metrics.Meter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+
+import com.enonic.xp.blob.NodeVersionKey;
+import com.enonic.xp.node.NodeVersion;
+import com.enonic.xp.util.Metrics;
+
+/**
+ * Cache of decoded node versions. A {@link NodeVersionKey} is content-addressed, so entries never go stale and are only
+ * evicted to stay within the memory budget. Entries are weighed by an estimate of their decoded size, derived from the size
+ * of the serialized blobs they were decoded from.
+ */
+final class NodeVersionCache
+{
+    private static final Meter HIT_METRIC = Metrics.meter( NodeVersionService.class, "cache.hit" );
+
+    private static final Meter MISS_METRIC = Metrics.meter( NodeVersionService.class, "cache.miss" );
+
+    private static final Meter EVICTION_METRIC = Metrics.meter( NodeVersionService.class, "cache.eviction" );
+
+    // decoded PropertyTree holds UTF-16 strings and several objects per property, roughly this many times the JSON size
+    private static final int DECODED_SIZE_FACTOR = 4;
+
+    private final Cache<NodeVersionKey, Entry> cache;
+
+    NodeVersionCache( final long capacity )
+    {
+        this.cache = CacheBuilder.newBuilder().
+            maximumWeight( capacity ).
+            <NodeVersionKey, Entry>weigher( ( key, entry ) -> entry.weight ).
+            <NodeVersionKey, Entry>removalListener( notification -> {
+                if ( notification.getCause() == RemovalCause.SIZE )
+                {
+                    EVICTION_METRIC.mark();
+                }
+            } ).
+            build();
+    }
+
+    NodeVersion get( final NodeVersionKey key )
+    {
+        final Entry entry = this.cache.getIfPresent( key );
+        if ( entry == null )
+        {
+            MISS_METRIC.mark();
+            return null;
+        }
+
+        HIT_METRIC.mark();
+        // PropertyTree is mutable, every caller gets its own copy
+        return NodeVersion.create( entry.nodeVersion ).
+            data( entry.nodeVersion.getData().copy() ).
+            build();
+    }
+
+    void put( final NodeVersionKey key, final NodeVersion nodeVersion, final long serializedSize )
+    {
+        final long weight = serializedSize * DECODED_SIZE_FACTOR;
+        this.cache.put( key, new Entry( NodeVersion.create( nodeVersion ).
+            data( nodeVersion.getData().copy() ).
+            build(), (int) Math.min( weight, Integer.MAX_VALUE ) ) );
+    }
+
+    void invalidateAll()
+    {
+        this.cache.invalidateAll();
+    }
+
+    private static final class Entry
+    {
+        final NodeVersion nodeVersion;
+
+        final int weight;
+
+        Entry( final NodeVersion nodeVersion, final int weight )
+        {
+            this.nodeVersion = nodeVersion;
+            this.weight = weight;
+        }
+    }
+}
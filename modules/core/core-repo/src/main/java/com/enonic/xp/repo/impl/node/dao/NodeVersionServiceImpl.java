@@ -1,21 +1,43 @@
 package com.enonic.xp.repo.impl.node.dao;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.io.ByteSource;
 
+import com.enonic.xp.blob.BlobKey;
+import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.BlobStore;
 import com.enonic.xp.blob.CachingBlobStore;
 import com.enonic.xp.blob.NodeVersionKey;
 import com.enonic.xp.blob.NodeVersionKeys;
 import com.enonic.xp.blob.Segment;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.node.NodeVersions;
 import com.enonic.xp.repo.impl.InternalContext;
+import com.enonic.xp.repo.impl.config.RepoConfiguration;
 import com.enonic.xp.repo.impl.node.NodeConstants;
 import com.enonic.xp.repo.impl.node.json.NodeVersionJsonSerializer;
 import com.enonic.xp.repository.RepositorySegmentUtils;
@@ -24,10 +46,54 @@ import com.enonic.xp.repository.RepositorySegmentUtils;
 public class NodeVersionServiceImpl
     implements NodeVersionService
 {
+    private static final Logger LOG = LoggerFactory.getLogger( NodeVersionServiceImpl.class );
+
     private final NodeVersionJsonSerializer nodeVersionJsonSerializer = NodeVersionJsonSerializer.create();
 
     private BlobStore blobStore;
 
+    private RepoConfiguration repoConfiguration;
+
+    private volatile NodeVersionCache nodeVersionCache;
+
+    private SimpleExecutor simpleExecutor;
+
+    private Executor decodeExecutor = Runnable::run;
+
+    @Activate
+    public void activate()
+    {
+        final long cacheCapacity = this.repoConfiguration.getNodeVersionCacheCapacity();
+        this.nodeVersionCache = cacheCapacity > 0 ? new NodeVersionCache( cacheCapacity ) : null;
+
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final Function<ThreadFactory, ExecutorService> executorServiceSupplier = ( threadFactory ) -> {
+            // rejected tasks (full queue or shutdown) are decoded by the caller, so a pending batch never waits forever
+            final ThreadPoolExecutor executor =
+                new ThreadPoolExecutor( threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>( 1000 ), threadFactory,
+                                        ( runnable, rejectedBy ) -> runnable.run() );
+            executor.allowCoreThreadTimeOut( true );
+            return executor;
+        };
+
+        this.simpleExecutor = new SimpleExecutor( executorServiceSupplier, "node-version-decode-thread-%d",
+                                                  e -> LOG.error( "Node version decoding failed", e ) );
+        this.decodeExecutor = this.simpleExecutor;
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        this.decodeExecutor = Runnable::run;
+        if ( this.nodeVersionCache != null )
+        {
+            this.nodeVersionCache.invalidateAll();
+            this.nodeVersionCache = null;
+        }
+        this.simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                         neverCommenced -> LOG.warn( "Not all node versions were decoded" ) );
+    }
+
     @Override
     public NodeVersionKey store( final NodeVersion nodeVersion, final InternalContext context )
     {
@@ -62,63 +128,135 @@ public class NodeVersionServiceImpl
 
     private NodeVersions doGetNodeVersions( final NodeVersionKeys nodeVersionKeys, final InternalContext context )
     {
-        NodeVersions.Builder builder = NodeVersions.create();
+        if ( nodeVersionKeys.getSize() <= 1 )
+        {
+            final NodeVersions.Builder builder = NodeVersions.create();
+            nodeVersionKeys.forEach( nodeVersionKey -> builder.add( doGetNodeVersion( nodeVersionKey, context ) ) );
+            return builder.build();
+        }
 
+        final Segment nodeSegment = RepositorySegmentUtils.toSegment( context.getRepositoryId(), NodeConstants.NODE_SEGMENT_LEVEL );
+        final Segment indexConfigSegment =
+            RepositorySegmentUtils.toSegment( context.getRepositoryId(), NodeConstants.INDEX_CONFIG_SEGMENT_LEVEL );
+        final Segment accessControlSegment =
+            RepositorySegmentUtils.toSegment( context.getRepositoryId(), NodeConstants.ACCESS_CONTROL_SEGMENT_LEVEL );
+
+        final Map<NodeVersionKey, NodeVersion> cached = new HashMap<>();
+        final NodeVersionKeys.Builder missing = NodeVersionKeys.create();
         for ( final NodeVersionKey nodeVersionKey : nodeVersionKeys )
         {
-            builder.add( doGetNodeVersion( nodeVersionKey, context ) );
+            final NodeVersion nodeVersion = getCached( nodeVersionKey );
+            if ( nodeVersion != null )
+            {
+                cached.put( nodeVersionKey, nodeVersion );
+            }
+            else
+            {
+                missing.add( nodeVersionKey );
+            }
         }
+        final NodeVersionKeys missingKeys = missing.build();
 
+        final Map<BlobKey, BlobRecord> nodeBlobRecords =
+            blobStore.getRecords( nodeSegment, toBlobKeys( missingKeys, NodeVersionKey::getNodeBlobKey ) );
+        final Map<BlobKey, BlobRecord> indexConfigBlobRecords =
+            blobStore.getRecords( indexConfigSegment, toBlobKeys( missingKeys, NodeVersionKey::getIndexConfigBlobKey ) );
+        final Map<BlobKey, BlobRecord> accessControlBlobRecords =
+            blobStore.getRecords( accessControlSegment, toBlobKeys( missingKeys, NodeVersionKey::getAccessControlBlobKey ) );
+
+        final List<CompletableFuture<NodeVersion>> futures = new ArrayList<>( nodeVersionKeys.getSize() );
+        for ( final NodeVersionKey nodeVersionKey : nodeVersionKeys )
+        {
+            final NodeVersion cachedNodeVersion = cached.get( nodeVersionKey );
+            if ( cachedNodeVersion != null )
+            {
+                futures.add( CompletableFuture.completedFuture( cachedNodeVersion ) );
+                continue;
+            }
+
+            final BlobRecord nodeBlobRecord = nodeBlobRecords.get( nodeVersionKey.getNodeBlobKey() );
+            checkNodeBlob( nodeVersionKey, nodeBlobRecord );
+            final BlobRecord indexConfigBlobRecord = indexConfigBlobRecords.get( nodeVersionKey.getIndexConfigBlobKey() );
+            checkIndexConfigBlob( nodeVersionKey, indexConfigBlobRecord );
+            final BlobRecord accessControlBlobRecord = accessControlBlobRecords.get( nodeVersionKey.getAccessControlBlobKey() );
+            checkAccessControlBlob( nodeVersionKey, accessControlBlobRecord );
+
+            futures.add( CompletableFuture.supplyAsync(
+                () -> toNodeVersion( nodeVersionKey, nodeSegment, nodeBlobRecord, indexConfigSegment, indexConfigBlobRecord, accessControlSegment,
+                                     accessControlBlobRecord ), this.decodeExecutor ) );
+        }
+
+        final NodeVersions.Builder builder = NodeVersions.create();
+        for ( final CompletableFuture<NodeVersion> future : futures )
+        {
+            builder.add( join( future ) );
+        }
         return builder.build();
     }
 
     private NodeVersion doGetNodeVersion( final NodeVersionKey nodeVersionKey, final InternalContext context )
     {
+        final NodeVersion cached = getCached( nodeVersionKey );
+        if ( cached != null )
+        {
+            return cached;
+        }
         return getFromBlob( nodeVersionKey, context );
     }
 
+    private NodeVersion getCached( final NodeVersionKey nodeVersionKey )
+    {
+        final NodeVersionCache nodeVersionCache = this.nodeVersionCache;
+        return nodeVersionCache == null ? null : nodeVersionCache.get( nodeVersionKey );
+    }
+
     private NodeVersion getFromBlob( final NodeVersionKey nodeVersionKey, final InternalContext context )
     {
         final Segment nodeSegment = RepositorySegmentUtils.toSegment( context.getRepositoryId(), NodeConstants.NODE_SEGMENT_LEVEL );
         final BlobRecord nodeBlobRecord = blobStore.getRecord( nodeSegment, nodeVersionKey.getNodeBlobKey() );
-        if ( nodeBlobRecord == null )
-        {
-            throw new IllegalArgumentException(
-                "Cannot get node blob with blobKey: " + nodeVersionKey.getNodeBlobKey() + ": blob is null" );
-        }
+        checkNodeBlob( nodeVersionKey, nodeBlobRecord );
 
         final Segment indexConfigSegment =
             RepositorySegmentUtils.toSegment( context.getRepositoryId(), NodeConstants.INDEX_CONFIG_SEGMENT_LEVEL );
         final BlobRecord indexConfigBlobRecord = blobStore.getRecord( indexConfigSegment, nodeVersionKey.getIndexConfigBlobKey() );
-        if ( indexConfigBlobRecord == null )
-        {
-            throw new IllegalArgumentException(
-                "Cannot get index config blob with blobKey: " + nodeVersionKey.getIndexConfigBlobKey() + ": blob is null" );
-        }
+        checkIndexConfigBlob( nodeVersionKey, indexConfigBlobRecord );
 
         final Segment accessControlSegment =
             RepositorySegmentUtils.toSegment( context.getRepositoryId(), NodeConstants.ACCESS_CONTROL_SEGMENT_LEVEL );
         final BlobRecord accessControlBlobRecord = blobStore.getRecord( accessControlSegment, nodeVersionKey.getAccessControlBlobKey() );
-        if ( accessControlBlobRecord == null )
-        {
-            throw new IllegalArgumentException(
-                "Cannot get access control blob with blobKey: " + nodeVersionKey.getAccessControlBlobKey() + ": blob is null" );
-        }
+        checkAccessControlBlob( nodeVersionKey, accessControlBlobRecord );
+
+        return toNodeVersion( nodeVersionKey, nodeSegment, nodeBlobRecord, indexConfigSegment, indexConfigBlobRecord, accessControlSegment,
+                              accessControlBlobRecord );
+    }
 
+    private NodeVersion toNodeVersion( final NodeVersionKey nodeVersionKey, final Segment nodeSegment, final BlobRecord nodeBlobRecord,
+                                       final Segment indexConfigSegment, final BlobRecord indexConfigBlobRecord,
+                                       final Segment accessControlSegment, final BlobRecord accessControlBlobRecord )
+    {
         try
         {
             final byte[] nodeString = nodeBlobRecord.getBytes().read();
             final byte[] indexConfigString = indexConfigBlobRecord.getBytes().read();
             final byte[] accessControlString = accessControlBlobRecord.getBytes().read();
-            return this.nodeVersionJsonSerializer.toNodeVersion( nodeString, indexConfigString, accessControlString );
+            final NodeVersion nodeVersion =
+                this.nodeVersionJsonSerializer.toNodeVersion( nodeString, indexConfigString, accessControlString );
+
+            final NodeVersionCache nodeVersionCache = this.nodeVersionCache;
+            if ( nodeVersionCache != null )
+            {
+                nodeVersionCache.put( nodeVersionKey, nodeVersion,
+                                      (long) nodeString.length + indexConfigString.length + accessControlString.length );
+            }
+            return nodeVersion;
         }
         catch ( IOException e )
         {
             if ( blobStore instanceof CachingBlobStore )
             {
-                ( (CachingBlobStore) blobStore ).invalidate( indexConfigSegment, nodeBlobRecord.getKey() );
+                ( (CachingBlobStore) blobStore ).invalidate( nodeSegment, nodeBlobRecord.getKey() );
                 ( (CachingBlobStore) blobStore ).invalidate( indexConfigSegment, indexConfigBlobRecord.getKey() );
-                ( (CachingBlobStore) blobStore ).invalidate( indexConfigSegment, accessControlBlobRecord.getKey() );
+                ( (CachingBlobStore) blobStore ).invalidate( accessControlSegment, accessControlBlobRecord.getKey() );
             }
             throw new RuntimeException(
                 "Failed to load blobs with keys: " + nodeBlobRecord.getKey() + ", " + indexConfigBlobRecord.getKey() + ", " +
@@ -126,9 +264,63 @@ public class NodeVersionServiceImpl
         }
     }
 
+    private static void checkNodeBlob( final NodeVersionKey nodeVersionKey, final BlobRecord nodeBlobRecord )
+    {
+        if ( nodeBlobRecord == null )
+        {
+            throw new IllegalArgumentException(
+                "Cannot get node blob with blobKey: " + nodeVersionKey.getNodeBlobKey() + ": blob is null" );
+        }
+    }
+
+    private static void checkIndexConfigBlob( final NodeVersionKey nodeVersionKey, final BlobRecord indexConfigBlobRecord )
+    {
+        if ( indexConfigBlobRecord == null )
+        {
+            throw new IllegalArgumentException(
+                "Cannot get index config blob with blobKey: " + nodeVersionKey.getIndexConfigBlobKey() + ": blob is null" );
+        }
+    }
+
+    private static void checkAccessControlBlob( final NodeVersionKey nodeVersionKey, final BlobRecord accessControlBlobRecord )
+    {
+        if ( accessControlBlobRecord == null )
+        {
+            throw new IllegalArgumentException(
+                "Cannot get access control blob with blobKey: " + nodeVersionKey.getAccessControlBlobKey() + ": blob is null" );
+        }
+    }
+
+    private static BlobKeys toBlobKeys( final NodeVersionKeys nodeVersionKeys, final Function<NodeVersionKey, BlobKey> keyFunction )
+    {
+        return BlobKeys.from( nodeVersionKeys.stream().map( keyFunction ).toArray( BlobKey[]::new ) );
+    }
+
+    private static NodeVersion join( final CompletableFuture<NodeVersion> future )
+    {
+        try
+        {
+            return future.join();
+        }
+        catch ( CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
     @Reference
     public void setBlobStore( final BlobStore blobStore )
     {
         this.blobStore = blobStore;
     }
+
+    @Reference
+    public void setRepoConfiguration( final RepoConfiguration repoConfiguration )
+    {
+        this.repoConfiguration = repoConfiguration;
+    }
 }
@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.search;
 
+import java.util.stream.Stream;
+
 import com.enonic.xp.node.NodeCommitQuery;
 import com.enonic.xp.node.NodeQuery;
 import com.enonic.xp.node.NodeVersionQuery;
@@ -17,11 +19,15 @@ public interface NodeSearchService
 
     SearchResult query( final NodeQuery query, final ReturnFields returnFields, final SearchSource source );
 
+    Stream<SearchResult> stream( final NodeQuery query, final SearchSource source );
+
     SearchResult query( final NodeVersionQuery query, final SearchSource source );
 
     SearchResult query( final NodeCommitQuery query, final SearchSource source );
 
     SearchResult query( final NodeBranchQuery nodeBranchQuery, final SearchSource source );
 
+    Stream<SearchResult> stream( final NodeBranchQuery nodeBranchQuery, final SearchSource source );
+
     SearchResult query( final NodeVersionDiffQuery query, final SearchSource source );
 }
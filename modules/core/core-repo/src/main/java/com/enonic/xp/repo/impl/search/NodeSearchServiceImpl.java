@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.search;
 
+import java.util.stream.Stream;
+
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -57,6 +59,18 @@ public class NodeSearchServiceImpl
         return searchDao.search( searchRequest );
     }
 
+    @Override
+    public Stream<SearchResult> stream( final NodeQuery query, final SearchSource source )
+    {
+        final SearchRequest searchRequest = SearchRequest.create().
+            searchSource( source ).
+            query( query ).
+            returnFields( ReturnFields.empty() ).
+            build();
+
+        return searchDao.stream( searchRequest );
+    }
+
     @Override
     public SearchResult query( final NodeBranchQuery nodeBranchQuery, final SearchSource source )
     {
@@ -69,6 +83,18 @@ public class NodeSearchServiceImpl
         return searchDao.search( searchRequest );
     }
 
+    @Override
+    public Stream<SearchResult> stream( final NodeBranchQuery nodeBranchQuery, final SearchSource source )
+    {
+        final SearchRequest searchRequest = SearchRequest.create().
+            searchSource( source ).
+            returnFields( BRANCH_RETURN_FIELDS ).
+            query( nodeBranchQuery ).
+            build();
+
+        return searchDao.stream( searchRequest );
+    }
+
     @Override
     public SearchResult query( final NodeVersionQuery query, final SearchSource source )
     {
@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.search;
 
+import java.util.stream.Stream;
+
 import com.enonic.xp.repo.impl.search.result.SearchResult;
 
 public interface SearchDao
@@ -7,4 +9,6 @@ public interface SearchDao
 
     SearchResult search( final SearchRequest searchRequest );
 
+    Stream<SearchResult> stream( final SearchRequest searchRequest );
+
 }
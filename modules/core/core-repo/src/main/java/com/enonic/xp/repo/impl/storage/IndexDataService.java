@@ -3,6 +3,7 @@ package com.enonic.xp.repo.impl.storage;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodeIds;
+import com.enonic.xp.node.Nodes;
 import com.enonic.xp.repo.impl.InternalContext;
 import com.enonic.xp.repo.impl.ReturnFields;
 import com.enonic.xp.repo.impl.ReturnValues;
@@ -19,5 +20,7 @@ public interface IndexDataService
 
     void store( final Node node, final InternalContext context );
 
+    void store( final Nodes nodes, final InternalContext context );
+
     void push( final IndexPushNodeParams pushNodeParams, final InternalContext context );
 }
@@ -1,6 +1,8 @@
 package com.enonic.xp.repo.impl.storage;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
@@ -8,6 +10,7 @@ import org.osgi.service.component.annotations.Reference;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodeIds;
+import com.enonic.xp.node.Nodes;
 import com.enonic.xp.repo.impl.InternalContext;
 import com.enonic.xp.repo.impl.ReturnFields;
 import com.enonic.xp.repo.impl.ReturnValues;
@@ -108,6 +111,23 @@ public class IndexDataServiceImpl
         this.storageDao.store( indexDocuments );
     }
 
+    @Override
+    public void store( final Nodes nodes, final InternalContext context )
+    {
+        final List<IndexDocument> indexDocuments = new ArrayList<>();
+        for ( final Node node : nodes )
+        {
+            indexDocuments.addAll( NodeStoreDocumentFactory.createBuilder().
+                node( node ).
+                branch( context.getBranch() ).
+                repositoryId( context.getRepositoryId() ).
+                build().
+                create() );
+        }
+
+        this.storageDao.store( indexDocuments );
+    }
+
 
     @Override
     public void push( final IndexPushNodeParams pushNodeParams, final InternalContext context )
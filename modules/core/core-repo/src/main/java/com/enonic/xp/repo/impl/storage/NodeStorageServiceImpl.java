@@ -1,8 +1,13 @@
 package com.enonic.xp.repo.impl.storage;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
+import com.google.common.collect.Iterables;
+
 import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.BlobKeys;
 import com.enonic.xp.blob.NodeVersionKey;
@@ -46,6 +51,8 @@ import com.enonic.xp.security.auth.AuthenticationInfo;
 public class NodeStorageServiceImpl
     implements NodeStorageService
 {
+    private static final int PUSH_BATCH_SIZE = 1000;
+
     private VersionService versionService;
 
     private BranchService branchService;
@@ -234,15 +241,16 @@ public class NodeStorageServiceImpl
     @Override
     public void push( final PushNodeEntries entries, final PushNodesListener pushListener, final InternalContext context )
     {
-        for ( final PushNodeEntry entry : entries )
+        final InternalContext targetContext = InternalContext.create( context ).
+            branch( entries.getTargetBranch() ).
+            build();
+
+        for ( final List<PushNodeEntry> batch : Iterables.partition( entries, PUSH_BATCH_SIZE ) )
         {
-            final NodeBranchEntry nodeBranchEntry = entry.getNodeBranchEntry();
-            this.branchService.store( nodeBranchEntry, entry.getCurrentTargetPath(), InternalContext.create( context ).
-                branch( entries.getTargetBranch() ).
-                build() );
+            this.branchService.store( batch, targetContext );
             if ( pushListener != null )
             {
-                pushListener.nodesPushed( 1 );
+                pushListener.nodesPushed( batch.size() );
             }
         }
 
@@ -279,15 +287,16 @@ public class NodeStorageServiceImpl
             nodeCommitId( nodeCommitId ).
             build();
         this.commitService.store( updatedCommitEntry, context );
+        final List<NodeVersionMetadata> updatedVersions = new ArrayList<>();
         for ( RoutableNodeVersionId routableNodeVersionId : routableNodeVersionIds )
         {
             final NodeVersionMetadata existingVersion =
                 this.versionService.getVersion( routableNodeVersionId.getNodeId(), routableNodeVersionId.getNodeVersionId(), context );
-            final NodeVersionMetadata updatedVersion = NodeVersionMetadata.create( existingVersion ).
+            updatedVersions.add( NodeVersionMetadata.create( existingVersion ).
                 nodeCommitId( nodeCommitId ).
-                build();
-            this.versionService.store( updatedVersion, context );
+                build() );
         }
+        this.versionService.store( updatedVersions, context );
         return updatedCommitEntry;
     }
 
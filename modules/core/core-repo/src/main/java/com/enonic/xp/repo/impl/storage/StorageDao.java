@@ -8,6 +8,8 @@ public interface StorageDao
 {
     String store( final StoreRequest request );
 
+    void store( final StoreRequests requests );
+
     void store( final Collection<IndexDocument> indexDocuments );
 
     boolean delete( final DeleteRequest request );
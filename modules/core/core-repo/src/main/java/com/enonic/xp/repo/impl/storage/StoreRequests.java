@@ -0,0 +1,80 @@
+package com.enonic.xp.repo.impl.storage;
+
+import java.util.List;
+
+public class StoreRequests
+{
+    private final List<StoreRequest> requests;
+
+    private final boolean forceRefresh;
+
+    private final int timeout;
+
+    private StoreRequests( final Builder builder )
+    {
+        requests = builder.requests;
+        forceRefresh = builder.forceRefresh;
+        timeout = builder.timeout;
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public List<StoreRequest> getRequests()
+    {
+        return requests;
+    }
+
+    public boolean isForceRefresh()
+    {
+        return forceRefresh;
+    }
+
+    public int getTimeout()
+    {
+        return timeout;
+    }
+
+    public String getTimeoutAsString()
+    {
+        return timeout + "s";
+    }
+
+    public static final class Builder
+    {
+        private List<StoreRequest> requests;
+
+        private boolean forceRefresh;
+
+        private int timeout = 30;
+
+        private Builder()
+        {
+        }
+
+        public Builder requests( final List<StoreRequest> val )
+        {
+            requests = val;
+            return this;
+        }
+
+        public Builder forceRefresh( final boolean val )
+        {
+            forceRefresh = val;
+            return this;
+        }
+
+        public Builder timeout( final int val )
+        {
+            timeout = val;
+            return this;
+        }
+
+        public StoreRequests build()
+        {
+            return new StoreRequests( this );
+        }
+    }
+}
@@ -11,6 +11,8 @@ public interface VersionService
 {
     void store( final NodeVersionMetadata nodeVersionMetadata, final InternalContext context );
 
+    void store( final Collection<NodeVersionMetadata> nodeVersionMetadatas, final InternalContext context );
+
     void delete( final Collection<NodeVersionId> nodeVersionIds, final InternalContext context );
 
     NodeVersionMetadata getVersion( final NodeId nodeId, final NodeVersionId nodeVersionId, final InternalContext context );
@@ -18,6 +18,7 @@ import com.enonic.xp.repo.impl.storage.GetResult;
 import com.enonic.xp.repo.impl.storage.StaticStorageType;
 import com.enonic.xp.repo.impl.storage.StorageDao;
 import com.enonic.xp.repo.impl.storage.StoreRequest;
+import com.enonic.xp.repo.impl.storage.StoreRequests;
 import com.enonic.xp.repo.impl.storage.StoreStorageName;
 import com.enonic.xp.repo.impl.version.storage.VersionStorageDocFactory;
 
@@ -40,6 +41,21 @@ public class VersionServiceImpl
         this.storageDao.store( storeRequest );
     }
 
+    @Override
+    public void store( final Collection<NodeVersionMetadata> nodeVersionMetadatas, final InternalContext context )
+    {
+        if ( nodeVersionMetadatas.isEmpty() )
+        {
+            return;
+        }
+
+        this.storageDao.store( StoreRequests.create().
+            requests( nodeVersionMetadatas.stream().
+                map( nodeVersionMetadata -> VersionStorageDocFactory.create( nodeVersionMetadata, context.getRepositoryId() ) ).
+                collect( Collectors.toList() ) ).
+            build() );
+    }
+
     @Override
     public void delete( final Collection<NodeVersionId> nodeVersionIds, final InternalContext context )
     {
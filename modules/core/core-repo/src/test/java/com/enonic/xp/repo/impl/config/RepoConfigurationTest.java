@@ -41,4 +41,22 @@ public class RepoConfigurationTest
         assertEquals( new File( "/a/b" ), config.getSnapshotsDir() );
     }
 
+    @Test
+    public void testNodeVersionCacheCapacity()
+    {
+        assertEquals( 50 * 1024 * 1024, createConfig().getNodeVersionCacheCapacity() );
+
+        this.map.put( "nodeVersionCache.memoryCapacity", "10kb" );
+        assertEquals( 10 * 1024, createConfig().getNodeVersionCacheCapacity() );
+    }
+
+    @Test
+    public void testReindexThreads()
+    {
+        assertEquals( 4, createConfig().getReindexThreads() );
+
+        this.map.put( "reindex.threads", "8" );
+        assertEquals( 8, createConfig().getReindexThreads() );
+    }
+
 }
@@ -2,6 +2,10 @@ package com.enonic.xp.repo.impl.node;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,8 @@ import com.enonic.xp.data.ValueFactory;
 import com.enonic.xp.node.CreateNodeParams;
 import com.enonic.xp.node.FindNodesByQueryResult;
 import com.enonic.xp.node.Node;
+import com.enonic.xp.node.NodeHit;
+import com.enonic.xp.node.NodeId;
 import com.enonic.xp.node.NodePath;
 import com.enonic.xp.node.NodeQuery;
 import com.enonic.xp.query.aggregation.TermsAggregationQuery;
@@ -66,6 +72,42 @@ public class FindNodesByQueryCommandTest
     }
 
 
+    @Test
+    public void stream_in_pages()
+        throws Exception
+    {
+        for ( int i = 0; i < 25; i++ )
+        {
+            createNode( CreateNodeParams.create().
+                name( "my-node-" + i ).
+                parent( NodePath.ROOT ).
+                build() );
+        }
+
+        refresh();
+
+        final NodeQuery query = NodeQuery.create().
+            parent( NodePath.ROOT ).
+            size( 5 ).
+            batchSize( 10 ).
+            build();
+
+        final List<NodeId> streamed;
+        try (Stream<NodeHit> hits = FindNodesByQueryCommand.create().
+            query( query ).
+            indexServiceInternal( this.indexServiceInternal ).
+            storageService( this.storageService ).
+            searchService( this.searchService ).
+            build().
+            stream())
+        {
+            streamed = hits.map( NodeHit::getNodeId ).collect( Collectors.toList() );
+        }
+
+        assertEquals( 25, streamed.size() );
+        assertEquals( 25, Set.copyOf( streamed ).size() );
+    }
+
     @Test
     public void query_number_different_field_name_case()
         throws Exception
@@ -0,0 +1,67 @@
+package com.enonic.xp.repo.impl.node.dao;
+
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.blob.NodeVersionKey;
+import com.enonic.xp.data.PropertyTree;
+import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeVersion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class NodeVersionCacheTest
+{
+    private final NodeVersionKey key = NodeVersionKey.from( "a", "b", "c" );
+
+    @Test
+    public void getReturnsCopy()
+    {
+        final NodeVersionCache cache = new NodeVersionCache( 1000 );
+        final NodeVersion nodeVersion = newNodeVersion();
+
+        assertNull( cache.get( key ) );
+
+        cache.put( key, nodeVersion, 100 );
+        nodeVersion.getData().setString( "myName", "changed" );
+
+        final NodeVersion cached = cache.get( key );
+        assertEquals( nodeVersion.getId(), cached.getId() );
+        assertEquals( "myValue", cached.getData().getString( "myName" ) );
+
+        cached.getData().setString( "myName", "changed" );
+        assertNotSame( cached.getData(), cache.get( key ).getData() );
+        assertEquals( "myValue", cache.get( key ).getData().getString( "myName" ) );
+    }
+
+    @Test
+    public void evictOverCapacity()
+    {
+        final NodeVersionCache cache = new NodeVersionCache( 100 );
+
+        cache.put( key, newNodeVersion(), 200 );
+        assertNull( cache.get( key ) );
+    }
+
+    @Test
+    public void invalidateAll()
+    {
+        final NodeVersionCache cache = new NodeVersionCache( 1000 );
+
+        cache.put( key, newNodeVersion(), 100 );
+        cache.invalidateAll();
+        assertNull( cache.get( key ) );
+    }
+
+    private NodeVersion newNodeVersion()
+    {
+        final PropertyTree data = new PropertyTree();
+        data.addString( "myName", "myValue" );
+
+        return NodeVersion.create().
+            id( new NodeId() ).
+            data( data ).
+            build();
+    }
+}
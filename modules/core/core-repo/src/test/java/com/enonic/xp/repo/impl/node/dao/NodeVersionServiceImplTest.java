@@ -1,12 +1,24 @@
 package com.enonic.xp.repo.impl.node.dao;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 import com.google.common.io.ByteSource;
 
+import com.enonic.xp.blob.BlobKey;
 import com.enonic.xp.blob.BlobRecord;
 import com.enonic.xp.blob.NodeVersionKey;
 import com.enonic.xp.blob.NodeVersionKeys;
@@ -14,6 +26,7 @@ import com.enonic.xp.blob.Segment;
 import com.enonic.xp.data.PropertyTree;
 import com.enonic.xp.index.ChildOrder;
 import com.enonic.xp.internal.blobstore.MemoryBlobRecord;
+import com.enonic.xp.internal.blobstore.MemoryBlobStore;
 import com.enonic.xp.internal.blobstore.cache.CachedBlobStore;
 import com.enonic.xp.node.CreateNodeParams;
 import com.enonic.xp.node.Node;
@@ -22,14 +35,17 @@ import com.enonic.xp.node.NodePath;
 import com.enonic.xp.node.NodeType;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.node.NodeVersions;
+import com.enonic.xp.repo.impl.config.RepoConfiguration;
 import com.enonic.xp.repo.impl.node.AbstractNodeTest;
 
 import static com.enonic.xp.repo.impl.node.NodeConstants.INDEX_CONFIG_SEGMENT_LEVEL;
 import static com.enonic.xp.repo.impl.node.NodeConstants.NODE_SEGMENT_LEVEL;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 public class NodeVersionServiceImplTest
     extends AbstractNodeTest
@@ -183,9 +199,201 @@ public class NodeVersionServiceImplTest
         assertNotNull( nodeVersion );
     }
 
+    @Test
+    public void getVersionsDecodedInParallel()
+        throws Exception
+    {
+        assumeTrue( Runtime.getRuntime().availableProcessors() > 1 );
+
+        final Segment nodeSegment = createSegment( NODE_SEGMENT_LEVEL );
+        final CountDownLatch decodeLatch = new CountDownLatch( 2 );
+        final AtomicBoolean decodedConcurrently = new AtomicBoolean();
+        final Set<String> decodeThreads = ConcurrentHashMap.newKeySet();
+
+        final MemoryBlobStore decodeBlobStore = new MemoryBlobStore()
+        {
+            @Override
+            public BlobRecord getRecord( final Segment segment, final BlobKey key )
+            {
+                final BlobRecord record = super.getRecord( segment, key );
+                if ( record == null || !nodeSegment.equals( segment ) )
+                {
+                    return record;
+                }
+                return new LatchedBlobRecord( record, () -> {
+                    decodeThreads.add( Thread.currentThread().getName() );
+                    decodeLatch.countDown();
+                    if ( decodeLatch.await( 5, TimeUnit.SECONDS ) )
+                    {
+                        decodedConcurrently.set( true );
+                    }
+                } );
+            }
+        };
+
+        final RepoConfiguration repoConfiguration = Mockito.mock( RepoConfiguration.class );
+        Mockito.when( repoConfiguration.getNodeVersionCacheCapacity() ).thenReturn( 0L );
+
+        final NodeVersionServiceImpl nodeVersionService = new NodeVersionServiceImpl();
+        nodeVersionService.setBlobStore( decodeBlobStore );
+        nodeVersionService.setRepoConfiguration( repoConfiguration );
+        nodeVersionService.activate();
+
+        try
+        {
+            final List<NodeId> nodeIds = new ArrayList<>();
+            final NodeVersionKeys.Builder nodeVersionKeys = NodeVersionKeys.create();
+            for ( int i = 0; i < 10; i++ )
+            {
+                final NodeId nodeId = new NodeId();
+                nodeIds.add( nodeId );
+                nodeVersionKeys.add( nodeVersionService.store( NodeVersion.create().
+                    id( nodeId ).
+                    nodeType( NodeType.DEFAULT_NODE_COLLECTION ).
+                    childOrder( ChildOrder.defaultOrder() ).
+                    data( new PropertyTree() ).
+                    build(), createInternalContext() ) );
+            }
+
+            final NodeVersions nodeVersions = nodeVersionService.get( nodeVersionKeys.build(), createInternalContext() );
+
+            assertEquals( nodeIds.size(), nodeVersions.getSize() );
+            for ( int i = 0; i < nodeIds.size(); i++ )
+            {
+                assertEquals( nodeIds.get( i ), nodeVersions.get( i ).getId() );
+            }
+            assertTrue( decodedConcurrently.get() );
+            assertTrue( decodeThreads.stream().allMatch( name -> name.startsWith( "node-version-decode-thread-" ) ) );
+        }
+        finally
+        {
+            nodeVersionService.deactivate();
+        }
+    }
+
+    @Test
+    public void getVersionCached()
+        throws Exception
+    {
+        final Segment nodeSegment = createSegment( NODE_SEGMENT_LEVEL );
+        final AtomicInteger nodeBlobReads = new AtomicInteger();
+
+        final MemoryBlobStore countingBlobStore = new MemoryBlobStore()
+        {
+            @Override
+            public BlobRecord getRecord( final Segment segment, final BlobKey key )
+            {
+                final BlobRecord record = super.getRecord( segment, key );
+                if ( record == null || !nodeSegment.equals( segment ) )
+                {
+                    return record;
+                }
+                return new LatchedBlobRecord( record, nodeBlobReads::incrementAndGet );
+            }
+        };
+
+        final RepoConfiguration repoConfiguration = Mockito.mock( RepoConfiguration.class );
+        Mockito.when( repoConfiguration.getNodeVersionCacheCapacity() ).thenReturn( 1024L * 1024L );
+
+        final NodeVersionServiceImpl nodeVersionService = new NodeVersionServiceImpl();
+        nodeVersionService.setBlobStore( countingBlobStore );
+        nodeVersionService.setRepoConfiguration( repoConfiguration );
+        nodeVersionService.activate();
+
+        try
+        {
+            final PropertyTree data = new PropertyTree();
+            data.addString( "myName", "myValue" );
+            final NodeVersionKey nodeVersionKey = nodeVersionService.store( NodeVersion.create().
+                id( new NodeId() ).
+                nodeType( NodeType.DEFAULT_NODE_COLLECTION ).
+                childOrder( ChildOrder.defaultOrder() ).
+                data( data ).
+                build(), createInternalContext() );
+
+            final NodeVersion miss = nodeVersionService.get( nodeVersionKey, createInternalContext() );
+            assertEquals( 1, nodeBlobReads.get() );
+
+            final NodeVersion hit = nodeVersionService.get( nodeVersionKey, createInternalContext() );
+            assertEquals( 1, nodeBlobReads.get() );
+            assertEquals( miss.getId(), hit.getId() );
+            assertEquals( miss.getData(), hit.getData() );
+            assertNotSame( miss.getData(), hit.getData() );
+
+            final NodeVersions batch = nodeVersionService.get( NodeVersionKeys.from( nodeVersionKey ), createInternalContext() );
+            assertEquals( 1, nodeBlobReads.get() );
+            assertEquals( miss.getData(), batch.get( 0 ).getData() );
+        }
+        finally
+        {
+            nodeVersionService.deactivate();
+        }
+    }
+
     private NodeVersionKey getNodeVersionKey( Node node )
     {
         return branchService.get( node.id(), createInternalContext() ).
             getNodeVersionKey();
     }
+
+    private interface ReadListener
+    {
+        void onRead()
+            throws InterruptedException;
+    }
+
+    private static final class LatchedBlobRecord
+        implements BlobRecord
+    {
+        private final BlobRecord record;
+
+        private final ReadListener readListener;
+
+        LatchedBlobRecord( final BlobRecord record, final ReadListener readListener )
+        {
+            this.record = record;
+            this.readListener = readListener;
+        }
+
+        @Override
+        public BlobKey getKey()
+        {
+            return record.getKey();
+        }
+
+        @Override
+        public long getLength()
+        {
+            return record.getLength();
+        }
+
+        @Override
+        public ByteSource getBytes()
+        {
+            return new ByteSource()
+            {
+                @Override
+                public InputStream openStream()
+                    throws IOException
+                {
+                    try
+                    {
+                        readListener.onRead();
+                    }
+                    catch ( InterruptedException e )
+                    {
+                        Thread.currentThread().interrupt();
+                        throw new IOException( e );
+                    }
+                    return record.getBytes().openStream();
+                }
+            };
+        }
+
+        @Override
+        public long lastModified()
+        {
+            return record.lastModified();
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.enonic.xp.repo.impl.storage;
 
+import java.util.Collection;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -14,6 +16,9 @@ import com.enonic.xp.node.NodeState;
 import com.enonic.xp.node.NodeVersion;
 import com.enonic.xp.node.NodeVersionId;
 import com.enonic.xp.node.NodeVersionMetadata;
+import com.enonic.xp.node.PushNodeEntries;
+import com.enonic.xp.node.PushNodeEntry;
+import com.enonic.xp.node.PushNodesListener;
 import com.enonic.xp.repo.impl.InternalContext;
 import com.enonic.xp.repo.impl.branch.BranchService;
 import com.enonic.xp.repo.impl.node.dao.NodeVersionService;
@@ -202,5 +207,35 @@ class NodeStorageServiceImplTest
         verifyNoMoreInteractions( branchService );
     }
 
+    @Test
+    public void testPushStoresBranchEntriesInBatch()
+    {
+        final IndexDataService indexDataService = Mockito.mock( IndexDataService.class );
+        instance.setIndexDataService( indexDataService );
+
+        final PushNodeEntries.Builder entries = PushNodeEntries.create().
+            targetBranch( Branch.from( "target" ) ).
+            targetRepo( context.getRepositoryId() );
+        for ( int i = 0; i < 3; i++ )
+        {
+            entries.add( PushNodeEntry.create().
+                nodeBranchEntry( NodeBranchEntry.create().
+                    nodeId( NodeId.from( "node-" + i ) ).
+                    nodePath( NodePath.create( "/node-" + i ).build() ).
+                    nodeVersionId( nodeVersionId ).
+                    nodeVersionKey( versionKey ).
+                    nodeState( NodeState.DEFAULT ).
+                    build() ).
+                build() );
+        }
+
+        final PushNodesListener pushListener = Mockito.mock( PushNodesListener.class );
+
+        instance.push( entries.build(), pushListener, context );
 
+        verify( branchService, times( 1 ) ).store( Mockito.<Collection<PushNodeEntry>>argThat( batch -> batch.size() == 3 ),
+                                                   any( InternalContext.class ) );
+        verify( pushListener, times( 1 ) ).nodesPushed( 3 );
+        verifyNoMoreInteractions( branchService );
+    }
 }
@@ -0,0 +1,126 @@
+package com.enonic.xp.core.impl.security;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.PrincipalKeys;
+
+/**
+ * In-memory principal membership graph. Holds the direct memberships of each principal as loaded from the repository,
+ * and the transitive closure computed from them. Entries are invalidated when a relationship that they depend on changes.
+ */
+final class PrincipalMembershipCache
+{
+    private static final long MAX_SIZE = 10_000;
+
+    private final Function<PrincipalKey, PrincipalKeys> directMembershipsLoader;
+
+    private final Cache<PrincipalKey, PrincipalKeys> directMemberships = CacheBuilder.newBuilder().maximumSize( MAX_SIZE ).build();
+
+    private final Cache<PrincipalKey, PrincipalKeys> allMemberships = CacheBuilder.newBuilder().maximumSize( MAX_SIZE ).build();
+
+    private long generation;
+
+    PrincipalMembershipCache( final Function<PrincipalKey, PrincipalKeys> directMembershipsLoader )
+    {
+        this.directMembershipsLoader = directMembershipsLoader;
+    }
+
+    PrincipalKeys getAllMemberships( final PrincipalKey principalKey )
+    {
+        final PrincipalKeys cached = this.allMemberships.getIfPresent( principalKey );
+        if ( cached != null )
+        {
+            return cached;
+        }
+
+        final long loadGeneration = currentGeneration();
+
+        final Set<PrincipalKey> resolvedMemberships = new LinkedHashSet<>( getDirectMemberships( principalKey, loadGeneration ).getSet() );
+        final Set<PrincipalKey> queriedMemberships = new LinkedHashSet<>();
+
+        do
+        {
+            final Set<PrincipalKey> newMemberships = new LinkedHashSet<>();
+            resolvedMemberships.stream().filter( principal -> !queriedMemberships.contains( principal ) ).forEach( principal -> {
+                final PrincipalKeys closure = this.allMemberships.getIfPresent( principal );
+                if ( closure != null )
+                {
+                    newMemberships.addAll( closure.getSet() );
+                }
+                else
+                {
+                    newMemberships.addAll( getDirectMemberships( principal, loadGeneration ).getSet() );
+                }
+                queriedMemberships.add( principal );
+            } );
+            resolvedMemberships.addAll( newMemberships );
+        }
+        while ( resolvedMemberships.size() > queriedMemberships.size() );
+
+        final PrincipalKeys memberships = PrincipalKeys.from( resolvedMemberships );
+        putIfCurrent( this.allMemberships, principalKey, memberships, loadGeneration );
+        return memberships;
+    }
+
+    void invalidate( final PrincipalKey principalKey )
+    {
+        invalidate( Set.of( principalKey ) );
+    }
+
+    void invalidate( final Set<PrincipalKey> principalKeys )
+    {
+        synchronized ( this )
+        {
+            this.generation++;
+            this.directMemberships.invalidateAll( principalKeys );
+            this.allMemberships.invalidateAll( principalKeys );
+            this.directMemberships.asMap().values().removeIf( memberships -> !Collections.disjoint( memberships.getSet(), principalKeys ) );
+            this.allMemberships.asMap().values().removeIf( memberships -> !Collections.disjoint( memberships.getSet(), principalKeys ) );
+        }
+    }
+
+    void invalidateAll()
+    {
+        synchronized ( this )
+        {
+            this.generation++;
+            this.directMemberships.invalidateAll();
+            this.allMemberships.invalidateAll();
+        }
+    }
+
+    private PrincipalKeys getDirectMemberships( final PrincipalKey principalKey, final long loadGeneration )
+    {
+        final PrincipalKeys cached = this.directMemberships.getIfPresent( principalKey );
+        if ( cached != null )
+        {
+            return cached;
+        }
+
+        final PrincipalKeys memberships = this.directMembershipsLoader.apply( principalKey );
+        putIfCurrent( this.directMemberships, principalKey, memberships, loadGeneration );
+        return memberships;
+    }
+
+    private synchronized long currentGeneration()
+    {
+        return this.generation;
+    }
+
+    private synchronized void putIfCurrent( final Cache<PrincipalKey, PrincipalKeys> cache, final PrincipalKey principalKey,
+                                            final PrincipalKeys memberships, final long loadGeneration )
+    {
+        // skip values loaded before a concurrent invalidation, they may be stale
+        if ( this.generation == loadGeneration )
+        {
+            cache.put( principalKey, memberships );
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.time.Clock;
 import java.time.Instant;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -34,6 +35,8 @@ import com.enonic.xp.context.ContextAccessor;
 import com.enonic.xp.context.ContextBuilder;
 import com.enonic.xp.data.PropertyTree;
 import com.enonic.xp.data.ValueFactory;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
 import com.enonic.xp.index.IndexService;
 import com.enonic.xp.node.ApplyNodePermissionsParams;
 import com.enonic.xp.node.CreateNodeParams;
@@ -106,7 +109,7 @@ import static com.google.common.base.Strings.isNullOrEmpty;
 
 @Component(immediate = true)
 public final class SecurityServiceImpl
-    implements SecurityService
+    implements SecurityService, EventListener
 {
     private static final Logger LOG = LoggerFactory.getLogger( SecurityServiceImpl.class );
 
@@ -122,6 +125,8 @@ public final class SecurityServiceImpl
 
     private static final long INITIALIZATION_CHECK_MAX_COUNT = 30;
 
+    private static final ImmutableSet<String> NODE_RELOCATED_EVENTS = ImmutableSet.of( "node.moved", "node.renamed" );
+
     private final Clock clock;
 
     private final PasswordEncoder passwordEncoder = new PBKDF2Encoder();
@@ -130,6 +135,8 @@ public final class SecurityServiceImpl
 
     private final Striped<Lock> userEmailLocks = Striped.lazyWeakLock( 100 );
 
+    private final PrincipalMembershipCache membershipCache = new PrincipalMembershipCache( this::queryDirectMembershipsAsAdmin );
+
     private NodeService nodeService;
 
     private IndexService indexService;
@@ -234,6 +241,7 @@ public final class SecurityServiceImpl
 
             return null;
         } );
+        this.membershipCache.invalidate( relationship.getTo() );
     }
 
     @Override
@@ -247,6 +255,7 @@ public final class SecurityServiceImpl
 
             return null;
         } );
+        this.membershipCache.invalidate( relationship.getTo() );
     }
 
     @Override
@@ -257,6 +266,7 @@ public final class SecurityServiceImpl
             this.nodeService.refresh( RefreshMode.SEARCH );
             return null;
         } );
+        this.membershipCache.invalidate( from );
     }
 
     private void doRemoveRelationships( final PrincipalKey from )
@@ -293,6 +303,7 @@ public final class SecurityServiceImpl
 
             return null;
         } );
+        this.membershipCache.invalidateAll();
     }
 
     private PrincipalKeys resolveMemberships( final PrincipalKey userKey )
@@ -339,6 +350,11 @@ public final class SecurityServiceImpl
         }
     }
 
+    private PrincipalKeys queryDirectMembershipsAsAdmin( final PrincipalKey member )
+    {
+        return getAdminContext().callWith( () -> queryDirectMemberships( member ) );
+    }
+
     @Override
     @Deprecated
     public Principals findPrincipals( final IdProviderKey idProvider, final List<PrincipalType> types, final String query )
@@ -365,6 +381,11 @@ public final class SecurityServiceImpl
     @Override
     public PrincipalKeys getAllMemberships( PrincipalKey principalKey )
     {
+        // the cached graph is read with admin rights, only hand it out to callers that could read all of it anyway
+        if ( ContextAccessor.current().getAuthInfo().hasRole( RoleKeys.ADMIN ) )
+        {
+            return this.membershipCache.getAllMemberships( principalKey );
+        }
         return resolveMemberships( principalKey );
     }
 
@@ -558,7 +579,7 @@ public final class SecurityServiceImpl
 
     private AuthenticationInfo createAuthInfo( final User user )
     {
-        final PrincipalKeys principals = resolveMemberships( user.getKey() );
+        final PrincipalKeys principals = this.membershipCache.getAllMemberships( user.getKey() );
         return AuthenticationInfo.create().principals( principals ).
             principals( RoleKeys.AUTHENTICATED, RoleKeys.EVERYONE ).
             user( user ).build();
@@ -977,6 +998,7 @@ public final class SecurityServiceImpl
             this.nodeService.refresh( RefreshMode.SEARCH );
             return nodes;
         } );
+        this.membershipCache.invalidate( principalKey );
         if ( deletedNodes == null && deletedNodes.getSize() > 0 )
         {
             throw new PrincipalNotFoundException( principalKey );
@@ -1185,6 +1207,12 @@ public final class SecurityServiceImpl
         return ContextBuilder.from( SecurityConstants.CONTEXT_SECURITY ).authInfo( authInfo ).build();
     }
 
+    private Context getAdminContext()
+    {
+        final AuthenticationInfo authInfo = AuthenticationInfo.create().principals( RoleKeys.ADMIN ).user( User.ANONYMOUS ).build();
+        return ContextBuilder.from( SecurityConstants.CONTEXT_SECURITY ).authInfo( authInfo ).build();
+    }
+
     private <T> T callAsAuthenticated( Callable<T> runnable )
     {
         return this.getAuthenticatedContext().callWith( runnable );
@@ -1196,6 +1224,109 @@ public final class SecurityServiceImpl
         return ContextBuilder.from( SecurityConstants.CONTEXT_SECURITY ).authInfo( authInfo ).build();
     }
 
+    @Override
+    public void onEvent( final Event event )
+    {
+        // identity nodes may also be changed bypassing this service (node API, import, dump load), on this or another cluster node
+        if ( event.getType().equals( "repository.restored" ) )
+        {
+            this.membershipCache.invalidateAll();
+        }
+        else if ( event.getType().startsWith( "node." ) )
+        {
+            invalidateIdentityNodes( event );
+        }
+    }
+
+    private void invalidateIdentityNodes( final Event event )
+    {
+        final Optional<List> nodes = event.getValueAs( List.class, "nodes" );
+        if ( nodes.isEmpty() || nodes.get().isEmpty() )
+        {
+            this.membershipCache.invalidateAll();
+            return;
+        }
+
+        final boolean removed = event.getType().equals( "node.deleted" );
+        final String securityRepo = SecurityConstants.SECURITY_REPO.getId().toString();
+        final Set<PrincipalKey> invalidated = new LinkedHashSet<>();
+        for ( Object node : nodes.get() )
+        {
+            if ( !( node instanceof Map ) )
+            {
+                this.membershipCache.invalidateAll();
+                return;
+            }
+            final Object repo = ( (Map) node ).get( "repo" );
+            final Object path = ( (Map) node ).get( "path" );
+            if ( repo == null || securityRepo.equals( repo ) && path == null )
+            {
+                this.membershipCache.invalidateAll();
+                return;
+            }
+            if ( !securityRepo.equals( repo ) || !path.toString().startsWith( "/" + PrincipalKey.IDENTITY_NODE_NAME + "/" ) )
+            {
+                continue;
+            }
+
+            final PrincipalKey principalKey = toPrincipalKey( path.toString() );
+            if ( principalKey == null || NODE_RELOCATED_EVENTS.contains( event.getType() ) )
+            {
+                // id provider or folder removed together with its principals, or a principal known only by its new path
+                if ( removed || principalKey != null )
+                {
+                    this.membershipCache.invalidateAll();
+                    return;
+                }
+            }
+            else if ( !principalKey.isUser() )
+            {
+                // memberships are stored on groups and roles, their current members may have been added
+                invalidated.add( principalKey );
+                invalidated.addAll( getMembersAsAdmin( principalKey ) );
+            }
+            else if ( removed )
+            {
+                invalidated.add( principalKey );
+            }
+        }
+
+        if ( !invalidated.isEmpty() )
+        {
+            this.membershipCache.invalidate( invalidated );
+        }
+    }
+
+    private Set<PrincipalKey> getMembersAsAdmin( final PrincipalKey principalKey )
+    {
+        final Node node = getAdminContext().callWith( () -> this.nodeService.getByPath( principalKey.toPath() ) );
+        if ( node == null )
+        {
+            return Set.of();
+        }
+        final Set<PrincipalKey> members = new LinkedHashSet<>();
+        PrincipalNodeTranslator.relationshipsFromNode( node ).forEach( relationship -> members.add( relationship.getTo() ) );
+        return members;
+    }
+
+    private static PrincipalKey toPrincipalKey( final String path )
+    {
+        final String[] elements = path.substring( 1 ).split( "/" );
+        if ( elements.length == 3 && PrincipalKey.ROLES_NODE_NAME.equals( elements[1] ) )
+        {
+            return PrincipalKey.ofRole( elements[2] );
+        }
+        if ( elements.length == 4 && PrincipalKey.GROUPS_NODE_NAME.equals( elements[2] ) )
+        {
+            return PrincipalKey.ofGroup( IdProviderKey.from( elements[1] ), elements[3] );
+        }
+        if ( elements.length == 4 && PrincipalKey.USERS_NODE_NAME.equals( elements[2] ) )
+        {
+            return PrincipalKey.ofUser( IdProviderKey.from( elements[1] ), elements[3] );
+        }
+        return null;
+    }
+
     @Reference
     public void setNodeService( final NodeService nodeService )
     {
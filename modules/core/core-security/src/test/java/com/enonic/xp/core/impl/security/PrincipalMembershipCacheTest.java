@@ -0,0 +1,96 @@
+package com.enonic.xp.core.impl.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.enonic.xp.security.IdProviderKey;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.PrincipalKeys;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class PrincipalMembershipCacheTest
+{
+    private static final PrincipalKey USER = PrincipalKey.ofUser( IdProviderKey.system(), "user" );
+
+    private static final PrincipalKey GROUP_A = PrincipalKey.ofGroup( IdProviderKey.system(), "group-a" );
+
+    private static final PrincipalKey GROUP_B = PrincipalKey.ofGroup( IdProviderKey.system(), "group-b" );
+
+    private static final PrincipalKey ROLE = PrincipalKey.ofRole( "role" );
+
+    private final Map<PrincipalKey, PrincipalKeys> graph = new HashMap<>();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private PrincipalMembershipCache cache;
+
+    @BeforeEach
+    public void setUp()
+    {
+        graph.put( USER, PrincipalKeys.from( GROUP_A ) );
+        graph.put( GROUP_A, PrincipalKeys.from( GROUP_B ) );
+        graph.put( GROUP_B, PrincipalKeys.from( ROLE ) );
+
+        cache = new PrincipalMembershipCache( key -> {
+            loads.incrementAndGet();
+            return graph.getOrDefault( key, PrincipalKeys.empty() );
+        } );
+    }
+
+    @Test
+    public void getAllMemberships()
+    {
+        assertEquals( PrincipalKeys.from( GROUP_A, GROUP_B, ROLE ), cache.getAllMemberships( USER ) );
+        assertEquals( 4, loads.get() );
+
+        assertEquals( PrincipalKeys.from( GROUP_A, GROUP_B, ROLE ), cache.getAllMemberships( USER ) );
+        assertEquals( PrincipalKeys.from( GROUP_B, ROLE ), cache.getAllMemberships( GROUP_A ) );
+        assertEquals( 4, loads.get() );
+    }
+
+    @Test
+    public void invalidate()
+    {
+        cache.getAllMemberships( USER );
+        cache.getAllMemberships( GROUP_A );
+
+        graph.put( GROUP_B, PrincipalKeys.empty() );
+        cache.invalidate( GROUP_B );
+
+        assertEquals( PrincipalKeys.from( GROUP_A, GROUP_B ), cache.getAllMemberships( USER ) );
+        assertEquals( PrincipalKeys.from( GROUP_B ), cache.getAllMemberships( GROUP_A ) );
+    }
+
+    @Test
+    public void invalidateMany()
+    {
+        cache.getAllMemberships( USER );
+        cache.getAllMemberships( GROUP_B );
+        loads.set( 0 );
+
+        graph.put( USER, PrincipalKeys.from( GROUP_A, ROLE ) );
+        graph.put( GROUP_A, PrincipalKeys.empty() );
+        cache.invalidate( Set.of( USER, GROUP_A ) );
+
+        assertEquals( PrincipalKeys.from( GROUP_A, ROLE ), cache.getAllMemberships( USER ) );
+        assertEquals( PrincipalKeys.from( ROLE ), cache.getAllMemberships( GROUP_B ) );
+        assertEquals( 2, loads.get() );
+    }
+
+    @Test
+    public void invalidateAll()
+    {
+        cache.getAllMemberships( USER );
+
+        graph.put( USER, PrincipalKeys.empty() );
+        cache.invalidateAll();
+
+        assertEquals( PrincipalKeys.empty(), cache.getAllMemberships( USER ) );
+    }
+}
@@ -1,5 +1,7 @@
 package com.enonic.xp.core.impl.security;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,7 @@ import org.mockito.Mockito;
 
 import com.enonic.xp.context.Context;
 import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.event.Event;
 import com.enonic.xp.event.EventPublisher;
 import com.enonic.xp.internal.blobstore.MemoryBlobStore;
 import com.enonic.xp.repo.impl.binary.BinaryServiceImpl;
@@ -937,6 +940,96 @@ public class SecurityServiceImplTest
         } );
     }
 
+    @Test
+    public void testGetAllMembershipsAfterIdentityNodeEvent()
+        throws Exception
+    {
+        runAsAdmin( () -> {
+            final PrincipalKey userKey = PrincipalKey.ofUser( SYSTEM, "user1" );
+            final CreateUserParams createUser = CreateUserParams.create().
+                userKey( userKey ).
+                displayName( "User 1" ).
+                email( "user1@enonic.com" ).
+                login( "user1" ).
+                password( "123456" ).
+                build();
+
+            final PrincipalKey groupKey1 = PrincipalKey.ofGroup( SYSTEM, "group-a" );
+            final CreateGroupParams createGroup1 = CreateGroupParams.create().
+                groupKey( groupKey1 ).
+                displayName( "Group A" ).
+                build();
+
+            final PrincipalKey groupKey2 = PrincipalKey.ofGroup( SYSTEM, "group-b" );
+            final CreateGroupParams createGroup2 = CreateGroupParams.create().
+                groupKey( groupKey2 ).
+                displayName( "Group B" ).
+                build();
+
+            securityService.createUser( createUser );
+            securityService.createGroup( createGroup1 );
+            securityService.createGroup( createGroup2 );
+            securityService.addRelationship( PrincipalRelationship.from( groupKey1 ).to( userKey ) );
+
+            refresh();
+
+            assertEquals( PrincipalKeys.from( groupKey1 ), securityService.getAllMemberships( userKey ) );
+
+            // member added bypassing the security service
+            nodeService.update(
+                PrincipalNodeTranslator.addRelationshipToUpdateNodeParams( PrincipalRelationship.from( groupKey2 ).to( userKey ) ) );
+            refresh();
+
+            assertEquals( PrincipalKeys.from( groupKey1 ), securityService.getAllMemberships( userKey ) );
+
+            securityService.onEvent( Event.create( "node.updated" ).
+                value( "nodes", List.of( Map.of( "id", "group-b-id", "path", groupKey2.toPath().toString(), "branch",
+                                                 SecurityConstants.BRANCH_SECURITY.toString(), "repo",
+                                                 SecurityConstants.SECURITY_REPO.getId().toString() ) ) ).
+                build() );
+
+            final PrincipalKeys memberships = securityService.getAllMemberships( userKey );
+            assertTrue( memberships.contains( groupKey1 ) );
+            assertTrue( memberships.contains( groupKey2 ) );
+            assertEquals( 2, memberships.getSize() );
+        } );
+    }
+
+    @Test
+    public void testGetAllMembershipsAfterRemoveRelationship()
+        throws Exception
+    {
+        runAsAdmin( () -> {
+            final PrincipalKey userKey = PrincipalKey.ofUser( SYSTEM, "user1" );
+            final PrincipalKey groupKey1 = PrincipalKey.ofGroup( SYSTEM, "group-a" );
+            final PrincipalKey groupKey2 = PrincipalKey.ofGroup( SYSTEM, "group-b" );
+
+            securityService.createUser( CreateUserParams.create().
+                userKey( userKey ).
+                displayName( "User 1" ).
+                email( "user1@enonic.com" ).
+                login( "user1" ).
+                password( "123456" ).
+                build() );
+            securityService.createGroup( CreateGroupParams.create().groupKey( groupKey1 ).displayName( "Group A" ).build() );
+            securityService.createGroup( CreateGroupParams.create().groupKey( groupKey2 ).displayName( "Group B" ).build() );
+            securityService.addRelationship( PrincipalRelationship.from( groupKey1 ).to( userKey ) );
+            securityService.addRelationship( PrincipalRelationship.from( groupKey2 ).to( groupKey1 ) );
+
+            refresh();
+
+            assertEquals( 2, securityService.getAllMemberships( userKey ).getSize() );
+
+            securityService.removeRelationship( PrincipalRelationship.from( groupKey2 ).to( groupKey1 ) );
+
+            refresh();
+
+            final PrincipalKeys memberships = securityService.getAllMemberships( userKey );
+            assertTrue( memberships.contains( groupKey1 ) );
+            assertFalse( memberships.contains( groupKey2 ) );
+        } );
+    }
+
     @Test
     public void testCreateIdProvider()
         throws Exception
@@ -21,6 +21,7 @@ import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.resource.UrlResource;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
+import com.enonic.xp.script.impl.standard.ScriptConfig;
 import com.enonic.xp.script.impl.standard.ScriptRuntimeFactoryImpl;
 import com.enonic.xp.task.RunnableTask;
 import com.enonic.xp.task.TaskDescriptor;
@@ -70,7 +71,8 @@ public class NamedTaskScriptFactoryTest
         final ScriptAsyncService scriptAsyncService = Mockito.mock( ScriptAsyncService.class );
 
         final ScriptRuntimeFactoryImpl runtimeFactory =
-            new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService );
+            new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService,
+                                          Mockito.mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
 
         final PortalScriptServiceImpl scriptService = new PortalScriptServiceImpl( runtimeFactory );
         scriptService.initialize();
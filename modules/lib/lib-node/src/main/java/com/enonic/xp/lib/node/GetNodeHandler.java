@@ -1,14 +1,21 @@
 package com.enonic.xp.lib.node;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
 import com.enonic.xp.lib.node.mapper.NodeMapper;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeIds;
 import com.enonic.xp.node.NodeNotFoundException;
 import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.NodePaths;
 import com.enonic.xp.node.NodeVersionId;
+import com.enonic.xp.node.Nodes;
 
 public final class GetNodeHandler
     extends AbstractNodeHandler
@@ -30,13 +37,58 @@ public final class GetNodeHandler
         }
         else
         {
-            return this.keys.stream().
-                map( this::getByKey ).
-                filter( Objects::nonNull ).
-                collect( Collectors.toList() );
+            return getByKeys();
         }
     }
 
+    private Object getByKeys()
+    {
+        // keys without version are fetched in one call per key type, the result keeps the order of the keys
+        final Nodes nodesById = getByIds( this.keys.stream().
+            filter( key -> key.isId() && key.getVersionId() == null ).
+            map( NodeKey::getAsNodeId ).
+            collect( Collectors.toList() ) );
+
+        final Map<String, Node> nodesByPath = getByPaths( this.keys.stream().
+            filter( key -> key.isPath() && key.getVersionId() == null ).
+            map( key -> key.getAsPath().trimTrailingDivider() ).
+            collect( Collectors.toList() ) );
+
+        return this.keys.stream().
+            map( key -> {
+                if ( key.getVersionId() != null )
+                {
+                    return getByKey( key );
+                }
+                return convert( key.isId()
+                                    ? nodesById.getNodeById( key.getAsNodeId() )
+                                    : nodesByPath.get( pathKey( key.getAsPath().trimTrailingDivider() ) ) );
+            } ).
+            filter( Objects::nonNull ).
+            collect( Collectors.toList() );
+    }
+
+    private Nodes getByIds( final List<NodeId> ids )
+    {
+        return ids.isEmpty() ? Nodes.empty() : this.nodeService.getByIds( NodeIds.from( ids ) );
+    }
+
+    private Map<String, Node> getByPaths( final List<NodePath> paths )
+    {
+        final Map<String, Node> result = new HashMap<>();
+        if ( !paths.isEmpty() )
+        {
+            this.nodeService.getByPaths( NodePaths.from( paths ) ).forEach( node -> result.put( pathKey( node.path() ), node ) );
+        }
+        return result;
+    }
+
+    private static String pathKey( final NodePath path )
+    {
+        // paths are looked up case-insensitively, the requested path may differ in case from the stored one
+        return path.toString().toLowerCase( Locale.ROOT );
+    }
+
     private NodeMapper getByKey( final NodeKey key )
     {
         if ( key.isId() )
@@ -1,16 +1,28 @@
 package com.enonic.xp.lib.node;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import com.enonic.xp.branch.Branches;
 import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.lib.node.mapper.NodeMapper;
 import com.enonic.xp.node.Node;
 import com.enonic.xp.node.NodeId;
+import com.enonic.xp.node.NodeIds;
 import com.enonic.xp.node.NodePath;
+import com.enonic.xp.node.NodePaths;
 import com.enonic.xp.node.NodeVersionId;
+import com.enonic.xp.node.Nodes;
 import com.enonic.xp.repository.Repository;
 import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.script.serializer.JsonMapGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class GetNodeHandlerTest
     extends BaseNodeHandlerTest
@@ -20,6 +32,8 @@ public class GetNodeHandlerTest
         final Node node = createNode();
         Mockito.when( this.nodeService.getById( NodeId.from( "nodeId" ) ) ).
             thenReturn( node );
+        Mockito.when( this.nodeService.getByIds( NodeIds.from( "nodeId" ) ) ).
+            thenReturn( Nodes.from( node ) );
         Mockito.when( this.nodeService.getByPath( NodePath.create( "/node2-path" ).build() ) ).
             thenReturn( node );
         Mockito.when( this.nodeService.getByIdAndVersionId( NodeId.from( "nodeId" ), NodeVersionId.from( "versionKey" ) ) ).
@@ -48,6 +62,10 @@ public class GetNodeHandlerTest
     {
         Mockito.when( this.nodeService.getById( Mockito.isA( NodeId.class ) ) ).
             thenReturn( createNode() );
+        Mockito.when( this.nodeService.getByIds( Mockito.isA( NodeIds.class ) ) ).
+            thenAnswer( invocation -> Nodes.from( invocation.<NodeIds>getArgument( 0 ).stream().
+                map( id -> Node.create( createNode() ).id( id ).build() ).
+                collect( Collectors.toList() ) ) );
 
         Mockito.when( this.repositoryService.get( RepositoryId.from( "com.enonic.cms.default" ) ) ).
             thenReturn( Repository.create().
@@ -70,4 +88,56 @@ public class GetNodeHandlerTest
 
         runScript( "/lib/xp/examples/node/get-3.js" );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testMultipleKeys()
+    {
+        final Node node1 = Node.create( createNode( NodePath.ROOT, "node1" ) ).id( NodeId.from( "node1" ) ).build();
+        final Node node2 = Node.create( createNode( NodePath.ROOT, "node2" ) ).id( NodeId.from( "node2" ) ).build();
+        final Node node3 = Node.create( createNode( NodePath.ROOT, "node3" ) ).id( NodeId.from( "node3" ) ).build();
+
+        Mockito.when( this.nodeService.getByIds( NodeIds.from( "node2", "missing", "node1" ) ) ).
+            thenReturn( Nodes.from( node1, node2 ) );
+        Mockito.when( this.nodeService.getByPaths( NodePaths.from( "/node3", "/missing" ) ) ).
+            thenReturn( Nodes.from( node3 ) );
+
+        final Object result = GetNodeHandler.create().
+            nodeService( this.nodeService ).
+            keys( NodeKeys.from( new String[]{"node2", "/node3/", "missing", "/missing", "node1", "node2"} ) ).
+            build().
+            execute();
+
+        assertEquals( List.of( "node2", "node3", "node1", "node2" ), ( (List<?>) result ).stream().
+            map( mapper -> toJson( (NodeMapper) mapper ).get( "_id" ).asText() ).
+            collect( Collectors.toList() ) );
+        Mockito.verify( this.nodeService, Mockito.never() ).getById( Mockito.any() );
+        Mockito.verify( this.nodeService, Mockito.never() ).getByPath( Mockito.any() );
+    }
+
+    @Test
+    public void testMultipleKeysPathCaseInsensitive()
+    {
+        final Node node1 = Node.create( createNode( NodePath.ROOT, "node1" ) ).id( NodeId.from( "node1" ) ).build();
+        final Node node2 = Node.create( createNode( NodePath.ROOT, "node2" ) ).id( NodeId.from( "node2" ) ).build();
+
+        Mockito.when( this.nodeService.getByPaths( NodePaths.from( "/Node1", "/NODE2" ) ) ).
+            thenReturn( Nodes.from( node1, node2 ) );
+
+        final Object result = GetNodeHandler.create().
+            nodeService( this.nodeService ).
+            keys( NodeKeys.from( new String[]{"/NODE2", "/Node1"} ) ).
+            build().
+            execute();
+
+        assertEquals( List.of( "node2", "node1" ), ( (List<?>) result ).stream().
+            map( mapper -> toJson( (NodeMapper) mapper ).get( "_id" ).asText() ).
+            collect( Collectors.toList() ) );
+    }
+
+    private JsonNode toJson( final NodeMapper mapper )
+    {
+        final JsonMapGenerator generator = new JsonMapGenerator();
+        mapper.serialize( generator );
+        return (JsonNode) generator.getRoot();
+    }
+}
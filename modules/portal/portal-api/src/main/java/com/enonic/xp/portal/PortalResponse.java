@@ -18,12 +18,15 @@ public final class PortalResponse
 
     private final boolean applyFilters;
 
+    private final RenderCachePolicy cache;
+
     private PortalResponse( final Builder builder )
     {
         super( builder );
         this.postProcess = builder.postProcess;
         this.contributions = builder.contributions.build();
         this.applyFilters = builder.applyFilters;
+        this.cache = builder.cache;
     }
 
     public boolean isPostProcess()
@@ -52,6 +55,11 @@ public final class PortalResponse
         return applyFilters;
     }
 
+    public RenderCachePolicy getCache()
+    {
+        return cache;
+    }
+
     public static Builder create( final WebResponse source )
     {
         return new Builder( source );
@@ -71,6 +79,8 @@ public final class PortalResponse
 
         private boolean applyFilters = true;
 
+        private RenderCachePolicy cache;
+
         private Builder()
         {
             clearContributions();
@@ -88,6 +98,7 @@ public final class PortalResponse
             this.postProcess = source.postProcess;
             contributions( source.contributions );
             this.applyFilters = source.applyFilters;
+            this.cache = source.cache;
         }
 
         public Builder postProcess( final boolean postProcess )
@@ -138,6 +149,12 @@ public final class PortalResponse
             return this;
         }
 
+        public Builder cache( final RenderCachePolicy cache )
+        {
+            this.cache = cache;
+            return this;
+        }
+
         @Override
         public PortalResponse build()
         {
@@ -0,0 +1,108 @@
+package com.enonic.xp.portal;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+
+import com.enonic.xp.annotation.PublicApi;
+
+/**
+ * Declares that the output of a component may be cached. Cached output is reused for the same content version and component
+ * as long as the request values named in {@link #getVary()} are the same.
+ * <p>
+ * Vary keys are request parameter names, or header and cookie names prefixed with {@code header:} and {@code cookie:},
+ * or {@code user} for output that depends on the logged in user.
+ */
+@PublicApi
+public final class RenderCachePolicy
+{
+    private final Duration ttl;
+
+    private final ImmutableSet<String> vary;
+
+    private RenderCachePolicy( final Builder builder )
+    {
+        this.ttl = builder.ttl;
+        this.vary = builder.vary.build();
+    }
+
+    public Duration getTtl()
+    {
+        return ttl;
+    }
+
+    public ImmutableSet<String> getVary()
+    {
+        return vary;
+    }
+
+    @Override
+    public boolean equals( final Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() )
+        {
+            return false;
+        }
+        final RenderCachePolicy that = (RenderCachePolicy) o;
+        return ttl.equals( that.ttl ) && vary.equals( that.vary );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( ttl, vary );
+    }
+
+    @Override
+    public String toString()
+    {
+        return MoreObjects.toStringHelper( this ).add( "ttl", ttl ).add( "vary", vary ).toString();
+    }
+
+    public static Builder create()
+    {
+        return new Builder();
+    }
+
+    public static final class Builder
+    {
+        private Duration ttl;
+
+        private final ImmutableSet.Builder<String> vary = ImmutableSet.builder();
+
+        private Builder()
+        {
+        }
+
+        public Builder ttl( final Duration ttl )
+        {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Builder vary( final String key )
+        {
+            this.vary.add( key );
+            return this;
+        }
+
+        public Builder vary( final Iterable<String> keys )
+        {
+            this.vary.addAll( keys );
+            return this;
+        }
+
+        public RenderCachePolicy build()
+        {
+            Preconditions.checkArgument( ttl != null && !ttl.isNegative() && !ttl.isZero(), "ttl must be positive" );
+            return new RenderCachePolicy( this );
+        }
+    }
+}
@@ -1,13 +1,26 @@
 package com.enonic.xp.portal.handler;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.common.base.Splitter;
 import com.google.common.net.HttpHeaders;
 
 import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.WebException;
 import com.enonic.xp.web.WebRequest;
 
 public abstract class PortalHandlerWorker<WebRequestType extends WebRequest>
 {
+    private static final DateTimeFormatter HTTP_DATE_FORMAT =
+        DateTimeFormatter.ofPattern( "EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.ENGLISH ).withZone( ZoneOffset.UTC );
+
     protected WebRequestType request;
 
     public PortalHandlerWorker( final WebRequestType request )
@@ -33,4 +46,77 @@ public abstract class PortalHandlerWorker<WebRequestType extends WebRequest>
         final String cacheControlValue = ( isPublic ? "public" : "private" ) + ", max-age=31536000";
         response.header( HttpHeaders.CACHE_CONTROL, cacheControlValue );
     }
+
+    protected void setResponseValidators( final PortalResponse.Builder response, final String etag, final Instant lastModified )
+    {
+        if ( etag != null )
+        {
+            response.header( HttpHeaders.ETAG, "\"" + etag + "\"" );
+        }
+        if ( lastModified != null )
+        {
+            response.header( HttpHeaders.LAST_MODIFIED, HTTP_DATE_FORMAT.format( lastModified ) );
+        }
+    }
+
+    /**
+     * Checks the conditional headers of a GET or HEAD request against the validators of the requested resource.
+     * If-Modified-Since is only considered when the request has no If-None-Match header.
+     */
+    protected boolean isNotModified( final String etag, final Instant lastModified )
+    {
+        if ( request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD )
+        {
+            return false;
+        }
+
+        final String ifNoneMatch = getHeader( HttpHeaders.IF_NONE_MATCH );
+        if ( ifNoneMatch != null )
+        {
+            return etag != null && matchesEtag( ifNoneMatch, etag );
+        }
+
+        final String ifModifiedSince = getHeader( HttpHeaders.IF_MODIFIED_SINCE );
+        if ( ifModifiedSince != null && lastModified != null )
+        {
+            try
+            {
+                final Instant since = Instant.from( DateTimeFormatter.RFC_1123_DATE_TIME.parse( ifModifiedSince.trim() ) );
+                return !lastModified.truncatedTo( ChronoUnit.SECONDS ).isAfter( since );
+            }
+            catch ( DateTimeParseException e )
+            {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private String getHeader( final String name )
+    {
+        // request header names are case insensitive
+        for ( Map.Entry<String, String> header : request.getHeaders().entrySet() )
+        {
+            if ( header.getKey().equalsIgnoreCase( name ) )
+            {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private boolean matchesEtag( final String ifNoneMatch, final String etag )
+    {
+        final String quotedEtag = "\"" + etag + "\"";
+        for ( String candidate : Splitter.on( ',' ).trimResults().omitEmptyStrings().split( ifNoneMatch ) )
+        {
+            // weak comparison, as required for If-None-Match
+            final String value = candidate.startsWith( "W/" ) ? candidate.substring( 2 ) : candidate;
+            if ( value.equals( "*" ) || value.equals( quotedEtag ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,59 @@
+package com.enonic.xp.portal.impl;
+
+public @interface PortalConfig
+{
+    /**
+     * Whether component output declared cacheable by controllers is cached.
+     */
+    boolean componentCache_enabled() default true;
+
+    /**
+     * Maximum number of cached component outputs.
+     */
+    long componentCache_size() default 1000;
+
+    /**
+     * Upper limit in seconds for the ttl declared by controllers.
+     */
+    long componentCache_maxTtl() default 3600;
+
+    /**
+     * Whether the components of a page are rendered concurrently.
+     */
+    boolean componentRender_parallel() default false;
+
+    /**
+     * Number of threads rendering components concurrently.
+     */
+    int componentRender_threads() default 8;
+
+    /**
+     * Maximum number of components waiting for a render thread, further components render on the request thread.
+     */
+    int componentRender_queueSize() default 200;
+
+    /**
+     * Comma separated application keys or descriptor keys of components that are always rendered on the request thread.
+     */
+    String componentRender_sequential() default "";
+
+    /**
+     * Whether anonymous GET requests for the master branch are served from a cache of rendered responses.
+     */
+    boolean responseCache_enabled() default false;
+
+    /**
+     * Maximum total size of the compressed cached responses.
+     */
+    String responseCache_maxSize() default "50mb";
+
+    /**
+     * Time in seconds a response is cached, if not invalidated by a change before.
+     */
+    long responseCache_ttl() default 300;
+
+    /**
+     * Comma separated request headers that the cached responses vary on.
+     */
+    String responseCache_varyHeaders() default "";
+}
@@ -1,5 +1,6 @@
 package com.enonic.xp.portal.impl.controller;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -10,6 +11,7 @@ import javax.ws.rs.core.Response;
 import com.google.common.net.MediaType;
 
 import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderCachePolicy;
 import com.enonic.xp.portal.postprocess.HtmlTag;
 import com.enonic.xp.script.ScriptValue;
 import com.enonic.xp.web.HttpStatus;
@@ -85,6 +87,7 @@ public final class PortalResponseSerializer
         setRedirect( builder, value.getMember( "redirect" ) );
         populatePostProcess( builder, value.getMember( "postProcess" ) );
         populateWebSocket( builder, value.getMember( "webSocket" ) );
+        populateCache( builder, value.getMember( "cache" ) );
 
         if ( this.forceStatus != null )
         {
@@ -306,6 +309,38 @@ public final class PortalResponseSerializer
         builder.applyFilters( applyFilters != null ? applyFilters : true );
     }
 
+    private void populateCache( final PortalResponse.Builder builder, final ScriptValue value )
+    {
+        if ( value == null || !value.isObject() )
+        {
+            return;
+        }
+
+        final ScriptValue ttlValue = value.getMember( "ttl" );
+        final Long ttl = ttlValue != null ? ttlValue.getValue( Long.class ) : null;
+        if ( ttl == null || ttl <= 0 )
+        {
+            return;
+        }
+
+        final RenderCachePolicy.Builder cache = RenderCachePolicy.create().ttl( Duration.ofSeconds( ttl ) );
+
+        final ScriptValue varyValue = value.getMember( "vary" );
+        if ( varyValue != null )
+        {
+            if ( varyValue.isArray() )
+            {
+                cache.vary( varyValue.getArray( String.class ) );
+            }
+            else
+            {
+                cache.vary( varyValue.getValue( String.class ) );
+            }
+        }
+
+        builder.cache( cache.build() );
+    }
+
     private void populateWebSocket( final PortalResponse.Builder builder, final ScriptValue value )
     {
         if ( value == null )
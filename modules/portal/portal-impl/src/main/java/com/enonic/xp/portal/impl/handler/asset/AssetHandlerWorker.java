@@ -1,5 +1,7 @@
 package com.enonic.xp.portal.impl.handler.asset;
 
+import java.time.Instant;
+
 import com.google.common.net.HttpHeaders;
 import com.google.common.net.MediaType;
 
@@ -48,7 +50,6 @@ final class AssetHandlerWorker
 
         final String type = MediaTypes.instance().fromFile( this.resource.getKey().getName() ).toString();
         final PortalResponse.Builder portalResponse = PortalResponse.create().
-            body( resource ).
             contentType( MediaType.parse( type ) );
 
         if ( cacheable )
@@ -56,7 +57,20 @@ final class AssetHandlerWorker
             final String cacheControlValue = "public, no-transform, max-age=31536000";
             portalResponse.header( HttpHeaders.CACHE_CONTROL, cacheControlValue );
         }
-        return portalResponse.build();
+
+        final long timestamp = this.resource.getTimestamp();
+        if ( timestamp > 0 )
+        {
+            final String etag = Long.toHexString( timestamp ) + "-" + Long.toHexString( this.resource.getSize() );
+            final Instant lastModified = Instant.ofEpochMilli( timestamp );
+            setResponseValidators( portalResponse, etag, lastModified );
+            if ( isNotModified( etag, lastModified ) )
+            {
+                return portalResponse.status( HttpStatus.NOT_MODIFIED ).build();
+            }
+        }
+
+        return portalResponse.body( resource ).build();
     }
 
     private void resolveResource()
@@ -44,18 +44,17 @@ final class AttachmentHandlerWorker
     {
         final Content content = getContent( this.id );
         final Attachment attachment = resolveAttachment( content, this.name );
-        final ByteSource binary = resolveBinary( this.id, attachment );
 
         if ( request.getMethod() == HttpMethod.OPTIONS )
         {
+            resolveBinary( this.id, attachment );
             // it will be handled by default OPTIONS handler in BaseWebHandler
             return PortalResponse.create().status( HttpStatus.METHOD_NOT_ALLOWED ).build();
         }
 
         final MediaType contentType = MediaType.parse( attachment.getMimeType() );
         final PortalResponse.Builder portalResponse = PortalResponse.create().
-            contentType( contentType ).
-            body( binary );
+            contentType( contentType );
 
         if ( this.download )
         {
@@ -73,6 +72,17 @@ final class AttachmentHandlerWorker
             setResponseCacheable( portalResponse, everyoneCanRead && masterBranch );
         }
 
+        // the blob key is a hash of the binary, so it is a strong validator that is known without reading the binary
+        final String etag = this.contentService.getBinaryKey( this.id, attachment.getBinaryReference() );
+        setResponseValidators( portalResponse, etag, content.getModifiedTime() );
+        if ( isNotModified( etag, content.getModifiedTime() ) )
+        {
+            return portalResponse.status( HttpStatus.NOT_MODIFIED ).build();
+        }
+
+        final ByteSource binary = resolveBinary( this.id, attachment );
+        portalResponse.body( binary );
+
         new RangeRequestHelper().handleRangeRequest( request, portalResponse, binary, contentType );
 
         return portalResponse.build();
@@ -0,0 +1,193 @@
+package com.enonic.xp.portal.impl.handler.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.net.MediaType;
+
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.web.HttpStatus;
+import com.enonic.xp.web.WebResponse;
+
+/**
+ * Bounded in-memory store of rendered responses. Bodies are kept gzip compressed and the store is bounded by their compressed size.
+ * Entries know the content they were rendered for, so that they can be dropped when that content or its subtree changes.
+ */
+final class ResponseCache
+{
+    private final Cache<Key, Entry> entries;
+
+    private long generation;
+
+    ResponseCache( final long maxSize, final Duration ttl )
+    {
+        this.entries = CacheBuilder.newBuilder().
+            maximumWeight( maxSize ).
+            weigher( ( Key key, Entry entry ) -> entry.body.length ).
+            expireAfterWrite( ttl ).
+            build();
+    }
+
+    WebResponse get( final Key key )
+    {
+        final Entry entry = this.entries.getIfPresent( key );
+        return entry != null ? entry.toResponse() : null;
+    }
+
+    synchronized long currentGeneration()
+    {
+        return this.generation;
+    }
+
+    void put( final Key key, final WebResponse response, final long loadGeneration )
+    {
+        final Entry entry = new Entry( response );
+        synchronized ( this )
+        {
+            // skip responses rendered before a concurrent invalidation, they may be stale
+            if ( this.generation == loadGeneration )
+            {
+                this.entries.put( key, entry );
+            }
+        }
+    }
+
+    /**
+     * Drops the responses rendered for the given content, its descendants and its ancestors. Ancestors often list their children.
+     */
+    void invalidate( final RepositoryId repositoryId, final ContentPath contentPath )
+    {
+        synchronized ( this )
+        {
+            this.generation++;
+            this.entries.asMap().keySet().removeIf( key -> key.repositoryId.equals( repositoryId ) &&
+                ( key.contentPath.equals( contentPath ) || key.contentPath.isChildOf( contentPath ) ||
+                    contentPath.isChildOf( key.contentPath ) ) );
+        }
+    }
+
+    void invalidateAll()
+    {
+        synchronized ( this )
+        {
+            this.generation++;
+            this.entries.invalidateAll();
+        }
+    }
+
+    long size()
+    {
+        return this.entries.size();
+    }
+
+    static final class Key
+    {
+        private final RepositoryId repositoryId;
+
+        private final ContentPath contentPath;
+
+        private final List<Object> request;
+
+        Key( final RepositoryId repositoryId, final ContentPath contentPath, final List<Object> request )
+        {
+            this.repositoryId = repositoryId;
+            this.contentPath = contentPath;
+            this.request = request;
+        }
+
+        @Override
+        public boolean equals( final Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() )
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return repositoryId.equals( key.repositoryId ) && contentPath.equals( key.contentPath ) && request.equals( key.request );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash( repositoryId, contentPath, request );
+        }
+    }
+
+    private static final class Entry
+    {
+        private final HttpStatus status;
+
+        private final MediaType contentType;
+
+        private final ImmutableMap<String, String> headers;
+
+        private final boolean text;
+
+        private final byte[] body;
+
+        Entry( final WebResponse response )
+        {
+            this.status = response.getStatus();
+            this.contentType = response.getContentType();
+            this.headers = response.getHeaders();
+            this.text = response.getBody() instanceof String;
+            this.body =
+                compress( this.text ? ( (String) response.getBody() ).getBytes( StandardCharsets.UTF_8 ) : (byte[]) response.getBody() );
+        }
+
+        WebResponse toResponse()
+        {
+            final byte[] bytes = decompress( this.body );
+            return WebResponse.create().
+                status( this.status ).
+                contentType( this.contentType ).
+                headers( this.headers ).
+                body( this.text ? new String( bytes, StandardCharsets.UTF_8 ) : bytes ).
+                build();
+        }
+
+        private static byte[] compress( final byte[] bytes )
+        {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream( bytes.length / 4 + 32 );
+            try (OutputStream gzip = new GZIPOutputStream( out ))
+            {
+                gzip.write( bytes );
+            }
+            catch ( IOException e )
+            {
+                throw new UncheckedIOException( e );
+            }
+            return out.toByteArray();
+        }
+
+        private static byte[] decompress( final byte[] bytes )
+        {
+            try (InputStream gzip = new GZIPInputStream( new ByteArrayInputStream( bytes ) ))
+            {
+                return gzip.readAllBytes();
+            }
+            catch ( IOException e )
+            {
+                throw new UncheckedIOException( e );
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.enonic.xp.portal.impl.handler.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+
+import com.google.common.base.Splitter;
+
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.repository.RepositoryId;
+import com.enonic.xp.trace.Tracer;
+import com.enonic.xp.util.ByteSizeParser;
+import com.enonic.xp.web.HttpMethod;
+import com.enonic.xp.web.HttpStatus;
+import com.enonic.xp.web.WebRequest;
+import com.enonic.xp.web.WebResponse;
+import com.enonic.xp.web.handler.BaseWebHandler;
+import com.enonic.xp.web.handler.WebHandler;
+import com.enonic.xp.web.handler.WebHandlerChain;
+
+/**
+ * Serves anonymous GET and HEAD requests for pages on the master branch from a cache of previously rendered responses.
+ * Runs right after the site handler has resolved repository, branch and content path.
+ * Endpoint requests ({@code /_/service}, {@code /_/idprovider}, {@code /_/image} etc.) are never cached.
+ */
+@Component(immediate = true, service = {WebHandler.class, EventListener.class}, configurationPid = "com.enonic.xp.portal")
+public final class ResponseCacheHandler
+    extends BaseWebHandler
+    implements EventListener
+{
+    private static final String SITE_PREFIX = "/site/";
+
+    private static final String ENDPOINT_PATH = "/_/";
+
+    private static final String CONTENT_ROOT = ContentConstants.CONTENT_ROOT_PATH.toString();
+
+    private final boolean enabled;
+
+    private final List<String> varyHeaders;
+
+    private final ResponseCache cache;
+
+    @Activate
+    public ResponseCacheHandler( final PortalConfig config )
+    {
+        super( -40 );
+        this.enabled = config.responseCache_enabled();
+        this.varyHeaders = Splitter.on( ',' ).trimResults().omitEmptyStrings().splitToList( config.responseCache_varyHeaders() );
+        this.cache = new ResponseCache( ByteSizeParser.parse( config.responseCache_maxSize() ),
+                                        Duration.ofSeconds( config.responseCache_ttl() ) );
+    }
+
+    @Override
+    protected boolean canHandle( final WebRequest webRequest )
+    {
+        return this.enabled && webRequest instanceof PortalRequest && webRequest.getRawPath().startsWith( SITE_PREFIX ) &&
+            !webRequest.getRawPath().contains( ENDPOINT_PATH ) && isCacheable( (PortalRequest) webRequest );
+    }
+
+    @Override
+    protected WebResponse doHandle( final WebRequest webRequest, final WebResponse webResponse, final WebHandlerChain webHandlerChain )
+        throws Exception
+    {
+        final PortalRequest portalRequest = (PortalRequest) webRequest;
+        final ResponseCache.Key key = cacheKey( portalRequest );
+
+        final WebResponse cached = this.cache.get( key );
+        if ( cached != null )
+        {
+            Tracer.withCurrent( trace -> trace.put( "responseCache", "hit" ) );
+            return cached;
+        }
+
+        final long loadGeneration = this.cache.currentGeneration();
+        final WebResponse response = webHandlerChain.handle( webRequest, webResponse );
+        if ( portalRequest.getMethod() == HttpMethod.GET && isCacheable( response ) )
+        {
+            this.cache.put( key, response, loadGeneration );
+        }
+        return response;
+    }
+
+    @Override
+    public void onEvent( final Event event )
+    {
+        if ( !this.enabled )
+        {
+            return;
+        }
+
+        if ( event.isSubType( "application" ) || event.isSubType( "repository" ) )
+        {
+            this.cache.invalidateAll();
+        }
+        else if ( event.isSubType( "node" ) )
+        {
+            invalidateNodes( event );
+        }
+    }
+
+    private void invalidateNodes( final Event event )
+    {
+        final Optional<List> nodes = event.getValueAs( List.class, "nodes" );
+        if ( nodes.isEmpty() )
+        {
+            return;
+        }
+
+        for ( Object node : nodes.get() )
+        {
+            if ( !( node instanceof Map ) )
+            {
+                continue;
+            }
+            final Map<?, ?> nodeMap = (Map<?, ?>) node;
+            if ( !ContentConstants.BRANCH_MASTER.getValue().equals( nodeMap.get( "branch" ) ) || nodeMap.get( "repo" ) == null )
+            {
+                continue;
+            }
+
+            final RepositoryId repositoryId = RepositoryId.from( nodeMap.get( "repo" ).toString() );
+            for ( String pathKey : List.of( "path", "newPath", "currentTargetPath" ) )
+            {
+                final ContentPath contentPath = toContentPath( nodeMap.get( pathKey ) );
+                if ( contentPath != null )
+                {
+                    this.cache.invalidate( repositoryId, contentPath );
+                }
+            }
+        }
+    }
+
+    private ContentPath toContentPath( final Object nodePath )
+    {
+        if ( nodePath == null )
+        {
+            return null;
+        }
+
+        final String path = nodePath.toString();
+        if ( path.equals( CONTENT_ROOT ) )
+        {
+            return ContentPath.ROOT;
+        }
+        return path.startsWith( CONTENT_ROOT + "/" ) ? ContentPath.from( path.substring( CONTENT_ROOT.length() ) ) : null;
+    }
+
+    private boolean isCacheable( final PortalRequest portalRequest )
+    {
+        final HttpMethod method = portalRequest.getMethod();
+        return ( method == HttpMethod.GET || method == HttpMethod.HEAD ) && portalRequest.getMode() == RenderMode.LIVE &&
+            ContentConstants.BRANCH_MASTER.equals( portalRequest.getBranch() ) &&
+            !ContextAccessor.current().getAuthInfo().isAuthenticated() && getHeader( portalRequest, "Authorization" ) == null;
+    }
+
+    private boolean isCacheable( final WebResponse response )
+    {
+        if ( !HttpStatus.OK.equals( response.getStatus() ) || !response.getCookies().isEmpty() || response.getContentType() == null )
+        {
+            return false;
+        }
+        if ( !( response.getBody() instanceof String ) && !( response.getBody() instanceof byte[] ) )
+        {
+            return false;
+        }
+
+        // response header names are case insensitive
+        final String cacheControl = response.getHeaders().get( "Cache-Control" );
+        return !response.getHeaders().containsKey( "Set-Cookie" ) &&
+            ( cacheControl == null || !cacheControl.matches( "(?i).*(private|no-store|no-cache).*" ) );
+    }
+
+    private String getHeader( final PortalRequest portalRequest, final String name )
+    {
+        for ( Map.Entry<String, String> header : portalRequest.getHeaders().entrySet() )
+        {
+            if ( header.getKey().equalsIgnoreCase( name ) )
+            {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private ResponseCache.Key cacheKey( final PortalRequest portalRequest )
+    {
+        final List<Object> request = new ArrayList<>();
+        request.add( portalRequest.getScheme() );
+        request.add( portalRequest.getHost() );
+        request.add( portalRequest.getPort() );
+        request.add( portalRequest.getRawPath() );
+        request.add( new TreeMap<>( portalRequest.getParams().asMap() ).toString() );
+        for ( String header : this.varyHeaders )
+        {
+            request.add( getHeader( portalRequest, header ) );
+        }
+
+        return new ResponseCache.Key( portalRequest.getRepositoryId(), portalRequest.getContentPath(), request );
+    }
+}
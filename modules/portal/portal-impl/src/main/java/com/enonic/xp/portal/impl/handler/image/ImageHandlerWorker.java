@@ -1,5 +1,8 @@
 package com.enonic.xp.portal.impl.handler.image;
 
+import java.nio.charset.StandardCharsets;
+
+import com.google.common.hash.Hashing;
 import com.google.common.io.ByteSource;
 import com.google.common.io.Files;
 import com.google.common.net.MediaType;
@@ -77,24 +80,35 @@ final class ImageHandlerWorker
             throw notFound( "Attachment [%s] not found", imageContent.getName().toString() );
         }
 
-        final ByteSource binary = this.contentService.getBinary( this.contentId, attachment.getBinaryReference() );
-        if ( binary == null )
-        {
-            throw notFound( "Binary [%s] not found for content [%s]", attachment.getBinaryReference(), this.contentId );
-        }
-
         if ( request.getMethod() == HttpMethod.OPTIONS )
         {
+            resolveBinary( attachment );
             // it will be handled by default OPTIONS handler in BaseWebHandler
             return PortalResponse.create().status( HttpStatus.METHOD_NOT_ALLOWED ).build();
         }
 
-        final String fileExtension = Files.getFileExtension( this.name ).toLowerCase();
-        final ImageOrientation imageOrientation = mediaInfoService.getImageOrientation( binary, imageContent );
-
         final PortalResponse.Builder portalResponse = PortalResponse.create().
             contentType( MediaType.parse( attachment.getMimeType() ) );
 
+        if ( cacheable )
+        {
+            final AccessControlEntry publicAccessControlEntry = imageContent.getPermissions().getEntry( RoleKeys.EVERYONE );
+            final boolean everyoneCanRead = publicAccessControlEntry != null && publicAccessControlEntry.isAllowed( Permission.READ );
+            final boolean masterBranch = ContentConstants.BRANCH_MASTER.equals( request.getBranch() );
+            setResponseCacheable( portalResponse, everyoneCanRead && masterBranch );
+        }
+
+        final String etag = resolveEtag( imageContent, attachment );
+        setResponseValidators( portalResponse, etag, imageContent.getModifiedTime() );
+        if ( isNotModified( etag, imageContent.getModifiedTime() ) )
+        {
+            return portalResponse.status( HttpStatus.NOT_MODIFIED ).build();
+        }
+
+        final ByteSource binary = resolveBinary( attachment );
+        final String fileExtension = Files.getFileExtension( this.name ).toLowerCase();
+        final ImageOrientation imageOrientation = mediaInfoService.getImageOrientation( binary, imageContent );
+
         if ( "svgz".equals( fileExtension ) )
         {
             portalResponse.header( "Content-Encoding", "gzip" );
@@ -122,14 +136,6 @@ final class ImageHandlerWorker
             portalResponse.body( this.imageService.readImage( readImageParams ) );
         }
 
-        if ( cacheable )
-        {
-            final AccessControlEntry publicAccessControlEntry = imageContent.getPermissions().getEntry( RoleKeys.EVERYONE );
-            final boolean everyoneCanRead = publicAccessControlEntry != null && publicAccessControlEntry.isAllowed( Permission.READ );
-            final boolean masterBranch = ContentConstants.BRANCH_MASTER.equals( request.getBranch() );
-            setResponseCacheable( portalResponse, everyoneCanRead && masterBranch );
-        }
-
         final Trace trace = Tracer.current();
         if ( trace != null )
         {
@@ -140,6 +146,37 @@ final class ImageHandlerWorker
         return portalResponse.build();
     }
 
+    private ByteSource resolveBinary( final Attachment attachment )
+    {
+        final ByteSource binary = this.contentService.getBinary( this.contentId, attachment.getBinaryReference() );
+        if ( binary == null )
+        {
+            throw notFound( "Binary [%s] not found for content [%s]", attachment.getBinaryReference(), this.contentId );
+        }
+
+        return binary;
+    }
+
+    private String resolveEtag( final Media imageContent, final Attachment attachment )
+    {
+        final String binaryKey = this.contentService.getBinaryKey( this.contentId, attachment.getBinaryReference() );
+        if ( binaryKey == null )
+        {
+            return null;
+        }
+
+        // same source as the hash in image urls, plus everything in the request that changes the produced image
+        final String key = String.join( "/", binaryKey, String.valueOf( imageContent.getFocalPoint() ),
+                                        String.valueOf( imageContent.getCropping() ), String.valueOf( imageContent.getOrientation() ),
+                                        this.name, String.valueOf( this.scaleParams ), String.valueOf( this.filterParam ),
+                                        Integer.toString( getImageQuality() ), Integer.toString( getBackgroundColor() ) );
+        return Hashing.sha1().
+            newHasher().
+            putString( key, StandardCharsets.UTF_8 ).
+            hash().
+            toString();
+    }
+
     private int getImageQuality()
     {
         final int quality = parseImageQuality();
@@ -50,10 +50,11 @@ public final class PortalRequestMapper
             gen.value( "contextPath", this.request.getContextPath() );
         }
 
+        // computed when first read by the script, as many controllers never read them
         serializeBody( gen );
-        MapperHelper.serializeMultimap( "params", gen, this.request.getParams() );
-        MapperHelper.serializeMap( "headers", gen, this.request.getHeaders() );
-        MapperHelper.serializeMap( "cookies", gen, this.request.getCookies() );
+        gen.lazyValue( "params", this.request::getParams );
+        gen.lazyValue( "headers", this.request::getHeaders );
+        gen.lazyValue( "cookies", this.request::getCookies );
     }
 
     private void serializeBody( final MapGenerator gen )
@@ -64,6 +65,9 @@ public final class PortalRequestMapper
         }
 
         gen.value( "contentType", this.request.getContentType() );
-        gen.value( "body", this.request.getBodyAsString() );
+        if ( this.request.getBody() != null )
+        {
+            gen.lazyValue( "body", this.request::getBodyAsString );
+        }
     }
 }
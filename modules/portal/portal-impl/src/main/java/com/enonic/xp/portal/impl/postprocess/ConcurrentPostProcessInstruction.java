@@ -0,0 +1,13 @@
+package com.enonic.xp.portal.impl.postprocess;
+
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.postprocess.PostProcessInstruction;
+
+/**
+ * Instruction that may be evaluated on another thread, concurrently with the other instructions of the same pass.
+ */
+public interface ConcurrentPostProcessInstruction
+    extends PostProcessInstruction
+{
+    boolean isConcurrent( PortalRequest portalRequest, String instruction );
+}
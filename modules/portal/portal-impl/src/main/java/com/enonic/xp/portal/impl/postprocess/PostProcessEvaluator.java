@@ -2,8 +2,15 @@ package com.enonic.xp.portal.impl.postprocess;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
+import com.enonic.xp.context.Context;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.context.ContextBuilder;
 import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalRequestAccessor;
 import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.impl.parser.HtmlBlock;
 import com.enonic.xp.portal.impl.parser.HtmlBlockParser;
@@ -19,6 +26,8 @@ import static java.util.stream.Collectors.joining;
 
 final class PostProcessEvaluator
 {
+    private static final ThreadLocal<Boolean> CONCURRENT_EVALUATION = new ThreadLocal<>();
+
     protected PortalRequest portalRequest;
 
     protected PortalResponse portalResponse;
@@ -29,6 +38,8 @@ final class PostProcessEvaluator
 
     protected List<PostProcessInjection> injections;
 
+    protected Executor executor;
+
     public PostProcessEvaluator()
     {
     }
@@ -76,6 +87,12 @@ final class PostProcessEvaluator
 
     private HtmlBlocks processInstructions( final HtmlBlocks htmlBlocks )
     {
+        // instructions evaluated on the executor render sequentially, a nested pass waiting for the same pool could starve it
+        if ( this.executor != null && CONCURRENT_EVALUATION.get() == null )
+        {
+            return processInstructionsConcurrently( htmlBlocks );
+        }
+
         final HtmlBlocks.Builder processedHtmlBlocks = HtmlBlocks.builder();
 
         for ( HtmlBlock htmlBlock : htmlBlocks )
@@ -83,7 +100,8 @@ final class PostProcessEvaluator
             if ( isInstruction( htmlBlock ) )
             {
                 final String instructionContent = ( (Instruction) htmlBlock ).getValue();
-                final HtmlBlocks processedInstruction = executeInstruction( instructionContent );
+                final HtmlBlocks processedInstruction =
+                    mergeInstructionResponse( evaluateInstruction( this.portalRequest, instructionContent ) );
                 if ( processedInstruction != null )
                 {
                     processedHtmlBlocks.addAll( processedInstruction );
@@ -98,49 +116,180 @@ final class PostProcessEvaluator
         return processedHtmlBlocks.build();
     }
 
-    private HtmlBlocks executeInstruction( final String content )
+    private HtmlBlocks processInstructionsConcurrently( final HtmlBlocks htmlBlocks )
     {
-        for ( final PostProcessInstruction instruction : this.instructions )
+        final List<CompletableFuture<PortalResponse>> evaluations = new ArrayList<>();
+
+        for ( HtmlBlock htmlBlock : htmlBlocks )
         {
-            final PortalResponse instructionResponse = instruction.evaluate( this.portalRequest, content );
-            if ( instructionResponse == null )
+            if ( isInstruction( htmlBlock ) )
             {
-                continue;
+                final String instructionContent = ( (Instruction) htmlBlock ).getValue();
+                evaluations.add( isConcurrent( instructionContent )
+                                     ? evaluateInstructionAsync( instructionContent )
+                                     : CompletableFuture.completedFuture( evaluateInstruction( this.portalRequest, instructionContent ) ) );
             }
-
-            final boolean hasHeaders = !instructionResponse.getHeaders().isEmpty();
-            final boolean hasCookies = !instructionResponse.getCookies().isEmpty();
-            final boolean hasContributions = instructionResponse.hasContributions();
-            final boolean skipFilters = !instructionResponse.applyFilters();
-            if ( hasContributions || hasHeaders || skipFilters || hasCookies )
+            else
             {
-                final PortalResponse.Builder newPortalResponse = PortalResponse.create( this.portalResponse );
+                evaluations.add( null );
+            }
+        }
 
-                if ( hasContributions )
-                {
-                    newPortalResponse.contributionsFrom( instructionResponse );
-                }
-                if ( hasHeaders )
-                {
-                    newPortalResponse.headers( instructionResponse.getHeaders() );
-                }
-                if ( hasCookies )
-                {
-                    newPortalResponse.cookies( instructionResponse.getCookies() );
-                }
-                if ( skipFilters )
+        final HtmlBlocks.Builder processedHtmlBlocks = HtmlBlocks.builder();
+
+        int index = 0;
+        for ( HtmlBlock htmlBlock : htmlBlocks )
+        {
+            final CompletableFuture<PortalResponse> evaluation = evaluations.get( index++ );
+            if ( evaluation != null )
+            {
+                final HtmlBlocks processedInstruction = mergeInstructionResponse( join( evaluation ) );
+                if ( processedInstruction != null )
                 {
-                    newPortalResponse.applyFilters( false );
+                    processedHtmlBlocks.addAll( processedInstruction );
                 }
+            }
+            else
+            {
+                processedHtmlBlocks.add( htmlBlock );
+            }
+        }
 
-                this.portalResponse = newPortalResponse.build();
+        return processedHtmlBlocks.build();
+    }
+
+    private boolean isConcurrent( final String content )
+    {
+        for ( final PostProcessInstruction instruction : this.instructions )
+        {
+            if ( instruction instanceof ConcurrentPostProcessInstruction &&
+                ( (ConcurrentPostProcessInstruction) instruction ).isConcurrent( this.portalRequest, content ) )
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CompletableFuture<PortalResponse> evaluateInstructionAsync( final String content )
+    {
+        final Context context = ContextBuilder.from( ContextAccessor.current() ).detachSession().build();
+        final PortalRequest request = copyRequest( this.portalRequest );
+
+        return CompletableFuture.supplyAsync( () -> context.callWith( () -> evaluateConcurrentInstruction( request, content ) ),
+                                              this.executor );
+    }
+
+    private PortalResponse evaluateConcurrentInstruction( final PortalRequest request, final String content )
+    {
+        // may run on the request thread when the executor is saturated
+        final PortalRequest previousRequest = PortalRequestAccessor.get();
+        final Boolean previousConcurrent = CONCURRENT_EVALUATION.get();
+        PortalRequestAccessor.set( request );
+        CONCURRENT_EVALUATION.set( Boolean.TRUE );
+        try
+        {
+            return evaluateInstruction( request, content );
+        }
+        finally
+        {
+            PortalRequestAccessor.set( previousRequest );
+            CONCURRENT_EVALUATION.set( previousConcurrent );
+        }
+    }
+
+    private PortalResponse join( final CompletableFuture<PortalResponse> evaluation )
+    {
+        try
+        {
+            return evaluation.join();
+        }
+        catch ( CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if ( e.getCause() instanceof Error )
+            {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private PortalResponse evaluateInstruction( final PortalRequest request, final String content )
+    {
+        for ( final PostProcessInstruction instruction : this.instructions )
+        {
+            final PortalResponse instructionResponse = instruction.evaluate( request, content );
+            if ( instructionResponse != null )
+            {
+                return instructionResponse;
             }
-            final String resultBody = instructionResponse.getAsString();
-            return resultBody == null ? null : new HtmlBlockParser().parse( resultBody );
         }
         return null;
     }
 
+    private HtmlBlocks mergeInstructionResponse( final PortalResponse instructionResponse )
+    {
+        if ( instructionResponse == null )
+        {
+            return null;
+        }
+
+        final boolean hasHeaders = !instructionResponse.getHeaders().isEmpty();
+        final boolean hasCookies = !instructionResponse.getCookies().isEmpty();
+        final boolean hasContributions = instructionResponse.hasContributions();
+        final boolean skipFilters = !instructionResponse.applyFilters();
+        if ( hasContributions || hasHeaders || skipFilters || hasCookies )
+        {
+            final PortalResponse.Builder newPortalResponse = PortalResponse.create( this.portalResponse );
+
+            if ( hasContributions )
+            {
+                newPortalResponse.contributionsFrom( instructionResponse );
+            }
+            if ( hasHeaders )
+            {
+                newPortalResponse.headers( instructionResponse.getHeaders() );
+            }
+            if ( hasCookies )
+            {
+                newPortalResponse.cookies( instructionResponse.getCookies() );
+            }
+            if ( skipFilters )
+            {
+                newPortalResponse.applyFilters( false );
+            }
+
+            this.portalResponse = newPortalResponse.build();
+        }
+        final String resultBody = instructionResponse.getAsString();
+        return resultBody == null ? null : new HtmlBlockParser().parse( resultBody );
+    }
+
+    private static PortalRequest copyRequest( final PortalRequest source )
+    {
+        // renderers set the current component and application on the request, each concurrent instruction needs its own
+        final PortalRequest request = new PortalRequest( source );
+        request.setMode( source.getMode() );
+        request.setBranch( source.getBranch() );
+        request.setRepositoryId( source.getRepositoryId() );
+        request.setContentPath( source.getContentPath() );
+        request.setBaseUri( source.getBaseUri() );
+        request.setContextPath( source.getContextPath() );
+        request.setSite( source.getSite() );
+        request.setContent( source.getContent() );
+        request.setPageTemplate( source.getPageTemplate() );
+        request.setComponent( source.getComponent() );
+        request.setApplicationKey( source.getApplicationKey() );
+        request.setPageDescriptor( source.getPageDescriptor() );
+        request.setControllerScript( source.getControllerScript() );
+        request.setValidTicket( source.isValidTicket() );
+        return request;
+    }
+
     private HtmlBlocks processContributions( final HtmlBlocks htmlBlocks )
     {
         final HtmlBlocks.Builder processedHtmlBlocks = HtmlBlocks.builder();
@@ -0,0 +1,8 @@
+package com.enonic.xp.portal.impl.postprocess;
+
+import java.util.concurrent.Executor;
+
+public interface PostProcessExecutor
+    extends Executor
+{
+}
@@ -0,0 +1,57 @@
+package com.enonic.xp.portal.impl.postprocess;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+import com.enonic.xp.portal.impl.PortalConfig;
+
+@Component(configurationPid = "com.enonic.xp.portal")
+public class PostProcessExecutorImpl
+    implements PostProcessExecutor
+{
+    private static final Logger LOG = LoggerFactory.getLogger( PostProcessExecutorImpl.class );
+
+    private final SimpleExecutor simpleExecutor;
+
+    @Activate
+    public PostProcessExecutorImpl( final PortalConfig config )
+    {
+        final int threads = Math.max( config.componentRender_threads(), 1 );
+        final int queueSize = Math.max( config.componentRender_queueSize(), 1 );
+        final Function<ThreadFactory, ExecutorService> executorServiceSupplier = ( threadFactory ) -> {
+            final ThreadPoolExecutor executor =
+                new ThreadPoolExecutor( threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>( queueSize ), threadFactory,
+                                        new ThreadPoolExecutor.CallerRunsPolicy() );
+            executor.allowCoreThreadTimeOut( true );
+            return executor;
+        };
+
+        this.simpleExecutor =
+            new SimpleExecutor( executorServiceSupplier, "component-render-thread-%d", e -> LOG.error( "Component rendering failed", e ) );
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        simpleExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ),
+                                                    neverCommenced -> LOG.warn( "Not all components were rendered" ) );
+    }
+
+    @Override
+    public void execute( final Runnable command )
+    {
+        simpleExecutor.execute( command );
+    }
+}
@@ -3,6 +3,7 @@ package com.enonic.xp.portal.impl.postprocess;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -15,12 +16,13 @@ import com.google.common.net.MediaType;
 
 import com.enonic.xp.portal.PortalRequest;
 import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.portal.postprocess.PostProcessInjection;
 import com.enonic.xp.portal.postprocess.PostProcessInstruction;
 import com.enonic.xp.portal.postprocess.PostProcessor;
 import com.enonic.xp.web.HttpMethod;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.portal")
 public final class PostProcessorImpl
     implements PostProcessor
 {
@@ -33,6 +35,16 @@ public final class PostProcessorImpl
 
     private final List<PostProcessInjection> injections = new CopyOnWriteArrayList<>();
 
+    private PostProcessExecutor executor;
+
+    private boolean parallel;
+
+    @Activate
+    public void activate( final PortalConfig config )
+    {
+        this.parallel = config.componentRender_parallel();
+    }
+
     @Override
     public PortalResponse processResponse( final PortalRequest portalRequest, final PortalResponse portalResponse )
     {
@@ -102,9 +114,16 @@ public final class PostProcessorImpl
         evaluator.input = (String) portalResponse.getBody();
         evaluator.instructions = this.instructions;
         evaluator.injections = this.injections;
+        evaluator.executor = this.parallel ? this.executor : null;
         return evaluator;
     }
 
+    @Reference
+    public void setExecutor( final PostProcessExecutor executor )
+    {
+        this.executor = executor;
+    }
+
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.MULTIPLE)
     public void addInstruction( final PostProcessInstruction value )
     {
@@ -1,10 +1,13 @@
 package com.enonic.xp.portal.impl.postprocess.instruction;
 
 import java.util.List;
+import java.util.Set;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Reference;
 
 import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
 
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.content.Content;
@@ -13,20 +16,25 @@ import com.enonic.xp.page.Page;
 import com.enonic.xp.page.PageRegions;
 import com.enonic.xp.portal.PortalRequest;
 import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.portal.impl.postprocess.ConcurrentPostProcessInstruction;
+import com.enonic.xp.portal.impl.rendering.ComponentRenderCache;
 import com.enonic.xp.portal.impl.rendering.RenderException;
 import com.enonic.xp.portal.impl.rendering.RendererDelegate;
 import com.enonic.xp.portal.postprocess.PostProcessInstruction;
 import com.enonic.xp.region.Component;
 import com.enonic.xp.region.ComponentPath;
 import com.enonic.xp.region.ComponentService;
+import com.enonic.xp.region.DescriptorBasedComponent;
 import com.enonic.xp.region.LayoutComponent;
 import com.enonic.xp.region.LayoutRegions;
 import com.enonic.xp.trace.Trace;
 import com.enonic.xp.trace.Tracer;
 
-@org.osgi.service.component.annotations.Component(immediate = true)
+@org.osgi.service.component.annotations.Component(immediate = true, service = PostProcessInstruction.class,
+    configurationPid = "com.enonic.xp.portal")
 public final class ComponentInstruction
-    implements PostProcessInstruction
+    implements ConcurrentPostProcessInstruction
 {
     private static final String APPLICATION_COMPONENT_PREFIX = "module:";
 
@@ -38,6 +46,17 @@ public final class ComponentInstruction
 
     private ComponentService componentService;
 
+    private ComponentRenderCache componentRenderCache;
+
+    private Set<String> sequentialKeys = Set.of();
+
+    @Activate
+    public void activate( final PortalConfig config )
+    {
+        this.sequentialKeys =
+            ImmutableSet.copyOf( Splitter.on( ',' ).trimResults().omitEmptyStrings().split( config.componentRender_sequential() ) );
+    }
+
     @Reference
     public void setRendererDelegate( final RendererDelegate rendererDelegate )
     {
@@ -50,8 +69,55 @@ public final class ComponentInstruction
         this.componentService = componentService;
     }
 
+    @Reference
+    public void setComponentRenderCache( final ComponentRenderCache componentRenderCache )
+    {
+        this.componentRenderCache = componentRenderCache;
+    }
+
     @Override
     public PortalResponse evaluate( final PortalRequest portalRequest, final String instruction )
+    {
+        final String componentSelector = getComponentSelector( instruction );
+        if ( componentSelector == null )
+        {
+            return null;
+        }
+
+        return renderComponent( portalRequest, resolveComponent( portalRequest, componentSelector ) );
+    }
+
+    @Override
+    public boolean isConcurrent( final PortalRequest portalRequest, final String instruction )
+    {
+        final String componentSelector = getComponentSelector( instruction );
+        if ( componentSelector == null )
+        {
+            return false;
+        }
+
+        final Component component;
+        try
+        {
+            component = resolveComponent( portalRequest, componentSelector );
+        }
+        catch ( RenderException e )
+        {
+            // rendered on the request thread, where the error is reported as usual
+            return false;
+        }
+
+        if ( !( component instanceof DescriptorBasedComponent ) )
+        {
+            return false;
+        }
+
+        final DescriptorKey descriptorKey = ( (DescriptorBasedComponent) component ).getDescriptor();
+        return descriptorKey != null && !this.sequentialKeys.contains( descriptorKey.toString() ) &&
+            !this.sequentialKeys.contains( descriptorKey.getApplicationKey().toString() );
+    }
+
+    private String getComponentSelector( final String instruction )
     {
         if ( !Instruction.isInstruction( instruction, COMPONENT_INSTRUCTION_PREFIX ) )
         {
@@ -64,11 +130,10 @@ public final class ComponentInstruction
             return null;
         }
 
-        final String path = list.get( 1 );
-        return renderComponent( portalRequest, path );
+        return list.get( 1 );
     }
 
-    private PortalResponse renderComponent( final PortalRequest portalRequest, final String componentSelector )
+    private Component resolveComponent( final PortalRequest portalRequest, final String componentSelector )
     {
         final Component component;
         if ( FRAGMENT_COMPONENT.equalsIgnoreCase( componentSelector ) )
@@ -94,7 +159,7 @@ public final class ComponentInstruction
             }
             component = currentApplication == null ? null : componentService.getByKey( DescriptorKey.from( currentApplication, name ) );
         }
-        return renderComponent( portalRequest, component );
+        return component;
     }
 
     private PortalResponse renderComponent( final PortalRequest portalRequest, final Component component )
@@ -102,12 +167,17 @@ public final class ComponentInstruction
         final Trace trace = Tracer.newTrace( "renderComponent" );
         if ( trace == null )
         {
-            return rendererDelegate.render( component, portalRequest );
+            return doRenderComponent( portalRequest, component );
         }
 
         trace.put( "componentPath", component.getPath() );
         trace.put( "type", component.getType().toString() );
-        return Tracer.trace( trace, () -> rendererDelegate.render( component, portalRequest ) );
+        return Tracer.trace( trace, () -> doRenderComponent( portalRequest, component ) );
+    }
+
+    private PortalResponse doRenderComponent( final PortalRequest portalRequest, final Component component )
+    {
+        return componentRenderCache.render( component, portalRequest, () -> rendererDelegate.render( component, portalRequest ) );
     }
 
     private Component resolveComponent( final PortalRequest portalRequest, final ComponentPath path )
@@ -0,0 +1,12 @@
+package com.enonic.xp.portal.impl.rendering;
+
+import java.util.function.Supplier;
+
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.region.Component;
+
+public interface ComponentRenderCache
+{
+    PortalResponse render( Component component, PortalRequest portalRequest, Supplier<PortalResponse> renderer );
+}
@@ -0,0 +1,277 @@
+package com.enonic.xp.portal.impl.rendering;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.osgi.service.component.annotations.Activate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.event.EventListener;
+import com.enonic.xp.page.DescriptorKey;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderCachePolicy;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.region.Component;
+import com.enonic.xp.region.DescriptorBasedComponent;
+import com.enonic.xp.security.User;
+import com.enonic.xp.trace.Tracer;
+import com.enonic.xp.web.HttpMethod;
+import com.enonic.xp.web.HttpStatus;
+
+/**
+ * Caches the output of components whose controller declared a {@link RenderCachePolicy}. Entries are keyed on the content
+ * version, the component, the principals of the current user and the values of the declared vary keys. Entries of a
+ * repository branch are dropped when content in that branch changes, and all entries when applications change.
+ */
+@org.osgi.service.component.annotations.Component(immediate = true, configurationPid = "com.enonic.xp.portal")
+public final class ComponentRenderCacheImpl
+    implements ComponentRenderCache, EventListener
+{
+    private static final String HEADER_PREFIX = "header:";
+
+    private static final String COOKIE_PREFIX = "cookie:";
+
+    private static final String USER_KEY = "user";
+
+
+    private final boolean enabled;
+
+    private final Duration maxTtl;
+
+    private final Cache<List<Object>, ImmutableSet<String>> varyKeys;
+
+    private final Cache<List<Object>, CacheEntry> entries;
+
+    private long generation;
+
+    @Activate
+    public ComponentRenderCacheImpl( final PortalConfig config )
+    {
+        this.enabled = config.componentCache_enabled() && config.componentCache_size() > 0;
+        this.maxTtl = Duration.ofSeconds( config.componentCache_maxTtl() );
+        this.varyKeys = CacheBuilder.newBuilder().maximumSize( Math.max( config.componentCache_size(), 0 ) ).build();
+        this.entries = CacheBuilder.newBuilder().
+            maximumSize( Math.max( config.componentCache_size(), 0 ) ).
+            expireAfterWrite( this.maxTtl ).
+            build();
+    }
+
+    @Override
+    public PortalResponse render( final Component component, final PortalRequest portalRequest, final Supplier<PortalResponse> renderer )
+    {
+        if ( !this.enabled || !isCacheable( component, portalRequest ) )
+        {
+            return renderer.get();
+        }
+
+        final List<Object> baseKey = baseKey( component, portalRequest );
+
+        final ImmutableSet<String> vary = this.varyKeys.getIfPresent( baseKey );
+        if ( vary != null )
+        {
+            final CacheEntry cached = this.entries.getIfPresent( entryKey( baseKey, vary, portalRequest ) );
+            if ( cached != null && !cached.isExpired() )
+            {
+                Tracer.withCurrent( trace -> trace.put( "cache", "hit" ) );
+                return cached.response;
+            }
+        }
+
+        Tracer.withCurrent( trace -> trace.put( "cache", "miss" ) );
+
+        final long renderGeneration = currentGeneration();
+        final PortalResponse response = renderer.get();
+
+        final RenderCachePolicy policy = response.getCache();
+        if ( policy != null && isCacheable( response ) )
+        {
+            final Duration ttl = policy.getTtl().compareTo( this.maxTtl ) < 0 ? policy.getTtl() : this.maxTtl;
+            putIfCurrent( baseKey, policy.getVary(), entryKey( baseKey, policy.getVary(), portalRequest ),
+                          new CacheEntry( response, System.currentTimeMillis() + ttl.toMillis() ), renderGeneration );
+        }
+        return response;
+    }
+
+    @Override
+    public void onEvent( final Event event )
+    {
+        if ( event.isSubType( "application" ) || event.isSubType( "repository" ) )
+        {
+            invalidateAll();
+        }
+        else if ( event.isSubType( "node" ) )
+        {
+            invalidateNodes( event );
+        }
+    }
+
+    private void invalidateNodes( final Event event )
+    {
+        final Optional<List> nodes = event.getValueAs( List.class, "nodes" );
+        if ( nodes.isEmpty() || nodes.get().isEmpty() )
+        {
+            invalidateAll();
+            return;
+        }
+
+        // entries are keyed on repository and branch, so a change in draft leaves renders of master alone
+        final Set<List<String>> scopes = new HashSet<>();
+        for ( Object node : nodes.get() )
+        {
+            final Object repo = node instanceof Map ? ( (Map) node ).get( "repo" ) : null;
+            final Object branch = node instanceof Map ? ( (Map) node ).get( "branch" ) : null;
+            if ( repo == null || branch == null )
+            {
+                invalidateAll();
+                return;
+            }
+            if ( repo.toString().startsWith( ContentConstants.CONTENT_REPO_ID_PREFIX ) )
+            {
+                scopes.add( List.of( repo.toString(), branch.toString() ) );
+            }
+        }
+
+        if ( !scopes.isEmpty() )
+        {
+            invalidate( scopes );
+        }
+    }
+
+    private synchronized void invalidate( final Set<List<String>> scopes )
+    {
+        this.generation++;
+        this.varyKeys.asMap().keySet().removeIf( key -> scopes.contains( scope( key ) ) );
+        this.entries.asMap().keySet().removeIf( key -> scopes.contains( scope( key ) ) );
+    }
+
+    private static List<String> scope( final List<Object> key )
+    {
+        return Arrays.asList( String.valueOf( key.get( 0 ) ), String.valueOf( key.get( 1 ) ) );
+    }
+
+    void invalidateAll()
+    {
+        synchronized ( this )
+        {
+            this.generation++;
+            this.varyKeys.invalidateAll();
+            this.entries.invalidateAll();
+        }
+    }
+
+    private boolean isCacheable( final Component component, final PortalRequest portalRequest )
+    {
+        final HttpMethod method = portalRequest.getMethod();
+        return component != null && portalRequest.getContent() != null && portalRequest.getMode() == RenderMode.LIVE &&
+            ( method == HttpMethod.GET || method == HttpMethod.HEAD );
+    }
+
+    private boolean isCacheable( final PortalResponse response )
+    {
+        return HttpStatus.OK.equals( response.getStatus() ) && response.getBody() instanceof String && response.getCookies().isEmpty();
+    }
+
+    private List<Object> baseKey( final Component component, final PortalRequest portalRequest )
+    {
+        final Content content = portalRequest.getContent();
+        final DescriptorKey descriptor =
+            component instanceof DescriptorBasedComponent ? ( (DescriptorBasedComponent) component ).getDescriptor() : null;
+
+        // the base uri, host and port end up in generated links, queries made while rendering are filtered by the principals
+        return Arrays.asList( portalRequest.getRepositoryId(), portalRequest.getBranch(), content.getId(), content.getModifiedTime(),
+                              component.getPath(), component.getType().toString(), descriptor, portalRequest.getBaseUri(), portalRequest.getScheme(),
+                              portalRequest.getHost(), portalRequest.getPort(), ContextAccessor.current().getAuthInfo().getPrincipals() );
+    }
+
+    private List<Object> entryKey( final List<Object> baseKey, final ImmutableSet<String> vary, final PortalRequest portalRequest )
+    {
+        final List<Object> key = new ArrayList<>( baseKey );
+        for ( String name : vary )
+        {
+            key.add( varyValue( name, portalRequest ) );
+        }
+        return key;
+    }
+
+    private Object varyValue( final String name, final PortalRequest portalRequest )
+    {
+        if ( name.startsWith( HEADER_PREFIX ) )
+        {
+            return getHeader( portalRequest, name.substring( HEADER_PREFIX.length() ) );
+        }
+        if ( name.startsWith( COOKIE_PREFIX ) )
+        {
+            return portalRequest.getCookies().get( name.substring( COOKIE_PREFIX.length() ) );
+        }
+        if ( USER_KEY.equals( name ) )
+        {
+            final User user = ContextAccessor.current().getAuthInfo().getUser();
+            return user != null ? user.getKey() : null;
+        }
+        return ImmutableList.copyOf( portalRequest.getParams().get( name ) );
+    }
+
+    private String getHeader( final PortalRequest portalRequest, final String name )
+    {
+        // request header names are case insensitive
+        for ( Map.Entry<String, String> header : portalRequest.getHeaders().entrySet() )
+        {
+            if ( header.getKey().equalsIgnoreCase( name ) )
+            {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    private synchronized long currentGeneration()
+    {
+        return this.generation;
+    }
+
+    private synchronized void putIfCurrent( final List<Object> baseKey, final ImmutableSet<String> vary, final List<Object> entryKey,
+                                            final CacheEntry entry, final long renderGeneration )
+    {
+        // skip output rendered before a concurrent invalidation, it may be stale
+        if ( this.generation == renderGeneration )
+        {
+            this.varyKeys.put( baseKey, vary );
+            this.entries.put( entryKey, entry );
+        }
+    }
+
+    private static final class CacheEntry
+    {
+        final PortalResponse response;
+
+        final long expires;
+
+        CacheEntry( final PortalResponse response, final long expires )
+        {
+            this.response = response;
+            this.expires = expires;
+        }
+
+        boolean isExpired()
+        {
+            return System.currentTimeMillis() >= this.expires;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.resource.UrlResource;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
+import com.enonic.xp.script.impl.standard.ScriptConfig;
 import com.enonic.xp.script.impl.standard.ScriptRuntimeFactoryImpl;
 import com.enonic.xp.web.servlet.ServletRequestHolder;
 
@@ -80,7 +81,8 @@ public abstract class AbstractControllerTest
         final ScriptAsyncService scriptAsyncService = Mockito.mock( ScriptAsyncService.class );
 
         final ScriptRuntimeFactoryImpl runtimeFactory =
-            new ScriptRuntimeFactoryImpl( applicationService, this.resourceService, scriptAsyncService );
+            new ScriptRuntimeFactoryImpl( applicationService, this.resourceService, scriptAsyncService,
+                                          Mockito.mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
 
         final PortalScriptServiceImpl scriptService = new PortalScriptServiceImpl( runtimeFactory );
         scriptService.initialize();
@@ -1,5 +1,7 @@
 package com.enonic.xp.portal.impl.exception;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -52,6 +54,15 @@ public class ExceptionMapperTest
         assertEquals( "Custom message", result.getMessage() );
     }
 
+    @Test
+    public void map_rejectedExecutionException()
+    {
+        final WebException result = this.mapper.map( new RejectedExecutionException( "Custom message" ) );
+        assertNotNull( result );
+        assertEquals( HttpStatus.SERVICE_UNAVAILABLE, result.getStatus() );
+        assertEquals( "Custom message", result.getMessage() );
+    }
+
     @Test
     public void map_otherException()
     {
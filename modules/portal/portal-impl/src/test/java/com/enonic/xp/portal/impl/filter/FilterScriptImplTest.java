@@ -23,6 +23,7 @@ import com.enonic.xp.resource.ResourceProblemException;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.resource.UrlResource;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
+import com.enonic.xp.script.impl.standard.ScriptConfig;
 import com.enonic.xp.script.impl.standard.ScriptRuntimeFactoryImpl;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.HttpStatus;
@@ -78,7 +79,8 @@ public class FilterScriptImplTest
         final ScriptAsyncService scriptAsyncService = Mockito.mock( ScriptAsyncService.class );
 
         final ScriptRuntimeFactoryImpl runtimeFactory =
-            new ScriptRuntimeFactoryImpl( applicationService, this.resourceService, scriptAsyncService );
+            new ScriptRuntimeFactoryImpl( applicationService, this.resourceService, scriptAsyncService,
+                                          Mockito.mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
 
         final PortalScriptServiceImpl scriptService = new PortalScriptServiceImpl( runtimeFactory );
         scriptService.initialize();
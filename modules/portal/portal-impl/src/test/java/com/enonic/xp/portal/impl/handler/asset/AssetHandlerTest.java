@@ -210,4 +210,28 @@ public class AssetHandlerTest
         assertEquals( HttpStatus.OK, res.getStatus() );
         assertNull( res.getHeaders().get( "Cache-Control" ) );
     }
+
+    @Test
+    public void testNotModified()
+        throws Exception
+    {
+        final Resource resource = addResource( "demo:/assets/css/main.css" );
+        Mockito.when( resource.getTimestamp() ).thenReturn( 1000L );
+        Mockito.when( resource.getSize() ).thenReturn( 255L );
+
+        final WebResponse res = this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.OK, res.getStatus() );
+        assertEquals( "\"3e8-ff\"", res.getHeaders().get( "ETag" ) );
+        assertEquals( "Thu, 01 Jan 1970 00:00:01 GMT", res.getHeaders().get( "Last-Modified" ) );
+
+        this.request.getHeaders().put( "If-None-Match", "\"other\", \"3e8-ff\"" );
+        final WebResponse notModified = this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.NOT_MODIFIED, notModified.getStatus() );
+        assertNull( notModified.getBody() );
+        Mockito.verify( resource, Mockito.never() ).openStream();
+
+        this.request.getHeaders().clear();
+        this.request.getHeaders().put( "If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT" );
+        assertEquals( HttpStatus.OK, this.handler.handle( this.request, PortalResponse.create().build(), null ).getStatus() );
+    }
 }
@@ -94,7 +94,7 @@ public class AttachmentHandlerTest
             type( ContentTypeName.imageMedia() ).
             owner( PrincipalKey.from( "user:myStore:me" ) ).
             displayName( "My Content" ).
-            modifiedTime( Instant.now() ).
+            modifiedTime( Instant.parse( "2020-01-01T10:00:00.500Z" ) ).
             modifier( PrincipalKey.from( "user:system:admin" ) ).
             data( data ).
             attachments( Attachments.from( attachments ) ).
@@ -192,6 +192,32 @@ public class AttachmentHandlerTest
         assertSame( this.mediaBytes, res.getBody() );
     }
 
+    @Test
+    public void testNotModified()
+        throws Exception
+    {
+        Mockito.when( this.contentService.getBinaryKey( Mockito.isA( ContentId.class ), Mockito.isA( BinaryReference.class ) ) ).
+            thenReturn( "blobkey" );
+        this.request.setEndpointPath( "/_/attachment/inline/123456/logo.png" );
+
+        final PortalResponse res = (PortalResponse) this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.OK, res.getStatus() );
+        assertEquals( "\"blobkey\"", res.getHeaders().get( "ETag" ) );
+        assertEquals( "Wed, 01 Jan 2020 10:00:00 GMT", res.getHeaders().get( "Last-Modified" ) );
+
+        this.request.getHeaders().put( "If-None-Match", "W/\"blobkey\"" );
+        final PortalResponse notModified = (PortalResponse) this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.NOT_MODIFIED, notModified.getStatus() );
+        assertNull( notModified.getBody() );
+
+        this.request.getHeaders().clear();
+        this.request.getHeaders().put( "If-Modified-Since", "Wed, 01 Jan 2020 10:00:00 GMT" );
+        assertEquals( HttpStatus.NOT_MODIFIED,
+                      this.handler.handle( this.request, PortalResponse.create().build(), null ).getStatus() );
+
+        Mockito.verify( this.contentService, Mockito.times( 1 ) ).getBinary( Mockito.any(), Mockito.any() );
+    }
+
     @Test
     public void testIdNotFound()
         throws Exception
@@ -0,0 +1,129 @@
+package com.enonic.xp.portal.impl.handler.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.google.common.net.MediaType;
+
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.web.HttpMethod;
+import com.enonic.xp.web.WebResponse;
+import com.enonic.xp.web.handler.WebHandlerChain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResponseCacheHandlerTest
+{
+    private ResponseCacheHandler handler;
+
+    private WebHandlerChain chain;
+
+    private PortalRequest request;
+
+    @BeforeEach
+    public void setUp()
+        throws Exception
+    {
+        final PortalConfig config = Mockito.mock( PortalConfig.class );
+        when( config.responseCache_enabled() ).thenReturn( true );
+        when( config.responseCache_maxSize() ).thenReturn( "1mb" );
+        when( config.responseCache_ttl() ).thenReturn( 60L );
+        when( config.responseCache_varyHeaders() ).thenReturn( "" );
+        this.handler = new ResponseCacheHandler( config );
+
+        this.chain = Mockito.mock( WebHandlerChain.class );
+        when( this.chain.handle( any(), any() ) ).thenReturn( WebResponse.create().
+            contentType( MediaType.HTML_UTF_8 ).
+            body( "<html/>" ).
+            build() );
+
+        this.request = new PortalRequest();
+        this.request.setMethod( HttpMethod.GET );
+        this.request.setBranch( ContentConstants.BRANCH_MASTER );
+        this.request.setRepositoryId( ContentConstants.CONTENT_REPO_ID );
+        this.request.setRawPath( "/site/default/master/a" );
+        this.request.setContentPath( ContentPath.from( "/a" ) );
+    }
+
+    @Test
+    public void testOrder()
+    {
+        assertEquals( -40, this.handler.getOrder() );
+    }
+
+    @Test
+    public void cached()
+        throws Exception
+    {
+        assertEquals( "<html/>", this.handler.handle( this.request, WebResponse.create().build(), this.chain ).getBody() );
+        assertEquals( "<html/>", this.handler.handle( this.request, WebResponse.create().build(), this.chain ).getBody() );
+
+        verify( this.chain, times( 1 ) ).handle( any(), any() );
+    }
+
+    @Test
+    public void invalidated_on_node_event()
+        throws Exception
+    {
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+
+        this.handler.onEvent( Event.create( "node.pushed" ).
+            value( "nodes", List.of( Map.of( "path", "/content/a/child", "branch", "master", "repo",
+                                             ContentConstants.CONTENT_REPO_ID.toString() ) ) ).
+            build() );
+
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+        verify( this.chain, times( 2 ) ).handle( any(), any() );
+    }
+
+    @Test
+    public void not_invalidated_by_draft_node_event()
+        throws Exception
+    {
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+
+        this.handler.onEvent( Event.create( "node.updated" ).
+            value( "nodes", List.of(
+                Map.of( "path", "/content/a", "branch", "draft", "repo", ContentConstants.CONTENT_REPO_ID.toString() ) ) ).
+            build() );
+
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+        verify( this.chain, times( 1 ) ).handle( any(), any() );
+    }
+
+    @Test
+    public void draft_not_cached()
+        throws Exception
+    {
+        this.request.setBranch( ContentConstants.BRANCH_DRAFT );
+
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+
+        verify( this.chain, times( 2 ) ).handle( any(), any() );
+    }
+
+    @Test
+    public void service_not_cached()
+        throws Exception
+    {
+        this.request.setRawPath( "/site/default/master/a/_/service/myapp/myservice" );
+
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+        this.handler.handle( this.request, WebResponse.create().build(), this.chain );
+
+        verify( this.chain, times( 2 ) ).handle( any(), any() );
+    }
+}
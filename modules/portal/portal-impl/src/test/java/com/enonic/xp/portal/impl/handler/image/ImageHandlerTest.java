@@ -237,6 +237,31 @@ public class ImageHandlerTest
         assertTrue( res.getBody() instanceof ByteSource );
     }
 
+    @Test
+    public void testImageNotModified()
+        throws Exception
+    {
+        setupContent();
+        Mockito.when( this.contentService.getBinaryKey( Mockito.isA( ContentId.class ), Mockito.isA( BinaryReference.class ) ) ).
+            thenReturn( "binaryKey" );
+
+        this.request.setEndpointPath( "/_/image/123456/scale-100-100/image-name.jpg" );
+
+        final WebResponse res = this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.OK, res.getStatus() );
+        final String etag = res.getHeaders().get( "ETag" );
+        assertNotNull( etag );
+
+        // header names are case insensitive
+        this.request.getHeaders().put( "if-none-match", etag );
+
+        final WebResponse notModified = this.handler.handle( this.request, PortalResponse.create().build(), null );
+        assertEquals( HttpStatus.NOT_MODIFIED, notModified.getStatus() );
+        assertEquals( etag, notModified.getHeaders().get( "ETag" ) );
+        assertNull( notModified.getBody() );
+        Mockito.verify( this.imageService, Mockito.times( 1 ) ).readImage( Mockito.isA( ReadImageParams.class ) );
+    }
+
     @Test
     public void testImageWithFilter()
         throws Exception
@@ -5,12 +5,18 @@ import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Stream;
 
 import javax.servlet.http.Cookie;
 
 import org.junit.jupiter.api.Test;
 
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalRequestAccessor;
 import com.enonic.xp.portal.PortalResponse;
 import com.enonic.xp.portal.postprocess.HtmlTag;
 import com.enonic.xp.portal.postprocess.PostProcessInjection;
@@ -18,6 +24,9 @@ import com.enonic.xp.portal.postprocess.PostProcessInstruction;
 
 import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class PostProcessEvaluatorTest
 {
@@ -206,6 +215,71 @@ public class PostProcessEvaluatorTest
         assertEqualsTrimmed( readResource( "postProcessEvalResult3.html" ), result.getAsString() );
     }
 
+    @Test
+    public void testEvaluateInstructionsConcurrently()
+        throws Exception
+    {
+        final PortalRequest portalRequest = new PortalRequest();
+        final Set<String> renderThreads = ConcurrentHashMap.newKeySet();
+
+        final PostProcessInstruction uppercaseInstruction = new ConcurrentPostProcessInstruction()
+        {
+            @Override
+            public boolean isConcurrent( final PortalRequest portalRequest, final String instruction )
+            {
+                return instruction.startsWith( "UPPERCASE " );
+            }
+
+            @Override
+            public PortalResponse evaluate( final PortalRequest request, final String instruction )
+            {
+                if ( !instruction.startsWith( "UPPERCASE " ) )
+                {
+                    return null;
+                }
+                assertNotSame( portalRequest, request );
+                assertSame( request, PortalRequestAccessor.get() );
+                renderThreads.add( Thread.currentThread().getName() );
+
+                final String text = instruction.substring( "UPPERCASE ".length() ).toUpperCase();
+                return PortalResponse.create().
+                    body( text ).
+                    contribution( HtmlTag.BODY_END, text ).
+                    build();
+            }
+        };
+        final PostProcessInstruction expandInstruction = ( request, instruction ) -> {
+            if ( instruction.startsWith( "EXPAND " ) )
+            {
+                return PortalResponse.create().
+                    body( "<!--#UPPERCASE " + instruction.substring( "EXPAND ".length() ) + "-->" ).
+                    build();
+            }
+            return null;
+        };
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            final PostProcessEvaluator evaluator = new PostProcessEvaluator();
+            evaluator.input = readResource( "postProcessEvalSource3.html" );
+            evaluator.injections = Collections.emptyList();
+            evaluator.instructions = List.of( uppercaseInstruction, expandInstruction );
+            evaluator.portalRequest = portalRequest;
+            evaluator.portalResponse = PortalResponse.create().build();
+            evaluator.executor = executor;
+            final PortalResponse result = evaluator.evaluate();
+
+            assertEqualsTrimmed( readResource( "postProcessEvalResult3.html" ), result.getAsString() );
+            assertEquals( List.of( "CHANGE THIS TO UPPERCASE", "MORE TEXT", "SOME TEXT" ), result.getContributions( HtmlTag.BODY_END ) );
+            assertFalse( renderThreads.contains( Thread.currentThread().getName() ) );
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testEvaluateInstructionSetCookie()
         throws Exception
@@ -14,6 +14,7 @@ import com.enonic.xp.page.PageTemplate;
 import com.enonic.xp.page.PageTemplateKey;
 import com.enonic.xp.portal.PortalRequest;
 import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.impl.PortalConfig;
 import com.enonic.xp.portal.impl.rendering.RendererDelegate;
 import com.enonic.xp.region.Component;
 import com.enonic.xp.region.ComponentService;
@@ -24,6 +25,8 @@ import com.enonic.xp.security.PrincipalKey;
 import com.enonic.xp.site.Site;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doReturn;
@@ -41,6 +44,7 @@ public class ComponentInstructionTest
         ComponentInstruction instruction = new ComponentInstruction();
         instruction.setRendererDelegate( rendererDelegate );
         instruction.setComponentService( componentService );
+        instruction.setComponentRenderCache( ( renderable, request, renderer ) -> renderer.get() );
 
         PortalRequest portalRequest = new PortalRequest();
         Content content = createPage( "content-id", "content-name", "myapplication:content-type" );
@@ -64,6 +68,7 @@ public class ComponentInstructionTest
         ComponentInstruction instruction = new ComponentInstruction();
         instruction.setRendererDelegate( rendererFactory );
         instruction.setComponentService( componentService );
+        instruction.setComponentRenderCache( ( renderable, request, renderer ) -> renderer.get() );
 
         PortalRequest portalRequest = new PortalRequest();
         Content content = createPage( "content-id", "content-name", "myapplication:content-type" );
@@ -89,6 +94,7 @@ public class ComponentInstructionTest
         ComponentInstruction instruction = new ComponentInstruction();
         instruction.setRendererDelegate( rendererDelegate );
         instruction.setComponentService( componentService );
+        instruction.setComponentRenderCache( ( renderable, request, renderer ) -> renderer.get() );
 
         PortalRequest portalRequest = new PortalRequest();
         Content content = createFragmentPage( "content-id", "content-name" );
@@ -102,6 +108,33 @@ public class ComponentInstructionTest
         assertEquals( "<b>part content</b>", outputHtml );
     }
 
+    @Test
+    public void testConcurrent()
+        throws Exception
+    {
+        ComponentInstruction instruction = new ComponentInstruction();
+        instruction.setRendererDelegate( newRendererFactory( "<b>part content</b>" ) );
+        instruction.setComponentService( Mockito.mock( ComponentService.class ) );
+
+        PortalRequest portalRequest = new PortalRequest();
+        portalRequest.setContent( createPage( "content-id", "content-name", "myapplication:content-type" ) );
+
+        assertTrue( instruction.isConcurrent( portalRequest, "COMPONENT myRegion/0" ) );
+        assertFalse( instruction.isConcurrent( portalRequest, "COMPONENT myRegion/1" ) );
+        assertFalse( instruction.isConcurrent( portalRequest, "MACRO myMacro" ) );
+
+        PortalConfig config = mock( PortalConfig.class );
+        when( config.componentRender_sequential() ).thenReturn( "otherapp, myapplication" );
+        instruction.activate( config );
+
+        assertFalse( instruction.isConcurrent( portalRequest, "COMPONENT myRegion/0" ) );
+
+        when( config.componentRender_sequential() ).thenReturn( "myapplication:myparttemplate" );
+        instruction.activate( config );
+
+        assertFalse( instruction.isConcurrent( portalRequest, "COMPONENT myRegion/0" ) );
+    }
+
     private PageTemplate createPageTemplate()
     {
         return PageTemplate.newPageTemplate().
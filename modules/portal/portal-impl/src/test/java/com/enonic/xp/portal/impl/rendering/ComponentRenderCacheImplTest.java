@@ -0,0 +1,208 @@
+package com.enonic.xp.portal.impl.rendering;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.enonic.xp.content.Content;
+import com.enonic.xp.content.ContentConstants;
+import com.enonic.xp.content.ContentId;
+import com.enonic.xp.content.ContentPath;
+import com.enonic.xp.context.ContextAccessor;
+import com.enonic.xp.context.ContextBuilder;
+import com.enonic.xp.event.Event;
+import com.enonic.xp.page.DescriptorKey;
+import com.enonic.xp.portal.PortalRequest;
+import com.enonic.xp.portal.PortalResponse;
+import com.enonic.xp.portal.RenderCachePolicy;
+import com.enonic.xp.portal.RenderMode;
+import com.enonic.xp.portal.impl.PortalConfig;
+import com.enonic.xp.region.PartComponent;
+import com.enonic.xp.schema.content.ContentTypeName;
+import com.enonic.xp.security.IdProviderKey;
+import com.enonic.xp.security.PrincipalKey;
+import com.enonic.xp.security.RoleKeys;
+import com.enonic.xp.security.User;
+import com.enonic.xp.security.auth.AuthenticationInfo;
+import com.enonic.xp.web.HttpMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+public class ComponentRenderCacheImplTest
+{
+    private ComponentRenderCacheImpl cache;
+
+    private PortalRequest portalRequest;
+
+    private PartComponent component;
+
+    private AtomicInteger renderCount;
+
+    @BeforeEach
+    public void setUp()
+    {
+        final PortalConfig config = Mockito.mock( PortalConfig.class );
+        when( config.componentCache_enabled() ).thenReturn( true );
+        when( config.componentCache_size() ).thenReturn( 100L );
+        when( config.componentCache_maxTtl() ).thenReturn( 3600L );
+        this.cache = new ComponentRenderCacheImpl( config );
+
+        this.portalRequest = new PortalRequest();
+        this.portalRequest.setMethod( HttpMethod.GET );
+        this.portalRequest.setContent( createContent() );
+        this.portalRequest.setRepositoryId( ContentConstants.CONTENT_REPO_ID );
+        this.portalRequest.setBranch( ContentConstants.BRANCH_MASTER );
+
+        this.component = PartComponent.create().descriptor( DescriptorKey.from( "myapplication:menu" ) ).build();
+        this.renderCount = new AtomicInteger();
+    }
+
+    @Test
+    public void cached_when_declared()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).build();
+
+        assertEquals( "menu 1", render( policy ) );
+        assertEquals( "menu 1", render( policy ) );
+        assertEquals( 1, this.renderCount.get() );
+    }
+
+    @Test
+    public void not_cached_without_policy()
+    {
+        assertEquals( "menu 1", render( null ) );
+        assertEquals( "menu 2", render( null ) );
+    }
+
+    @Test
+    public void not_cached_outside_live_mode()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).build();
+        this.portalRequest.setMode( RenderMode.PREVIEW );
+
+        assertEquals( "menu 1", render( policy ) );
+        assertEquals( "menu 2", render( policy ) );
+    }
+
+    @Test
+    public void cached_per_vary_value()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).vary( "lang" ).build();
+
+        this.portalRequest.getParams().put( "lang", "en" );
+        assertEquals( "menu 1", render( policy ) );
+
+        this.portalRequest.getParams().replaceValues( "lang", List.of( "no" ) );
+        assertEquals( "menu 2", render( policy ) );
+
+        this.portalRequest.getParams().replaceValues( "lang", List.of( "en" ) );
+        assertEquals( "menu 1", render( policy ) );
+    }
+
+    @Test
+    public void cached_per_header_ignoring_name_case()
+    {
+        final RenderCachePolicy policy =
+            RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).vary( "header:Accept-Language" ).build();
+
+        this.portalRequest.getHeaders().put( "accept-language", "en" );
+        assertEquals( "menu 1", render( policy ) );
+
+        this.portalRequest.getHeaders().put( "accept-language", "no" );
+        assertEquals( "menu 2", render( policy ) );
+
+        this.portalRequest.getHeaders().remove( "accept-language" );
+        this.portalRequest.getHeaders().put( "ACCEPT-LANGUAGE", "en" );
+        assertEquals( "menu 1", render( policy ) );
+    }
+
+    @Test
+    public void invalidated_on_node_event()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).build();
+
+        assertEquals( "menu 1", render( policy ) );
+        this.cache.onEvent( Event.create( "node.updated" ).build() );
+        assertEquals( "menu 2", render( policy ) );
+    }
+
+    @Test
+    public void not_invalidated_on_system_node_event()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).build();
+
+        assertEquals( "menu 1", render( policy ) );
+        this.cache.onEvent( Event.create( "node.updated" ).
+            value( "nodes", List.of( Map.of( "path", "/scheduler/job", "branch", "master", "repo", "system-repo" ) ) ).
+            build() );
+        assertEquals( "menu 1", render( policy ) );
+
+        this.cache.onEvent( Event.create( "node.updated" ).
+            value( "nodes", List.of(
+                Map.of( "path", "/content/a", "branch", "master", "repo", ContentConstants.CONTENT_REPO_ID.toString() ) ) ).
+            build() );
+        assertEquals( "menu 2", render( policy ) );
+    }
+
+    @Test
+    public void not_invalidated_on_other_branch_node_event()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).build();
+
+        assertEquals( "menu 1", render( policy ) );
+        this.cache.onEvent( Event.create( "node.updated" ).
+            value( "nodes", List.of(
+                Map.of( "path", "/content/a", "branch", "draft", "repo", ContentConstants.CONTENT_REPO_ID.toString() ) ) ).
+            build() );
+        assertEquals( "menu 1", render( policy ) );
+
+        this.cache.onEvent( Event.create( "node.pushed" ).
+            value( "nodes", List.of(
+                Map.of( "path", "/content/a", "branch", "master", "repo", ContentConstants.CONTENT_REPO_ID.toString() ) ) ).
+            build() );
+        assertEquals( "menu 2", render( policy ) );
+    }
+
+    @Test
+    public void cached_per_principals()
+    {
+        final RenderCachePolicy policy = RenderCachePolicy.create().ttl( Duration.ofMinutes( 1 ) ).build();
+
+        final AuthenticationInfo authInfo = AuthenticationInfo.create().
+            user( User.create().key( PrincipalKey.ofUser( IdProviderKey.system(), "me" ) ).login( "me" ).build() ).
+            principals( RoleKeys.AUTHENTICATED ).
+            build();
+
+        assertEquals( "menu 1", render( policy ) );
+        assertEquals( "menu 2", ContextBuilder.from( ContextAccessor.current() ).authInfo( authInfo ).build().
+            callWith( () -> render( policy ) ) );
+        assertEquals( "menu 1", render( policy ) );
+    }
+
+    private String render( final RenderCachePolicy policy )
+    {
+        final PortalResponse response = this.cache.render( this.component, this.portalRequest, () -> PortalResponse.create().
+            body( "menu " + this.renderCount.incrementAndGet() ).
+            cache( policy ).
+            build() );
+        return response.getAsString();
+    }
+
+    private Content createContent()
+    {
+        return Content.create().
+            id( ContentId.from( "content-id" ) ).
+            path( ContentPath.from( "/site/content" ) ).
+            owner( PrincipalKey.from( "user:myStore:me" ) ).
+            displayName( "My Content" ).
+            modifier( PrincipalKey.from( "user:system:admin" ) ).
+            type( ContentTypeName.from( "myapplication:content-type" ) ).
+            build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.enonic.xp.script.serializer;
 
+import java.util.function.Supplier;
+
 import com.enonic.xp.annotation.PublicApi;
 
 @PublicApi
@@ -21,5 +23,13 @@ public interface MapGenerator
 
     MapGenerator rawValue( String key, Object value );
 
+    /**
+     * Adds a value that is only computed when it is read. Generators that can not defer it compute it right away.
+     */
+    default MapGenerator lazyValue( final String key, final Supplier<?> value )
+    {
+        return value( key, value.get() );
+    }
+
     MapGenerator end();
 }
@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
+import java.util.function.Supplier;
 
 import com.google.common.collect.Multimap;
 import com.google.common.io.ByteSource;
@@ -180,6 +181,19 @@ public abstract class MapGeneratorBase
         return this;
     }
 
+    @Override
+    public MapGenerator lazyValue( final String key, final Supplier<?> value )
+    {
+        checkIfMap();
+        putLazyInMap( this.current, key, () -> convertLazy( value.get() ) );
+        return this;
+    }
+
+    protected void putLazyInMap( final Object map, final String key, final Supplier<Object> value )
+    {
+        putInMap( map, key, value.get() );
+    }
+
     @Override
     public final MapGenerator end()
     {
@@ -246,6 +260,35 @@ public abstract class MapGeneratorBase
         return value.toString();
     }
 
+    private Object convertLazy( final Object value )
+    {
+        if ( value instanceof Map )
+        {
+            final MapGeneratorBase generator = newGenerator();
+            generator.serializeMap( (Map<?, ?>) value );
+            return generator.getRoot();
+        }
+
+        if ( value instanceof Multimap )
+        {
+            final MapGeneratorBase generator = newGenerator();
+            generator.serializeMultimap( (Multimap<?, ?>) value );
+            return generator.getRoot();
+        }
+
+        if ( value instanceof List )
+        {
+            final Object array = newArray();
+            for ( final Object item : (List<?>) value )
+            {
+                addToArray( array, convertLazy( item ) );
+            }
+            return array;
+        }
+
+        return convertValue( value );
+    }
+
     private Object convertNumber( final Number value )
     {
         if ( value instanceof Long )
@@ -0,0 +1,39 @@
+package com.enonic.xp.script.impl.engine;
+
+import java.util.Map;
+
+import com.enonic.xp.resource.Resource;
+import com.enonic.xp.script.ScriptValue;
+import com.enonic.xp.script.impl.function.ScriptFunctions;
+import com.enonic.xp.script.impl.util.JavascriptHelper;
+
+/**
+ * Script engine of one application. Evaluates CommonJS modules and converts values between Java and the engine.
+ * <p>
+ * Values created by the engine are passed around as {@link Object} and only interpreted by the engine that created them.
+ */
+public interface JsEngine
+{
+    /**
+     * Sets the variables of the global scope shared by all modules of this engine.
+     */
+    void setGlobals( Map<String, Object> globals );
+
+    /**
+     * Evaluates a module with {@code log, require, resolve, __, exports} and {@code module} in scope.
+     *
+     * @return the value of {@code module.exports}
+     */
+    Object executeModule( Resource resource, String fileName, ScriptFunctions functions );
+
+    Object parseJson( String text );
+
+    /**
+     * Converts a Java value, such as a {@link com.enonic.xp.script.serializer.MapSerializable} or a list, to an engine value.
+     */
+    Object toJs( Object value );
+
+    ScriptValue toScriptValue( Object value );
+
+    JavascriptHelper getJavascriptHelper();
+}
@@ -0,0 +1,6 @@
+package com.enonic.xp.script.impl.engine;
+
+public interface JsEngineFactory
+{
+    JsEngine create( ClassLoader classLoader );
+}
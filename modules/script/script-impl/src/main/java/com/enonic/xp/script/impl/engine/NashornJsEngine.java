@@ -0,0 +1,136 @@
+package com.enonic.xp.script.impl.engine;
+
+import java.util.Map;
+
+import javax.script.Bindings;
+import javax.script.ScriptContext;
+import javax.script.ScriptEngine;
+import javax.script.SimpleBindings;
+
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+
+import com.enonic.xp.resource.Resource;
+import com.enonic.xp.resource.ResourceError;
+import com.enonic.xp.resource.ResourceKey;
+import com.enonic.xp.script.ScriptValue;
+import com.enonic.xp.script.impl.function.ScriptFunctions;
+import com.enonic.xp.script.impl.util.ErrorHelper;
+import com.enonic.xp.script.impl.util.JavascriptHelper;
+import com.enonic.xp.script.impl.util.JavascriptHelperFactory;
+import com.enonic.xp.script.impl.util.JsObjectConverter;
+import com.enonic.xp.script.impl.value.ScriptValueFactory;
+import com.enonic.xp.script.impl.value.ScriptValueFactoryImpl;
+
+final class NashornJsEngine
+    implements JsEngine
+{
+    private final static String PRE_SCRIPT = "(function(log, require, resolve, __, exports, module) { ";
+
+    private final static String POST_SCRIPT = "\n});";
+
+    private final ScriptEngine engine;
+
+    private final JavascriptHelper javascriptHelper;
+
+    private final ScriptValueFactory scriptValueFactory;
+
+    private final JsObjectConverter converter;
+
+    NashornJsEngine( final ScriptEngine engine )
+    {
+        this.engine = engine;
+        this.javascriptHelper = new JavascriptHelperFactory( this.engine ).create();
+        this.scriptValueFactory = new ScriptValueFactoryImpl( this.javascriptHelper );
+        this.converter = new JsObjectConverter( this.javascriptHelper );
+    }
+
+    @Override
+    public void setGlobals( final Map<String, Object> globals )
+    {
+        final Bindings global = new SimpleBindings();
+        global.putAll( globals );
+        this.engine.setBindings( global, ScriptContext.GLOBAL_SCOPE );
+    }
+
+    @Override
+    public Object executeModule( final Resource resource, final String fileName, final ScriptFunctions functions )
+    {
+        final SimpleBindings bindings = new SimpleBindings();
+        bindings.put( ScriptEngine.FILENAME, fileName );
+
+        final ScriptObjectMirror func = compile( bindings, resource );
+        return call( resource.getKey(), func, functions );
+    }
+
+    private ScriptObjectMirror compile( final Bindings bindings, final Resource script )
+    {
+        try
+        {
+            final String text = script.readString();
+            final String source = PRE_SCRIPT + text + POST_SCRIPT;
+            return (ScriptObjectMirror) this.engine.eval( source, bindings );
+        }
+        catch ( final Exception e )
+        {
+            throw ErrorHelper.handleError( e );
+        }
+        catch ( final StackOverflowError e )
+        {
+            throw new ResourceError( script.getKey(), "Script execute failed: [" + script.getKey() + "]", e );
+        }
+    }
+
+    private Object call( final ResourceKey key, final ScriptObjectMirror func, final ScriptFunctions functions )
+    {
+        try
+        {
+            final ScriptObjectMirror exports = (ScriptObjectMirror) this.javascriptHelper.newJsObject();
+
+            final ScriptObjectMirror module = (ScriptObjectMirror) this.javascriptHelper.newJsObject();
+            module.put( "id", key.toString() );
+            module.put( "exports", exports );
+
+            func.call( exports, functions.getLog(), functions.getRequire(), functions.getResolve(), functions, exports, module );
+            return module.get( "exports" );
+        }
+        catch ( final Exception e )
+        {
+            throw ErrorHelper.handleError( e );
+        }
+        catch ( final StackOverflowError e )
+        {
+            throw new ResourceError( key, "Script require failed: [" + key + "]", e );
+        }
+    }
+
+    @Override
+    public Object parseJson( final String text )
+    {
+        try
+        {
+            return this.javascriptHelper.parseJson( text );
+        }
+        catch ( final Exception e )
+        {
+            throw ErrorHelper.handleError( e );
+        }
+    }
+
+    @Override
+    public Object toJs( final Object value )
+    {
+        return this.converter.toJs( value );
+    }
+
+    @Override
+    public ScriptValue toScriptValue( final Object value )
+    {
+        return this.scriptValueFactory.newValue( value );
+    }
+
+    @Override
+    public JavascriptHelper getJavascriptHelper()
+    {
+        return this.javascriptHelper;
+    }
+}
@@ -0,0 +1,25 @@
+package com.enonic.xp.script.impl.engine;
+
+import com.enonic.xp.script.impl.util.NashornHelper;
+
+public final class NashornJsEngineFactory
+    implements JsEngineFactory
+{
+    private final boolean persistentCodeCache;
+
+    public NashornJsEngineFactory()
+    {
+        this( false );
+    }
+
+    public NashornJsEngineFactory( final boolean persistentCodeCache )
+    {
+        this.persistentCodeCache = persistentCodeCache;
+    }
+
+    @Override
+    public JsEngine create( final ClassLoader classLoader )
+    {
+        return new NashornJsEngine( NashornHelper.getScriptEngine( classLoader, this.persistentCodeCache ) );
+    }
+}
@@ -23,6 +23,8 @@ public interface ScriptExecutor
 
     ScriptValue newScriptValue( Object value );
 
+    Object toNativeObject( Object value );
+
     ClassLoader getClassLoader();
 
     ServiceRegistry getServiceRegistry();
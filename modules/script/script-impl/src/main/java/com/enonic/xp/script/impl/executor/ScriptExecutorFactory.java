@@ -13,6 +13,8 @@ import com.enonic.xp.app.ApplicationNotFoundException;
 import com.enonic.xp.app.ApplicationService;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
+import com.enonic.xp.script.impl.engine.JsEngineFactory;
+import com.enonic.xp.script.impl.engine.NashornJsEngineFactory;
 import com.enonic.xp.script.impl.service.ServiceRegistryImpl;
 import com.enonic.xp.script.runtime.ScriptSettings;
 import com.enonic.xp.server.RunMode;
@@ -29,13 +31,23 @@ public class ScriptExecutorFactory
 
     private final ScriptSettings scriptSettings;
 
+    private final JsEngineFactory engineFactory;
+
     public ScriptExecutorFactory( final ApplicationService applicationService, final ResourceService resourceService,
                                   final ScriptAsyncService scriptAsyncService, final ScriptSettings scriptSettings )
+    {
+        this( applicationService, resourceService, scriptAsyncService, scriptSettings, new NashornJsEngineFactory() );
+    }
+
+    public ScriptExecutorFactory( final ApplicationService applicationService, final ResourceService resourceService,
+                                  final ScriptAsyncService scriptAsyncService, final ScriptSettings scriptSettings,
+                                  final JsEngineFactory engineFactory )
     {
         this.applicationService = applicationService;
         this.resourceService = resourceService;
         this.scriptAsyncService = scriptAsyncService;
         this.scriptSettings = scriptSettings;
+        this.engineFactory = engineFactory;
     }
 
     public ScriptExecutor create( final ApplicationKey applicationKey )
@@ -56,6 +68,7 @@ public class ScriptExecutorFactory
                                                                                    bundle.getBundleId() ) );
 
         return new ScriptExecutorImpl( scriptAsyncService.getAsyncExecutor( application.getKey() ), scriptSettings, classLoader,
-                                       new ServiceRegistryImpl( bundleContext ), resourceService, application, RunMode.get() );
+                                       new ServiceRegistryImpl( bundleContext ), resourceService, application, RunMode.get(),
+                                       engineFactory );
     }
 }
@@ -1,5 +1,6 @@
 package com.enonic.xp.script.impl.executor;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -7,32 +8,22 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
-import javax.script.Bindings;
-import javax.script.ScriptContext;
-import javax.script.ScriptEngine;
-import javax.script.SimpleBindings;
-
 import com.google.common.io.Files;
 import com.google.common.util.concurrent.Striped;
 
-import jdk.nashorn.api.scripting.ScriptObjectMirror;
-
 import com.enonic.xp.app.Application;
 import com.enonic.xp.resource.Resource;
-import com.enonic.xp.resource.ResourceError;
 import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.script.ScriptExports;
 import com.enonic.xp.script.ScriptValue;
-import com.enonic.xp.script.impl.function.ApplicationInfoBuilder;
+import com.enonic.xp.script.impl.engine.JsEngine;
+import com.enonic.xp.script.impl.engine.JsEngineFactory;
+import com.enonic.xp.script.impl.engine.NashornJsEngineFactory;
+import com.enonic.xp.script.impl.function.ApplicationInfoMapper;
 import com.enonic.xp.script.impl.function.ScriptFunctions;
 import com.enonic.xp.script.impl.service.ServiceRegistry;
-import com.enonic.xp.script.impl.util.ErrorHelper;
 import com.enonic.xp.script.impl.util.JavascriptHelper;
-import com.enonic.xp.script.impl.util.JavascriptHelperFactory;
-import com.enonic.xp.script.impl.util.NashornHelper;
-import com.enonic.xp.script.impl.value.ScriptValueFactory;
-import com.enonic.xp.script.impl.value.ScriptValueFactoryImpl;
 import com.enonic.xp.script.runtime.ScriptSettings;
 import com.enonic.xp.server.RunMode;
 
@@ -41,13 +32,9 @@ import static com.google.common.base.Strings.nullToEmpty;
 public final class ScriptExecutorImpl
     implements ScriptExecutor
 {
-    private final static String PRE_SCRIPT = "(function(log, require, resolve, __, exports, module) { ";
-
-    private final static String POST_SCRIPT = "\n});";
-
     private final Executor asyncExecutor;
 
-    private final ScriptEngine engine;
+    private final JsEngine engine;
 
     private final ScriptSettings scriptSettings;
 
@@ -67,39 +54,32 @@ public final class ScriptExecutorImpl
 
     private final RunMode runMode;
 
-    private final ScriptValueFactory scriptValueFactory;
-
-    private final JavascriptHelper javascriptHelper;
-
     private final static Striped<Lock> REQUIRE_LOCKS = Striped.lazyWeakLock( 1000 );
 
     public ScriptExecutorImpl( final Executor asyncExecutor, final ScriptSettings scriptSettings, final ClassLoader classLoader,
                                final ServiceRegistry serviceRegistry, final ResourceService resourceService, final Application application,
                                final RunMode runMode )
+    {
+        this( asyncExecutor, scriptSettings, classLoader, serviceRegistry, resourceService, application, runMode,
+              new NashornJsEngineFactory() );
+    }
+
+    public ScriptExecutorImpl( final Executor asyncExecutor, final ScriptSettings scriptSettings, final ClassLoader classLoader,
+                               final ServiceRegistry serviceRegistry, final ResourceService resourceService, final Application application,
+                               final RunMode runMode, final JsEngineFactory engineFactory )
     {
         this.asyncExecutor = asyncExecutor;
-        this.engine = NashornHelper.getScriptEngine( classLoader );
+        this.engine = engineFactory.create( classLoader );
         this.scriptSettings = scriptSettings;
         this.classLoader = classLoader;
         this.serviceRegistry = serviceRegistry;
         this.resourceService = resourceService;
         this.application = application;
         this.runMode = runMode;
-        this.javascriptHelper = new JavascriptHelperFactory( this.engine ).create();
-        this.scriptValueFactory = new ScriptValueFactoryImpl( this.javascriptHelper );
 
-        final Bindings global = new SimpleBindings();
-        global.putAll( this.scriptSettings.getGlobalVariables() );
-        global.put( "app", buildAppInfo() );
-        this.engine.setBindings( global, ScriptContext.GLOBAL_SCOPE );
-    }
-
-    private ScriptObjectMirror buildAppInfo()
-    {
-        final ApplicationInfoBuilder builder = new ApplicationInfoBuilder();
-        builder.application( this.application );
-        builder.javascriptHelper( this.javascriptHelper );
-        return builder.build();
+        final Map<String, Object> globals = new HashMap<>( this.scriptSettings.getGlobalVariables() );
+        globals.put( "app", this.engine.toJs( new ApplicationInfoMapper( this.application ) ) );
+        this.engine.setGlobals( globals );
     }
 
     @Override
@@ -196,52 +176,16 @@ public final class ScriptExecutorImpl
         return resource.getKey().toString();
     }
 
-    private Object executeRequire( final ResourceKey key, final ScriptObjectMirror func )
-    {
-        try
-        {
-            final ScriptObjectMirror exports = this.javascriptHelper.newJsObject();
-
-            final ScriptObjectMirror module = this.javascriptHelper.newJsObject();
-            module.put( "id", key.toString() );
-            module.put( "exports", exports );
-
-            final ScriptFunctions functions = new ScriptFunctions( key, this );
-            func.call( exports, functions.getLog(), functions.getRequire(), functions.getResolve(), functions, exports, module );
-            return module.get( "exports" );
-        }
-        catch ( final Exception e )
-        {
-            throw ErrorHelper.handleError( e );
-        }
-        catch ( final StackOverflowError e )
-        {
-            throw new ResourceError( key, "Script require failed: [" + key + "]", e );
-        }
-    }
-
     @Override
     public ScriptValue newScriptValue( final Object value )
     {
-        return this.scriptValueFactory.newValue( value );
+        return this.engine.toScriptValue( value );
     }
 
-    private ScriptObjectMirror doExecute( final Bindings bindings, final Resource script )
+    @Override
+    public Object toNativeObject( final Object value )
     {
-        try
-        {
-            final String text = script.readString();
-            final String source = PRE_SCRIPT + text + POST_SCRIPT;
-            return (ScriptObjectMirror) this.engine.eval( source, bindings );
-        }
-        catch ( final Exception e )
-        {
-            throw ErrorHelper.handleError( e );
-        }
-        catch ( final StackOverflowError e )
-        {
-            throw new ResourceError( script.getKey(), "Script execute failed: [" + script.getKey() + "]", e );
-        }
+        return this.engine.toJs( value );
     }
 
     private Resource loadResource( final ResourceKey key )
@@ -261,11 +205,8 @@ public final class ScriptExecutorImpl
 
     private Object requireJs( final Resource resource )
     {
-        final SimpleBindings bindings = new SimpleBindings();
-        bindings.put( ScriptEngine.FILENAME, getFileName( resource ) );
-
-        final ScriptObjectMirror func = doExecute( bindings, resource );
-        final Object result = executeRequire( resource.getKey(), func );
+        final ScriptFunctions functions = new ScriptFunctions( resource.getKey(), this );
+        final Object result = this.engine.executeModule( resource, getFileName( resource ), functions );
 
         this.exportsCache.put( resource, result );
         return result;
@@ -284,15 +225,8 @@ public final class ScriptExecutorImpl
 
     private Object requireJson( final Resource resource )
     {
-        try
-        {
-            final String text = resource.readString();
-            return this.javascriptHelper.parseJson( text );
-        }
-        catch ( final Exception e )
-        {
-            throw ErrorHelper.handleError( e );
-        }
+        final String text = resource.readString();
+        return this.engine.parseJson( text );
     }
 
     @Override
@@ -339,7 +273,7 @@ public final class ScriptExecutorImpl
     @Override
     public JavascriptHelper getJavascriptHelper()
     {
-        return this.javascriptHelper;
+        return this.engine.getJavascriptHelper();
     }
 
     @Override
@@ -0,0 +1,45 @@
+package com.enonic.xp.script.impl.function;
+
+import java.util.Map;
+
+import com.enonic.xp.app.Application;
+import com.enonic.xp.config.Configuration;
+import com.enonic.xp.script.serializer.MapGenerator;
+import com.enonic.xp.script.serializer.MapSerializable;
+
+public final class ApplicationInfoMapper
+    implements MapSerializable
+{
+    private final Application application;
+
+    public ApplicationInfoMapper( final Application application )
+    {
+        this.application = application;
+    }
+
+    @Override
+    public void serialize( final MapGenerator gen )
+    {
+        gen.value( "name", toString( this.application.getKey() ) );
+        gen.value( "version", toString( this.application.getVersion() ) );
+        serializeConfig( gen, this.application.getConfig() );
+    }
+
+    private void serializeConfig( final MapGenerator gen, final Configuration config )
+    {
+        gen.map( "config" );
+        if ( config != null )
+        {
+            for ( Map.Entry<String, String> entry : config.asMap().entrySet() )
+            {
+                gen.value( entry.getKey(), entry.getValue() );
+            }
+        }
+        gen.end();
+    }
+
+    private String toString( final Object value )
+    {
+        return value != null ? value.toString() : "";
+    }
+}
@@ -7,7 +7,6 @@ import com.enonic.xp.script.impl.bean.BeanContextImpl;
 import com.enonic.xp.script.impl.bean.ScriptBeanFactory;
 import com.enonic.xp.script.impl.bean.ScriptBeanFactoryImpl;
 import com.enonic.xp.script.impl.executor.ScriptExecutor;
-import com.enonic.xp.script.impl.util.JsObjectConverter;
 import com.enonic.xp.script.impl.util.NashornHelper;
 import com.enonic.xp.script.impl.util.ScriptLogger;
 
@@ -19,8 +18,6 @@ public final class ScriptFunctions
 
     private final ScriptBeanFactory scriptBeanFactory;
 
-    private final JsObjectConverter converter;
-
     private final ScriptLogger logger;
 
     public ScriptFunctions( final ResourceKey script, final ScriptExecutor executor )
@@ -33,7 +30,6 @@ public final class ScriptFunctions
         beanContext.setResourceKey( this.script );
 
         this.scriptBeanFactory = new ScriptBeanFactoryImpl( this.executor.getClassLoader(), beanContext );
-        this.converter = new JsObjectConverter( this.executor.getJavascriptHelper() );
         this.logger = new ScriptLogger( this.script, this.executor.getJavascriptHelper() );
     }
 
@@ -75,7 +71,7 @@ public final class ScriptFunctions
 
     public Object toNativeObject( final Object value )
     {
-        return this.converter.toJs( value );
+        return this.executor.toNativeObject( value );
     }
 
     public Object nullOrValue( final Object value )
@@ -0,0 +1,14 @@
+package com.enonic.xp.script.impl.standard;
+
+public @interface ScriptConfig
+{
+    /**
+     * Whether compiled scripts are kept in a cache on disk (work/cache/script), shared by restarts of applications and of the server.
+     */
+    boolean codeCache_enabled() default false;
+
+    /**
+     * Whether the page, part and layout controllers of an application are required in the background when it starts.
+     */
+    boolean warmUp_enabled() default false;
+}
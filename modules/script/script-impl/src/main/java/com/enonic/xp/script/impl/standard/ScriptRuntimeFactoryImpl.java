@@ -1,11 +1,16 @@
 package com.enonic.xp.script.impl.standard;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.enonic.xp.app.Application;
 import com.enonic.xp.app.ApplicationInvalidationLevel;
@@ -13,17 +18,27 @@ import com.enonic.xp.app.ApplicationInvalidator;
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.app.ApplicationListener;
 import com.enonic.xp.app.ApplicationService;
+import com.enonic.xp.core.internal.concurrent.SimpleExecutor;
+import com.enonic.xp.resource.ResourceKeys;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
+import com.enonic.xp.script.impl.engine.NashornJsEngineFactory;
 import com.enonic.xp.script.impl.executor.ScriptExecutorFactory;
 import com.enonic.xp.script.runtime.ScriptRuntime;
 import com.enonic.xp.script.runtime.ScriptRuntimeFactory;
 import com.enonic.xp.script.runtime.ScriptSettings;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.script")
 public class ScriptRuntimeFactoryImpl
     implements ScriptRuntimeFactory, ApplicationInvalidator, ApplicationListener
 {
+    private static final Logger LOG = LoggerFactory.getLogger( ScriptRuntimeFactoryImpl.class );
+
+    /**
+     * Controllers of page, part and layout descriptors, named after the directory of their descriptor.
+     */
+    private static final String CONTROLLERS_PATTERN = "^site/(pages|parts|layouts)/([^/]+)/\\2\\.js$";
+
     private final List<ScriptRuntimeImpl> list = new CopyOnWriteArrayList<>();
 
     private final ApplicationService applicationService;
@@ -32,14 +47,31 @@ public class ScriptRuntimeFactoryImpl
 
     private final ScriptAsyncService scriptAsyncService;
 
+    private final boolean persistentCodeCache;
+
+    private final SimpleExecutor warmUpExecutor;
+
     @Activate
     public ScriptRuntimeFactoryImpl( @Reference final ApplicationService applicationService,
                                      @Reference final ResourceService resourceService,
-                                     @Reference final ScriptAsyncService scriptAsyncService )
+                                     @Reference final ScriptAsyncService scriptAsyncService, final ScriptConfig config )
     {
         this.applicationService = applicationService;
         this.resourceService = resourceService;
         this.scriptAsyncService = scriptAsyncService;
+        this.persistentCodeCache = config.codeCache_enabled();
+        this.warmUpExecutor = config.warmUp_enabled() ? new SimpleExecutor( Executors::newSingleThreadExecutor, "script-warm-up-thread-%d",
+                                                                            e -> LOG.warn( "Script warm-up failed", e ) ) : null;
+    }
+
+    @Deactivate
+    public void deactivate()
+    {
+        if ( this.warmUpExecutor != null )
+        {
+            this.warmUpExecutor.shutdownAndAwaitTermination( Duration.ofSeconds( 5 ), neverCommenced -> {
+            } );
+        }
     }
 
     @Override
@@ -57,6 +89,32 @@ public class ScriptRuntimeFactoryImpl
     @Override
     public void activated( final Application app )
     {
+        if ( this.warmUpExecutor != null )
+        {
+            this.warmUpExecutor.execute( () -> warmUp( app ) );
+        }
+    }
+
+    private void warmUp( final Application app )
+    {
+        final ResourceKeys controllers = this.resourceService.findFiles( app.getKey(), CONTROLLERS_PATTERN );
+        if ( controllers.isEmpty() )
+        {
+            return;
+        }
+
+        LOG.debug( "Warm up {} controllers of {}", controllers.getSize(), app.getKey() );
+        for ( ScriptRuntimeImpl runtime : this.list )
+        {
+            try
+            {
+                runtime.warmUp( app.getKey(), controllers );
+            }
+            catch ( Exception e )
+            {
+                LOG.debug( "Could not warm up controllers of {}", app.getKey(), e );
+            }
+        }
     }
 
     @Override
@@ -77,7 +135,8 @@ public class ScriptRuntimeFactoryImpl
     ScriptRuntimeImpl doCreate( final ScriptSettings settings )
     {
         final ScriptExecutorFactory scriptExecutorFactory =
-            new ScriptExecutorFactory( applicationService, resourceService, scriptAsyncService, settings );
+            new ScriptExecutorFactory( applicationService, resourceService, scriptAsyncService, settings,
+                                       new NashornJsEngineFactory( persistentCodeCache ) );
 
         return new ScriptRuntimeImpl( scriptExecutorFactory::create );
     }
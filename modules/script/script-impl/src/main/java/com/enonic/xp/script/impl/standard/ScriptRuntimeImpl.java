@@ -10,11 +10,11 @@ import org.slf4j.LoggerFactory;
 
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.resource.ResourceKey;
+import com.enonic.xp.resource.ResourceKeys;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.script.ScriptExports;
 import com.enonic.xp.script.ScriptValue;
 import com.enonic.xp.script.impl.executor.ScriptExecutor;
-import com.enonic.xp.script.impl.util.JsObjectConverter;
 import com.enonic.xp.script.runtime.ScriptRuntime;
 
 class ScriptRuntimeImpl
@@ -70,7 +70,23 @@ class ScriptRuntimeImpl
     public Object toNativeObject( final ResourceKey script, final Object value )
     {
         final ScriptExecutor executor = getExecutor( script.getApplicationKey() );
-        return new JsObjectConverter( executor.getJavascriptHelper() ).toJs( value );
+        return executor.toNativeObject( value );
+    }
+
+    public void warmUp( final ApplicationKey key, final ResourceKeys scripts )
+    {
+        final ScriptExecutor executor = getExecutor( key );
+        for ( ResourceKey script : scripts )
+        {
+            try
+            {
+                executor.executeRequire( script );
+            }
+            catch ( Exception e )
+            {
+                LOG.warn( "Could not warm up script [{}]", script, e );
+            }
+        }
     }
 
     public void runDisposers( final ApplicationKey key )
@@ -1,12 +1,14 @@
 package com.enonic.xp.script.impl.util;
 
-import jdk.nashorn.api.scripting.ScriptObjectMirror;
+import java.util.function.Supplier;
 
 public interface JavascriptHelper
 {
-    ScriptObjectMirror newJsArray();
+    Object newJsArray();
 
-    ScriptObjectMirror newJsObject();
+    Object newJsObject();
 
-    ScriptObjectMirror parseJson( String text );
+    Object parseJson( String text );
+
+    void defineLazyProperty( Object object, String key, Supplier<Object> value );
 }
@@ -1,13 +1,26 @@
 package com.enonic.xp.script.impl.util;
 
+import java.util.function.Supplier;
+
 import javax.script.Bindings;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
+import javax.script.ScriptException;
 
 import jdk.nashorn.api.scripting.ScriptObjectMirror;
 
 public final class JavascriptHelperFactory
 {
+    // the value is computed when the property is first read, unless assigned before
+    private final static String DEFINE_LAZY_PROPERTY = "(function (object, key, supplier) {\n" +
+        "    var computed = false, value;\n" +
+        "    Object.defineProperty(object, key, {\n" +
+        "        get: function () { if (!computed) { value = supplier.get(); computed = true; } return value; },\n" +
+        "        set: function (newValue) { value = newValue; computed = true; },\n" +
+        "        enumerable: true, configurable: true\n" +
+        "    });\n" +
+        "})";
+
     private final ScriptEngine engine;
 
     public JavascriptHelperFactory( final ScriptEngine engine )
@@ -21,6 +34,7 @@ public final class JavascriptHelperFactory
         final ScriptObjectMirror arrayProto = (ScriptObjectMirror) bindings.get( "Array" );
         final ScriptObjectMirror objectProto = (ScriptObjectMirror) bindings.get( "Object" );
         final ScriptObjectMirror jsonProto = (ScriptObjectMirror) bindings.get( "JSON" );
+        final ScriptObjectMirror defineLazyProperty = eval( DEFINE_LAZY_PROPERTY );
 
         return new JavascriptHelper()
         {
@@ -41,6 +55,24 @@ public final class JavascriptHelperFactory
             {
                 return (ScriptObjectMirror) jsonProto.callMember( "parse", text );
             }
+
+            @Override
+            public void defineLazyProperty( final Object object, final String key, final Supplier<Object> value )
+            {
+                defineLazyProperty.call( null, object, key, value );
+            }
         };
     }
+
+    private ScriptObjectMirror eval( final String script )
+    {
+        try
+        {
+            return (ScriptObjectMirror) this.engine.eval( script );
+        }
+        catch ( final ScriptException e )
+        {
+            throw new IllegalStateException( e );
+        }
+    }
 }
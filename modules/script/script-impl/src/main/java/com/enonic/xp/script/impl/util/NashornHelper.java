@@ -14,8 +14,16 @@ public final class NashornHelper
 
     public static ScriptEngine getScriptEngine( final ClassLoader loader )
     {
-        return FACTORY.getScriptEngine( new String[]{"--optimistic-types=false", "--global-per-engine", "-strict", "--language=es6", "--no-deprecation-warning"},
-                                        loader );
+        return getScriptEngine( loader, false );
+    }
+
+    public static ScriptEngine getScriptEngine( final ClassLoader loader, final boolean persistentCodeCache )
+    {
+        final String[] options = persistentCodeCache
+            ? new String[]{"--optimistic-types=false", "--global-per-engine", "-strict", "--language=es6", "--no-deprecation-warning",
+            "--persistent-code-cache"}
+            : new String[]{"--optimistic-types=false", "--global-per-engine", "-strict", "--language=es6", "--no-deprecation-warning"};
+        return FACTORY.getScriptEngine( options, loader );
     }
 
     public static boolean isUndefined( final Object value )
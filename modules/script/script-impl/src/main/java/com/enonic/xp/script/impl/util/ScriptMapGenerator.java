@@ -1,5 +1,7 @@
 package com.enonic.xp.script.impl.util;
 
+import java.util.function.Supplier;
+
 import com.enonic.xp.script.serializer.MapGeneratorBase;
 
 final class ScriptMapGenerator
@@ -46,6 +48,12 @@ final class ScriptMapGenerator
         }
     }
 
+    @Override
+    protected void putLazyInMap( final Object map, final String key, final Supplier<Object> value )
+    {
+        this.helper.defineLazyProperty( map, key, value );
+    }
+
     @Override
     protected void addToArray( final Object array, final Object value )
     {
@@ -16,6 +16,7 @@ import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.resource.UrlResource;
 import com.enonic.xp.script.ScriptExports;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
+import com.enonic.xp.script.impl.standard.ScriptConfig;
 import com.enonic.xp.script.impl.standard.ScriptRuntimeFactoryImpl;
 import com.enonic.xp.script.runtime.ScriptRuntime;
 import com.enonic.xp.script.runtime.ScriptRuntimeFactory;
@@ -70,6 +71,7 @@ public abstract class AbstractScriptTest
 
         final ScriptAsyncService scriptAsyncService = Mockito.mock( ScriptAsyncService.class );
 
-        return new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService );
+        return new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService,
+                                             Mockito.mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) );
     }
 }
@@ -0,0 +1,83 @@
+package com.enonic.xp.script.impl.engine;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.enonic.xp.resource.BytesResource;
+import com.enonic.xp.resource.Resource;
+import com.enonic.xp.resource.ResourceKey;
+import com.enonic.xp.resource.ResourceProblemException;
+import com.enonic.xp.script.ScriptValue;
+import com.enonic.xp.script.impl.executor.ScriptExecutor;
+import com.enonic.xp.script.impl.function.ScriptFunctions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NashornJsEngineTest
+{
+    private JsEngine engine;
+
+    @BeforeEach
+    public void setup()
+    {
+        this.engine = new NashornJsEngineFactory().create( getClass().getClassLoader() );
+    }
+
+    @Test
+    public void executeModule()
+    {
+        this.engine.setGlobals( Map.of( "greeting", "Hello" ) );
+
+        final Object exports = execute( "exports.hello = function (name) { return greeting + ' ' + name; };" );
+
+        final ScriptValue value = this.engine.toScriptValue( exports );
+        assertTrue( value.hasMember( "hello" ) );
+        assertEquals( "Hello World", value.getMember( "hello" ).call( "World" ).getValue() );
+    }
+
+    @Test
+    public void executeModule_replacedExports()
+    {
+        final Object exports = execute( "module.exports = 'value';" );
+
+        assertEquals( "value", this.engine.toScriptValue( exports ).getValue() );
+    }
+
+    @Test
+    public void executeModule_error()
+    {
+        assertThrows( ResourceProblemException.class, () -> execute( "exports.hello = function ( {" ) );
+    }
+
+    @Test
+    public void parseJson()
+    {
+        final ScriptValue value = this.engine.toScriptValue( this.engine.parseJson( "{\"a\":[1,2]}" ) );
+
+        assertTrue( value.isObject() );
+        assertEquals( 2, value.getMember( "a" ).getArray().size() );
+    }
+
+    @Test
+    public void toJs()
+    {
+        final ScriptValue value = this.engine.toScriptValue( this.engine.toJs( List.of( "a", "b" ) ) );
+
+        assertTrue( value.isArray() );
+        assertEquals( List.of( "a", "b" ), value.getList() );
+    }
+
+    private Object execute( final String source )
+    {
+        final ResourceKey key = ResourceKey.from( "myapplication:/lib/test.js" );
+        final Resource resource = new BytesResource( key, source.getBytes( StandardCharsets.UTF_8 ) );
+        return this.engine.executeModule( resource, key.toString(), new ScriptFunctions( key, Mockito.mock( ScriptExecutor.class ) ) );
+    }
+}
@@ -9,11 +9,13 @@ import com.enonic.xp.app.Application;
 import com.enonic.xp.app.ApplicationInvalidationLevel;
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.app.ApplicationService;
+import com.enonic.xp.resource.ResourceKeys;
 import com.enonic.xp.resource.ResourceService;
 import com.enonic.xp.script.impl.async.ScriptAsyncService;
 import com.enonic.xp.script.runtime.ScriptSettings;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
@@ -36,7 +38,8 @@ class ScriptRuntimeFactoryImplTest
     void invalidate()
     {
         final ScriptRuntimeFactoryImpl scriptRuntimeFactory =
-            spy( new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService ) );
+            spy( new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService,
+                                               mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) ) );
 
         final ScriptRuntimeImpl scriptRuntime = mock( ScriptRuntimeImpl.class );
         when( scriptRuntimeFactory.doCreate( any() ) ).thenReturn( scriptRuntime );
@@ -52,7 +55,8 @@ class ScriptRuntimeFactoryImplTest
     void deactivate()
     {
         final ScriptRuntimeFactoryImpl scriptRuntimeFactory =
-            spy( new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService ) );
+            spy( new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService,
+                                               mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) ) );
 
         final ScriptRuntimeImpl scriptRuntime = mock( ScriptRuntimeImpl.class );
         when( scriptRuntimeFactory.doCreate( any() ) ).thenReturn( scriptRuntime );
@@ -67,4 +71,30 @@ class ScriptRuntimeFactoryImplTest
 
         verify( scriptRuntime ).runDisposers( eq( applicationKey ) );
     }
-}
\ No newline at end of file
+
+    @Test
+    void activated_warmUp()
+    {
+        final ScriptConfig config = mock( ScriptConfig.class, invocation -> invocation.getMethod().getDefaultValue() );
+        when( config.warmUp_enabled() ).thenReturn( true );
+
+        final ScriptRuntimeFactoryImpl scriptRuntimeFactory =
+            spy( new ScriptRuntimeFactoryImpl( applicationService, resourceService, scriptAsyncService, config ) );
+
+        final ScriptRuntimeImpl scriptRuntime = mock( ScriptRuntimeImpl.class );
+        when( scriptRuntimeFactory.doCreate( any() ) ).thenReturn( scriptRuntime );
+
+        scriptRuntimeFactory.create( ScriptSettings.create().build() );
+
+        final ApplicationKey applicationKey = ApplicationKey.from( "myapp" );
+        final ResourceKeys controllers = ResourceKeys.from( "myapp:/site/parts/a/a.js" );
+        when( resourceService.findFiles( eq( applicationKey ), anyString() ) ).thenReturn( controllers );
+
+        final Application application = mock( Application.class );
+        when( application.getKey() ).thenReturn( applicationKey );
+        scriptRuntimeFactory.activated( application );
+        scriptRuntimeFactory.deactivate();
+
+        verify( scriptRuntime ).warmUp( eq( applicationKey ), eq( controllers ) );
+    }
+}
@@ -10,8 +10,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.enonic.xp.app.ApplicationKey;
 import com.enonic.xp.resource.ResourceKey;
+import com.enonic.xp.resource.ResourceKeys;
 import com.enonic.xp.script.impl.executor.ScriptExecutor;
 
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -85,4 +87,20 @@ class ScriptRuntimeImplTest
 
         verify( scriptExecutor, Mockito.never() ).runDisposers();
     }
-}
\ No newline at end of file
+
+    @Test
+    void warmUp()
+    {
+        final ApplicationKey applicationKey = ApplicationKey.from( "myApp" );
+        when( scriptExecutorFactory.apply( applicationKey ) ).thenReturn( scriptExecutor );
+
+        final ResourceKey failing = ResourceKey.from( applicationKey, "/site/parts/a/a.js" );
+        final ResourceKey controller = ResourceKey.from( applicationKey, "/site/parts/b/b.js" );
+        doThrow( new RuntimeException( "failed" ) ).when( scriptExecutor ).executeRequire( failing );
+
+        final ScriptRuntimeImpl scriptRuntime = new ScriptRuntimeImpl( scriptExecutorFactory );
+        scriptRuntime.warmUp( applicationKey, ResourceKeys.from( failing, controller ) );
+
+        verify( scriptExecutor, Mockito.times( 1 ) ).executeRequire( controller );
+    }
+}
@@ -0,0 +1,69 @@
+package com.enonic.xp.script.impl.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.ScriptEngine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+import com.enonic.xp.script.serializer.MapSerializable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JsObjectConverterTest
+{
+    private ScriptEngine engine;
+
+    private JsObjectConverter converter;
+
+    @BeforeEach
+    public void setup()
+    {
+        this.engine = NashornHelper.getScriptEngine( getClass().getClassLoader() );
+        this.converter = new JsObjectConverter( new JavascriptHelperFactory( this.engine ).create() );
+    }
+
+    @Test
+    public void lazyValue()
+        throws Exception
+    {
+        final AtomicInteger reads = new AtomicInteger();
+        final MapSerializable value = gen -> {
+            gen.value( "name", "value" );
+            gen.lazyValue( "map", () -> {
+                reads.incrementAndGet();
+                return ImmutableMap.of( "a", 1, "b", "2" );
+            } );
+        };
+
+        this.engine.put( "obj", this.converter.toJs( value ) );
+        assertEquals( 0, reads.get() );
+
+        assertEquals( "name,map", this.engine.eval( "Object.keys(obj).join()" ) );
+        assertEquals( true, this.engine.eval( "obj.hasOwnProperty('map')" ) );
+        assertEquals( 0, reads.get() );
+
+        assertEquals( 1, this.engine.eval( "obj.map.a" ) );
+        assertEquals( "{\"name\":\"value\",\"map\":{\"a\":1,\"b\":\"2\"}}", this.engine.eval( "JSON.stringify(obj)" ) );
+        assertEquals( 1, reads.get() );
+    }
+
+    @Test
+    public void lazyValue_assigned()
+        throws Exception
+    {
+        final AtomicInteger reads = new AtomicInteger();
+        final MapSerializable value = gen -> gen.lazyValue( "body", () -> {
+            reads.incrementAndGet();
+            return "body";
+        } );
+
+        this.engine.put( "obj", this.converter.toJs( value ) );
+
+        assertEquals( "changed", this.engine.eval( "obj.body = 'changed'; obj.body" ) );
+        assertEquals( 0, reads.get() );
+    }
+}
@@ -1,5 +1,7 @@
 package com.enonic.xp.web.impl.exception;
 
+import java.util.concurrent.RejectedExecutionException;
+
 import org.osgi.service.component.annotations.Component;
 
 import com.enonic.xp.exception.NotFoundException;
@@ -25,6 +27,11 @@ public final class ExceptionMapperImpl
             return new WebException( HttpStatus.NOT_FOUND, cause );
         }
 
+        if ( cause instanceof RejectedExecutionException )
+        {
+            return new WebException( HttpStatus.SERVICE_UNAVAILABLE, cause );
+        }
+
         if ( cause instanceof IllegalArgumentException )
         {
             return new WebException( HttpStatus.BAD_REQUEST, cause );
@@ -0,0 +1,123 @@
+package com.enonic.xp.web.impl.serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import com.enonic.xp.resource.Resource;
+import com.enonic.xp.resource.ResourceKey;
+
+/**
+ * Keeps the bodies of small, frequently served resources in direct buffers. Entries are keyed on resource timestamp and size
+ * as well, so a changed resource is read again instead of served from the cache.
+ */
+final class ResourceBodyCache
+{
+    private final Cache<Key, ByteBuffer> buffers;
+
+    private final long maxEntrySize;
+
+    ResourceBodyCache( final long maxSize, final long maxEntrySize )
+    {
+        this.buffers = CacheBuilder.newBuilder().
+            maximumWeight( maxSize ).
+            weigher( ( Key key, ByteBuffer buffer ) -> buffer.capacity() ).
+            build();
+        this.maxEntrySize = Math.min( maxEntrySize, maxSize );
+    }
+
+    /**
+     * Returns a read-only view of the cached body, or null if the resource is not cacheable.
+     */
+    ByteBuffer get( final Resource resource, final long size )
+        throws IOException
+    {
+        if ( size < 0 || size > this.maxEntrySize )
+        {
+            return null;
+        }
+
+        final long timestamp = resource.getTimestamp();
+        if ( timestamp <= 0 )
+        {
+            return null;
+        }
+
+        try
+        {
+            return this.buffers.get( new Key( resource.getKey(), timestamp, size ), () -> load( resource, size ) ).
+                asReadOnlyBuffer();
+        }
+        catch ( ExecutionException e )
+        {
+            if ( e.getCause() instanceof IOException )
+            {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException( e.getCause() );
+        }
+    }
+
+    private ByteBuffer load( final Resource resource, final long size )
+        throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect( (int) size );
+        final byte[] chunk = new byte[8192];
+        try (InputStream in = resource.openStream())
+        {
+            int read;
+            while ( buffer.hasRemaining() && ( read = in.read( chunk, 0, Math.min( chunk.length, buffer.remaining() ) ) ) != -1 )
+            {
+                buffer.put( chunk, 0, read );
+            }
+        }
+
+        if ( buffer.hasRemaining() )
+        {
+            throw new IOException( "Resource [" + resource.getKey() + "] is shorter than its size " + size );
+        }
+        return buffer.flip();
+    }
+
+    private static final class Key
+    {
+        private final ResourceKey resourceKey;
+
+        private final long timestamp;
+
+        private final long size;
+
+        Key( final ResourceKey resourceKey, final long timestamp, final long size )
+        {
+            this.resourceKey = resourceKey;
+            this.timestamp = timestamp;
+            this.size = size;
+        }
+
+        @Override
+        public boolean equals( final Object o )
+        {
+            if ( this == o )
+            {
+                return true;
+            }
+            if ( o == null || getClass() != o.getClass() )
+            {
+                return false;
+            }
+            final Key key = (Key) o;
+            return timestamp == key.timestamp && size == key.size && resourceKey.equals( key.resourceKey );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash( resourceKey, timestamp, size );
+        }
+    }
+}
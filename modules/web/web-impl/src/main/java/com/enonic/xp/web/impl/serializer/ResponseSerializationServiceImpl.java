@@ -4,21 +4,33 @@ import java.io.IOException;
 
 import javax.servlet.http.HttpServletResponse;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 
+import com.enonic.xp.util.ByteSizeParser;
+
 import com.enonic.xp.web.WebRequest;
 import com.enonic.xp.web.WebResponse;
 import com.enonic.xp.web.serializer.ResponseSerializationService;
 
-@Component
+@Component(configurationPid = "com.enonic.xp.web.serializer")
 public final class ResponseSerializationServiceImpl
     implements ResponseSerializationService
 {
+    private final ResourceBodyCache resourceBodyCache;
+
+    @Activate
+    public ResponseSerializationServiceImpl( final ResponseSerializerConfig config )
+    {
+        this.resourceBodyCache = new ResourceBodyCache( ByteSizeParser.parse( config.resourceCache_maxSize() ),
+                                                        ByteSizeParser.parse( config.resourceCache_maxEntrySize() ) );
+    }
+
     @Override
     public void serialize( final WebRequest webRequest, final WebResponse webResponse, final HttpServletResponse response )
         throws IOException
     {
-        final ResponseSerializer responseSerializer = new ResponseSerializer( webRequest, webResponse );
+        final ResponseSerializer responseSerializer = new ResponseSerializer( webRequest, webResponse, this.resourceBodyCache );
         responseSerializer.serialize( response );
     }
 }
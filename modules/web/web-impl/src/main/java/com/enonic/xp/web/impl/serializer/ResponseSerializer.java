@@ -1,18 +1,25 @@
 package com.enonic.xp.web.impl.serializer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletResponse;
 
+import org.eclipse.jetty.server.HttpOutput;
+
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableList;
 import com.google.common.io.ByteSource;
 
 import com.enonic.xp.resource.Resource;
+import com.enonic.xp.util.FileChannelByteSource;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.WebRequest;
 import com.enonic.xp.web.WebResponse;
@@ -25,10 +32,18 @@ public final class ResponseSerializer
 
     private final WebResponse webResponse;
 
+    private final ResourceBodyCache resourceBodyCache;
+
     public ResponseSerializer( final WebRequest webRequest, final WebResponse webResponse )
+    {
+        this( webRequest, webResponse, null );
+    }
+
+    ResponseSerializer( final WebRequest webRequest, final WebResponse webResponse, final ResourceBodyCache resourceBodyCache )
     {
         this.webRequest = webRequest;
         this.webResponse = webResponse;
+        this.resourceBodyCache = resourceBodyCache;
     }
 
     public void serialize( final HttpServletResponse response )
@@ -137,16 +152,69 @@ public final class ResponseSerializer
     {
         response.setContentLengthLong( data.size() );
 
-        if ( !isHeadRequest() )
+        if ( isHeadRequest() )
+        {
+            return;
+        }
+
+        final ServletOutputStream output = response.getOutputStream();
+        if ( data instanceof FileChannelByteSource && output instanceof HttpOutput )
+        {
+            try (ReadableByteChannel channel = ( (FileChannelByteSource) data ).openChannel())
+            {
+                ( (HttpOutput) output ).sendContent( channel );
+            }
+        }
+        else
+        {
+            data.copyTo( output );
+        }
+    }
+
+    private void writeToStream( final HttpServletResponse response, final ByteBuffer data )
+        throws IOException
+    {
+        response.setContentLength( data.remaining() );
+
+        if ( isHeadRequest() )
+        {
+            return;
+        }
+
+        final ServletOutputStream output = response.getOutputStream();
+        if ( output instanceof HttpOutput )
         {
-            data.copyTo( response.getOutputStream() );
+            ( (HttpOutput) output ).sendContent( data );
+        }
+        else
+        {
+            Channels.newChannel( output ).write( data );
         }
     }
 
     private void serializeBody( final HttpServletResponse response, final Resource body )
         throws IOException
     {
-        writeToStream( response, body.readBytes() );
+        final long size = body.getSize();
+        if ( size >= 0 )
+        {
+            response.setContentLengthLong( size );
+        }
+
+        if ( isHeadRequest() )
+        {
+            return;
+        }
+
+        final ByteBuffer cached = this.resourceBodyCache != null ? this.resourceBodyCache.get( body, size ) : null;
+        if ( cached != null )
+        {
+            writeToStream( response, cached );
+        }
+        else
+        {
+            body.getBytes().copyTo( response.getOutputStream() );
+        }
     }
 
     private void serializeHeaders( final HttpServletResponse response, final Map<String, String> headers )
@@ -0,0 +1,14 @@
+package com.enonic.xp.web.impl.serializer;
+
+public @interface ResponseSerializerConfig
+{
+    /**
+     * Maximum total size of resource bodies kept in memory.
+     */
+    String resourceCache_maxSize() default "20mb";
+
+    /**
+     * Resources larger than this are always streamed from their source.
+     */
+    String resourceCache_maxEntrySize() default "1mb";
+}
@@ -2,19 +2,25 @@ package com.enonic.xp.web.impl.handler;
 
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 import com.enonic.xp.portal.impl.exception.ExceptionRendererImpl;
+import com.enonic.xp.util.FileChannelByteSource;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.HttpStatus;
 import com.enonic.xp.web.WebResponse;
 import com.enonic.xp.web.impl.exception.ExceptionMapperImpl;
 import com.enonic.xp.web.impl.serializer.ResponseSerializationServiceImpl;
+import com.enonic.xp.web.impl.serializer.ResponseSerializerConfig;
 import com.enonic.xp.web.jetty.impl.JettyTestSupport;
 import com.enonic.xp.web.websocket.WebSocketContextFactory;
 
@@ -27,6 +33,9 @@ public class WebDispatcherServletTest
 
     private TestWebHandler handler;
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Override
     protected void configure()
         throws Exception
@@ -38,7 +47,8 @@ public class WebDispatcherServletTest
         this.servlet.setExceptionMapper( new ExceptionMapperImpl() );
         this.servlet.setExceptionRenderer( new ExceptionRendererImpl() );
         this.servlet.setWebSocketContextFactory( Mockito.mock( WebSocketContextFactory.class ) );
-        this.servlet.setResponseSerializationService( new ResponseSerializationServiceImpl() );
+        this.servlet.setResponseSerializationService( new ResponseSerializationServiceImpl(
+            Mockito.mock( ResponseSerializerConfig.class, invocation -> invocation.getMethod().getDefaultValue() ) ) );
 
         this.handler.response = WebResponse.create().
             status( HttpStatus.OK ).
@@ -78,6 +88,29 @@ public class WebDispatcherServletTest
         assertEquals( List.of( "11" ), response.headers().allValues( "content-length" ) );
     }
 
+    @Test
+    public void testFileChannelBody()
+        throws Exception
+    {
+        final Path file = Files.writeString( this.temporaryFolder.resolve( "body.txt" ), "Hello World", StandardCharsets.UTF_8 );
+
+        this.handler.response = WebResponse.create().
+            status( HttpStatus.OK ).
+            contentType( com.google.common.net.MediaType.create( "text", "plain" ) ).
+            body( FileChannelByteSource.from( file ).slice( 6, 5 ) ).
+            build();
+
+        final HttpRequest request = newRequest( "/site/master/a/b" ).
+            GET().
+            build();
+
+        final HttpResponse response = callRequest( request );
+
+        assertEquals( 200, response.statusCode() );
+        assertEquals( "World", response.body().toString() );
+        assertEquals( List.of( "5" ), response.headers().allValues( "content-length" ) );
+    }
+
     @Test
     public void testResponseHeaders()
         throws Exception
@@ -1,20 +1,25 @@
 package com.enonic.xp.web.impl.serializer;
 
+import java.io.ByteArrayInputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
 import javax.servlet.http.Cookie;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import com.google.common.io.Resources;
 import com.google.common.net.MediaType;
 
+import com.enonic.xp.resource.Resource;
 import com.enonic.xp.resource.ResourceKey;
 import com.enonic.xp.resource.UrlResource;
+import com.enonic.xp.util.FileChannelByteSource;
 import com.enonic.xp.web.HttpMethod;
 import com.enonic.xp.web.HttpStatus;
 import com.enonic.xp.web.WebRequest;
@@ -97,6 +102,28 @@ public class ResponseSerializerTest
         assertArrayEquals( "String body".getBytes( StandardCharsets.UTF_8 ), httpResponse.getContentAsByteArray() );
     }
 
+    @Test
+    public void serializeBodyFileChannelByteSource()
+        throws Exception
+    {
+        final WebRequest req = new WebRequest();
+        req.setMethod( HttpMethod.GET );
+        final WebResponse resp = WebResponse.create().
+            status( HttpStatus.PARTIAL_CONTENT ).
+            contentType( MediaType.PLAIN_TEXT_UTF_8 ).
+            body( FileChannelByteSource.from( Path.of( ResponseSerializerTest.class.getResource( "body_file.txt" ).toURI() ) ).
+                slice( 7, 4 ) ).
+            build();
+        final ResponseSerializer serializer = new ResponseSerializer( req, resp );
+
+        final MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+        serializer.serialize( httpResponse );
+
+        assertEquals( 206, httpResponse.getStatus() );
+        assertEquals( 4, httpResponse.getContentLength() );
+        assertEquals( "body", httpResponse.getContentAsString() );
+    }
+
     @Test
     public void serializeBodyResource()
         throws Exception
@@ -121,9 +148,42 @@ public class ResponseSerializerTest
         assertEquals( 202, httpResponse.getStatus() );
         assertEquals( "header-value", httpResponse.getHeader( "header-test" ) );
         assertEquals( "text/plain; charset=utf-8", httpResponse.getContentType() );
+        assertEquals( 11, httpResponse.getContentLength() );
         assertArrayEquals( "String body".getBytes( StandardCharsets.UTF_8 ), httpResponse.getContentAsByteArray() );
     }
 
+    @Test
+    public void serializeBodyResourceCached()
+        throws Exception
+    {
+        final byte[] bytes = "String body".getBytes( StandardCharsets.UTF_8 );
+        final Resource resource = Mockito.mock( Resource.class );
+        Mockito.when( resource.getKey() ).thenReturn( ResourceKey.from( "myapp:/assets/body_file.txt" ) );
+        Mockito.when( resource.getSize() ).thenReturn( (long) bytes.length );
+        Mockito.when( resource.getTimestamp() ).thenReturn( 1000L );
+        Mockito.when( resource.openStream() ).thenAnswer( invocation -> new ByteArrayInputStream( bytes ) );
+
+        final WebRequest req = new WebRequest();
+        req.setMethod( HttpMethod.GET );
+        final WebResponse resp = WebResponse.create().
+            contentType( MediaType.PLAIN_TEXT_UTF_8 ).
+            body( resource ).
+            build();
+        final ResourceBodyCache cache = new ResourceBodyCache( 1024, 1024 );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            final MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+            new ResponseSerializer( req, resp, cache ).serialize( httpResponse );
+
+            assertEquals( bytes.length, httpResponse.getContentLength() );
+            assertArrayEquals( bytes, httpResponse.getContentAsByteArray() );
+        }
+
+        Mockito.verify( resource, Mockito.times( 1 ) ).openStream();
+        Mockito.verify( resource, Mockito.never() ).readBytes();
+    }
+
     @Test
     public void serializeBodyJsonMap()
         throws Exception
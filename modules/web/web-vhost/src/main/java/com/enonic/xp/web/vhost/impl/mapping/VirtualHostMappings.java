@@ -1,6 +1,9 @@
 package com.enonic.xp.web.vhost.impl.mapping;
 
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -11,27 +14,44 @@ public final class VirtualHostMappings
 {
     private final Set<VirtualHostMapping> set;
 
+    /**
+     * Mappings by lower case host and source path. Where several mappings share both, only the first in iteration order is kept,
+     * as it is the one a linear scan over the set would resolve to.
+     */
+    private final Map<String, Map<String, VirtualHostMapping>> index;
+
     public VirtualHostMappings()
     {
         this.set = new TreeSet<>();
+        this.index = new HashMap<>();
     }
 
     public void add( final VirtualHostMapping mapping )
     {
-        this.set.add( mapping );
+        if ( this.set.add( mapping ) )
+        {
+            this.index.computeIfAbsent( normalizeHost( mapping.getHost() ), host -> new HashMap<>() ).
+                merge( mapping.getSource(), mapping, ( existing, added ) -> existing.compareTo( added ) <= 0 ? existing : added );
+        }
     }
 
     public VirtualHostMapping resolve( final HttpServletRequest req )
     {
-        for ( final VirtualHostMapping entry : this.set )
+        final String serverName = req.getServerName();
+        final Map<String, VirtualHostMapping> bySource = serverName != null ? this.index.get( normalizeHost( serverName ) ) : null;
+        if ( bySource == null )
         {
-            if ( entry.matches( req ) )
-            {
-                return entry;
-            }
+            return null;
         }
 
-        return null;
+        // a source matches when it is the whole request path or a prefix of it ending right before a '/', "/" matches all paths
+        final String path = req.getRequestURI() != null ? req.getRequestURI() : "";
+        VirtualHostMapping result = bySource.get( "/" );
+        for ( int i = path.indexOf( '/', 1 ); i != -1; i = path.indexOf( '/', i + 1 ) )
+        {
+            result = first( result, bySource.get( path.substring( 0, i ) ) );
+        }
+        return first( result, bySource.get( path ) );
     }
 
     @Override
@@ -39,4 +59,18 @@ public final class VirtualHostMappings
     {
         return this.set.iterator();
     }
+
+    private static VirtualHostMapping first( final VirtualHostMapping current, final VirtualHostMapping candidate )
+    {
+        if ( current == null )
+        {
+            return candidate;
+        }
+        return candidate != null && candidate.compareTo( current ) < 0 ? candidate : current;
+    }
+
+    private static String normalizeHost( final String host )
+    {
+        return host.toLowerCase( Locale.ROOT );
+    }
 }
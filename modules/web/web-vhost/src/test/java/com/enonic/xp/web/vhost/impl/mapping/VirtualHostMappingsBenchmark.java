@@ -0,0 +1,88 @@
+package com.enonic.xp.web.vhost.impl.mapping;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+/**
+ * Compares indexed resolution with a linear scan over the mappings. Not run as part of the build, start it from the IDE.
+ */
+public final class VirtualHostMappingsBenchmark
+{
+    private static final int ITERATIONS = 200_000;
+
+    public static void main( final String... args )
+    {
+        for ( int size : new int[]{10, 100, 1000, 10000} )
+        {
+            final VirtualHostMappings mappings = createMappings( size );
+            final MockHttpServletRequest[] requests = createRequests( size );
+
+            // warm up both variants before measuring
+            run( mappings, requests, true );
+            run( mappings, requests, false );
+
+            final long indexed = run( mappings, requests, true );
+            final long scanned = run( mappings, requests, false );
+            System.out.printf( "%6d mappings: indexed %8.1f ns/op, scan %10.1f ns/op%n", size, (double) indexed / ITERATIONS,
+                               (double) scanned / ITERATIONS );
+        }
+    }
+
+    private static long run( final VirtualHostMappings mappings, final MockHttpServletRequest[] requests, final boolean indexed )
+    {
+        int found = 0;
+        final long start = System.nanoTime();
+        for ( int i = 0; i < ITERATIONS; i++ )
+        {
+            final MockHttpServletRequest req = requests[i % requests.length];
+            if ( ( indexed ? mappings.resolve( req ) : scan( mappings, req ) ) != null )
+            {
+                found++;
+            }
+        }
+        final long time = System.nanoTime() - start;
+        if ( found != ITERATIONS )
+        {
+            throw new AssertionError( "Unresolved requests: " + ( ITERATIONS - found ) );
+        }
+        return time;
+    }
+
+    private static VirtualHostMapping scan( final VirtualHostMappings mappings, final MockHttpServletRequest req )
+    {
+        for ( VirtualHostMapping mapping : mappings )
+        {
+            if ( mapping.matches( req ) )
+            {
+                return mapping;
+            }
+        }
+        return null;
+    }
+
+    private static VirtualHostMappings createMappings( final int size )
+    {
+        final VirtualHostMappings mappings = new VirtualHostMappings();
+        for ( int i = 0; i < size; i++ )
+        {
+            final VirtualHostMapping mapping = new VirtualHostMapping( "mapping" + i );
+            mapping.setHost( "host" + ( i / 3 ) + ".enonic.com" );
+            mapping.setSource( i % 3 == 0 ? "/" : "/section" + ( i % 3 ) );
+            mapping.setTarget( "/site/default/master/site" + i );
+            mappings.add( mapping );
+        }
+        return mappings;
+    }
+
+    private static MockHttpServletRequest[] createRequests( final int size )
+    {
+        final MockHttpServletRequest[] requests = new MockHttpServletRequest[Math.min( size, 1000 )];
+        for ( int i = 0; i < requests.length; i++ )
+        {
+            final int mapping = ( i * 7919 ) % size;
+            final MockHttpServletRequest req = new MockHttpServletRequest( "GET", "/section" + ( mapping % 3 ) + "/page/sub" );
+            req.setServerName( "host" + ( mapping / 3 ) + ".enonic.com" );
+            requests[i] = req;
+        }
+        return requests;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class VirtualHostMappingsTest
 {
@@ -62,6 +63,54 @@ public class VirtualHostMappingsTest
         assertNull( mapping );
     }
 
+    @Test
+    public void testResolve_longestSource()
+    {
+        addMapping( "a", "enonic.com", "/", "/other/a" );
+        addMapping( "b", "enonic.com", "/b", "/other/b" );
+        addMapping( "c", "enonic.com", "/b/c", "/other/c" );
+
+        assertEquals( "c", resolve( "Enonic.com", "/b/c" ).getName() );
+        assertEquals( "c", resolve( "enonic.com", "/b/c/d" ).getName() );
+        assertEquals( "b", resolve( "enonic.com", "/b/cd" ).getName() );
+        assertEquals( "b", resolve( "enonic.com", "/b/" ).getName() );
+        assertEquals( "a", resolve( "enonic.com", "/bc" ).getName() );
+        assertEquals( "a", resolve( "enonic.com", "" ).getName() );
+    }
+
+    @Test
+    public void testResolve_sameAsScan()
+    {
+        addMapping( "a", "enonic.com", "/a", "/other/a" );
+        addMapping( "b", "Enonic.com", "/a", "/other/b" );
+        addMapping( "c", "ENONIC.com", "/a/b", "/other/c" );
+        addMapping( "d", "enonic.com", "/a/b/c", "/other/d" );
+
+        for ( String path : new String[]{"/a", "/a/b", "/a/b/c", "/a//b", "/a/b/c/", "/x"} )
+        {
+            final MockHttpServletRequest req = new MockHttpServletRequest( "GET", path );
+            req.setServerName( "enonic.com" );
+
+            VirtualHostMapping expected = null;
+            for ( VirtualHostMapping mapping : this.mappings )
+            {
+                if ( mapping.matches( req ) )
+                {
+                    expected = mapping;
+                    break;
+                }
+            }
+            assertSame( expected, this.mappings.resolve( req ), path );
+        }
+    }
+
+    private VirtualHostMapping resolve( final String host, final String path )
+    {
+        final MockHttpServletRequest req = new MockHttpServletRequest( "GET", path );
+        req.setServerName( host );
+        return this.mappings.resolve( req );
+    }
+
     private void addMapping( final String name, final String host, final String source, final String target )
     {
         final VirtualHostMapping mapping = new VirtualHostMapping( name );